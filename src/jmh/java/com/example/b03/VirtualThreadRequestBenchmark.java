@@ -0,0 +1,63 @@
+package com.example.b03;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 블로킹 요청 처리: Tomcat 기본 플랫폼 스레드 풀(200개) vs 가상 스레드 (spring.threads.virtual.enabled=true)
+// 요청 하나 = DB 커넥션 풀(Semaphore) 획득 + 느린 쿼리(sleep). 클라이언트 1000명이 동시에 요청을 보냄
+// Throughput(ops/s)과 SampleTime(p0.99 포함) 두 모드를 같이 측정합니다.
+// 커넥션 풀이 작으면(dbConnections=10) 두 방식 모두 풀에서 막히므로 차이가 거의 없고,
+// 요청 스레드가 병목일 때(dbConnections=1000, 외부 API 대기 등)만 가상 스레드 쪽 처리량/p99가 좋아집니다.
+// 실행: ./gradlew jmh -PjmhIncludes=VirtualThreadRequestBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(1000)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class VirtualThreadRequestBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"10", "1000"})
+    private int dbConnections;
+
+    @Param({"20"})
+    private int queryMillis;
+
+    private ExecutorService requestExecutor;
+    private Semaphore connectionPool;
+
+    @Setup
+    public void setUp() {
+        requestExecutor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(200); // server.tomcat.threads.max 기본값
+        connectionPool = new Semaphore(dbConnections, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int handleRequest() throws Exception {
+        return requestExecutor.submit(this::blockingRequest).get();
+    }
+
+    private int blockingRequest() throws InterruptedException {
+        connectionPool.acquire();
+        try {
+            Thread.sleep(queryMillis); // 느린 DB 쿼리 흉내
+            return 1;
+        } finally {
+            connectionPool.release();
+        }
+    }
+}
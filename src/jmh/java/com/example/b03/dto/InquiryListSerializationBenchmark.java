@@ -0,0 +1,50 @@
+package com.example.b03.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GET /api/inquiries 응답(InquiryPageResponseDTO<InquiryListDTO>) Jackson 직렬화 비용
+// ObjectMapper 설정은 스프링 부트 기본값(JavaTimeModule, 날짜를 문자열로)과 맞춤
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InquiryListSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private InquiryPageResponseDTO<InquiryListDTO> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<InquiryListDTO> dtoList = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            dtoList.add(new InquiryListDTO(10_000 - i, "배송 관련 문의드립니다 " + i, 1000 + i, now, now, i % 3, i % 3 > 0));
+        }
+        response = InquiryPageResponseDTO.<InquiryListDTO>withAll()
+                .dtoList(dtoList)
+                .totalCount(10_000)
+                .page(1)
+                .size(size)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeInquiryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
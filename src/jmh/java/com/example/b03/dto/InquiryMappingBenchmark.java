@@ -0,0 +1,92 @@
+package com.example.b03.dto;
+
+import com.example.b03.config.RootConfig;
+import com.example.b03.domain.Inquiry;
+import com.example.b03.domain.InquiryComment;
+import com.example.b03.domain.Member;
+import com.example.b03.domain.MembershipType;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 → DTO 변환 비용 비교: RootConfig의 ModelMapper(LOOSE, 리플렉션) vs 정적 fromEntity 메서드
+// 실행: ./gradlew jmh -PjmhIncludes=InquiryMappingBenchmark  (gc 프로파일러의 gc.alloc.rate.norm = 변환 1번당 할당 바이트)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InquiryMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private Inquiry inquiry;
+    private InquiryComment comment;
+    private Member member;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new RootConfig().modelMapper();
+
+        member = Member.builder()
+                .memberNo(1)
+                .loginId("benchmark_user")
+                .password("password!")
+                .name("벤치마크회원")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .address("서울시 강남구 테헤란로 123")
+                .phone("010-1234-5678")
+                .membershipType(MembershipType.builder().typeId((byte) 3).typeName("개인회원").build())
+                .build();
+
+        inquiry = Inquiry.builder()
+                .inquiryId(100)
+                .title("배송 문의드립니다")
+                .content("주문한 상품이 아직 도착하지 않았습니다. 확인 부탁드립니다.")
+                .member(member)
+                .commentCount(2)
+                .answered(true)
+                .build();
+
+        comment = InquiryComment.builder()
+                .commentId(1000)
+                .inquiry(inquiry)
+                .admin(member)
+                .content("확인 후 다시 안내드리겠습니다.")
+                .build();
+
+        // 첫 매핑 때 만들어지는 TypeMap 생성 비용은 측정에서 제외
+        modelMapper.map(inquiry, InquiryListDTO.class);
+        modelMapper.map(comment, InquiryCommentResponseDTO.class);
+        modelMapper.map(member, MemberDTO.class);
+    }
+
+    @Benchmark
+    public InquiryListDTO inquiry_modelMapper() {
+        return modelMapper.map(inquiry, InquiryListDTO.class);
+    }
+
+    @Benchmark
+    public InquiryListDTO inquiry_fromEntity() {
+        return InquiryListDTO.fromEntity(inquiry);
+    }
+
+    @Benchmark
+    public InquiryCommentResponseDTO comment_modelMapper() {
+        return modelMapper.map(comment, InquiryCommentResponseDTO.class);
+    }
+
+    @Benchmark
+    public InquiryCommentResponseDTO comment_fromEntity() {
+        return InquiryCommentResponseDTO.fromEntity(comment);
+    }
+
+    @Benchmark
+    public MemberDTO member_modelMapper() {
+        return modelMapper.map(member, MemberDTO.class);
+    }
+
+    @Benchmark
+    public MemberDTO member_fromEntity() {
+        return MemberDTO.fromEntity(member);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.b03.dto;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 응답 DTO(InquiryPageResponseDTO / PageResponseDTO) 생성 비용 - 페이지 번호 계산 포함
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PageResponseBenchmark {
+
+    @Param({"1", "537"})
+    private int page;
+
+    private List<InquiryListDTO> dtoList;
+    private PageRequestDTO pageRequestDTO;
+
+    @Setup
+    public void setUp() {
+        dtoList = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            dtoList.add(new InquiryListDTO(i, "문의 제목 " + i, 1, LocalDateTime.now(), LocalDateTime.now(), i % 2, i % 2 == 1));
+        }
+        pageRequestDTO = PageRequestDTO.builder().page(page).size(10).build();
+    }
+
+    @Benchmark
+    public InquiryPageResponseDTO<InquiryListDTO> inquiryPageResponse() {
+        return InquiryPageResponseDTO.<InquiryListDTO>withAll()
+                .dtoList(dtoList)
+                .totalCount(53_712)
+                .page(page)
+                .size(10)
+                .build();
+    }
+
+    @Benchmark
+    public PageResponseDTO<InquiryListDTO> pageResponse() {
+        return PageResponseDTO.<InquiryListDTO>withAll()
+                .pageRequestDTO(pageRequestDTO)
+                .dtoList(dtoList)
+                .total(53_712)
+                .build();
+    }
+}
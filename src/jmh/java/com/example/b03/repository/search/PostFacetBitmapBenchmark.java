@@ -0,0 +1,121 @@
+package com.example.b03.repository.search;
+
+import org.openjdk.jmh.annotations.*;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// facet 비트맵 표현 비교: RoaringBitmap(PostSearchIndex) vs 압축 없는 java.util.BitSet
+// 공고 id 100만 개, 직무 카테고리 40개(공고당 2개), 지역 17곳(쏠림 있음) → 카테고리 2개 OR + 지역 AND + 제외 카테고리 ANDNOT 후 개수
+// 메모리: 설정 단계에서 두 표현의 전체 크기를 출력 (BitSet은 가장 큰 id까지 long[] 전체를 차지)
+// 실행: ./gradlew jmh -PjmhIncludes=PostFacetBitmapBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PostFacetBitmapBenchmark {
+
+    private static final int CATEGORIES = 40;
+    private static final int REGIONS = 17;
+
+    @Param({"1000000"})
+    private int posts;
+
+    // 1: id가 연속 (대량 등록), 50: 시퀀스 allocationSize만큼 띄엄띄엄
+    @Param({"1", "50"})
+    private int idStride;
+
+    private RoaringBitmap[] roaringCategories;
+    private RoaringBitmap[] roaringRegions;
+    private BitSet[] bitSetCategories;
+    private BitSet[] bitSetRegions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        roaringCategories = new RoaringBitmap[CATEGORIES];
+        bitSetCategories = new BitSet[CATEGORIES];
+        for (int i = 0; i < CATEGORIES; i++) {
+            roaringCategories[i] = new RoaringBitmap();
+            bitSetCategories[i] = new BitSet();
+        }
+        roaringRegions = new RoaringBitmap[REGIONS];
+        bitSetRegions = new BitSet[REGIONS];
+        for (int i = 0; i < REGIONS; i++) {
+            roaringRegions[i] = new RoaringBitmap();
+            bitSetRegions[i] = new BitSet();
+        }
+
+        for (int n = 1; n <= posts; n++) {
+            int postId = n * idStride;
+            for (int c = 0; c < 2; c++) {
+                int category = random.nextInt(CATEGORIES);
+                roaringCategories[category].add(postId);
+                bitSetCategories[category].set(postId);
+            }
+            // 수도권에 절반 가까이 몰림
+            int region = random.nextInt(3) == 0 ? random.nextInt(3) : random.nextInt(REGIONS);
+            roaringRegions[region].add(postId);
+            bitSetRegions[region].set(postId);
+        }
+
+        long roaringBytes = 0;
+        long bitSetBytes = 0;
+        for (RoaringBitmap bitmap : roaringCategories) {
+            bitmap.runOptimize();
+            roaringBytes += bitmap.getLongSizeInBytes();
+        }
+        for (RoaringBitmap bitmap : roaringRegions) {
+            bitmap.runOptimize();
+            roaringBytes += bitmap.getLongSizeInBytes();
+        }
+        for (BitSet bitSet : bitSetCategories) {
+            bitSetBytes += bitSet.size() / 8;
+        }
+        for (BitSet bitSet : bitSetRegions) {
+            bitSetBytes += bitSet.size() / 8;
+        }
+        System.out.println("facet 비트맵 " + (CATEGORIES + REGIONS) + "개 (공고 " + posts + "건, id 간격 " + idStride + "): Roaring "
+                + (roaringBytes >> 10) + "KB, BitSet " + (bitSetBytes >> 10) + "KB");
+    }
+
+    @Benchmark
+    public int roaring() {
+        RoaringBitmap matches = RoaringBitmap.or(roaringCategories[1], roaringCategories[2]);
+        matches.and(roaringRegions[0]);
+        matches.andNot(roaringCategories[3]);
+        return matches.getCardinality();
+    }
+
+    @Benchmark
+    public int bitSet() {
+        BitSet matches = (BitSet) bitSetCategories[1].clone();
+        matches.or(bitSetCategories[2]);
+        matches.and(bitSetRegions[0]);
+        matches.andNot(bitSetCategories[3]);
+        return matches.cardinality();
+    }
+
+    // facet 개수: 현재 결과와 카테고리 40개 각각의 교집합 개수
+    @Benchmark
+    public int roaringFacetCounts() {
+        int total = 0;
+        for (RoaringBitmap category : roaringCategories) {
+            total += RoaringBitmap.andCardinality(roaringRegions[0], category);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int bitSetFacetCounts() {
+        int total = 0;
+        for (BitSet category : bitSetCategories) {
+            BitSet matches = (BitSet) bitSetRegions[0].clone();
+            matches.and(category);
+            total += matches.cardinality();
+        }
+        return total;
+    }
+}
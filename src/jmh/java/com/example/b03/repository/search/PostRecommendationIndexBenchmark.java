@@ -0,0 +1,83 @@
+package com.example.b03.repository.search;
+
+import com.example.b03.dto.PostSummaryDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// PostRecommendationIndex 전체 재구성(병렬 정도별) + 조회 + 지원 1건 반영 시간
+// (열린 공고 20만 건, 직무 카테고리 40개, 회원 5만 명 × 지원 5건)
+// 목표: 조회는 µs 단위(DB 없음), 지원 1건 반영은 1ms 안, 재구성은 코어 수에 비례해 줄어듦
+// 실행: ./gradlew jmh -PjmhIncludes=PostRecommendationIndexBenchmark
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PostRecommendationIndexBenchmark {
+
+    @Param({"200000"})
+    private int posts;
+
+    @Param({"50000"})
+    private int members;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    private PostRecommendationIndex index;
+
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new PostRecommendationIndex(20, parallelism);
+        index.rebuild(this::load);
+        random = new Random(7);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        index.close();
+    }
+
+    private void load(PostRecommendationIndex.Sink sink) {
+        Random data = new Random(42);
+        for (int id = 1; id <= posts; id++) {
+            sink.addOpenPost(new PostSummaryDTO(id, "공고 " + id, 1, "기업", null, "서울", null, null),
+                    List.of(1 + data.nextInt(40), 1 + data.nextInt(40)));
+        }
+        for (int memberNo = 1; memberNo <= members; memberNo++) {
+            for (int i = 0; i < 5; i++) {
+                sink.addApplication(memberNo, 1 + data.nextInt(posts));
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5)
+    public boolean rebuild() {
+        index.rebuild(this::load);
+        return index.isReady();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int recommend() {
+        return index.recommend(1 + random.nextInt(members), 10).size();
+    }
+
+    // 지원 → 취소를 한 번에 (색인 상태를 그대로 유지)
+    // 이미 지원한 공고를 취소하지 않도록 색인에 없는 공고 id를 씀 (회원 벡터 재계산 + 상위 목록 재계산 비용은 같음)
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void applyAndCancel() {
+        int memberNo = 1 + random.nextInt(members);
+        int postId = posts + 1 + random.nextInt(posts);
+        index.addApplication(memberNo, postId);
+        index.removeApplication(memberNo, postId);
+    }
+}
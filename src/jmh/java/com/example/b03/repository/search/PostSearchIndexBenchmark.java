@@ -0,0 +1,94 @@
+package com.example.b03.repository.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// PostSearchIndex 검색 + facet 개수 계산 시간 (공고 100만 건, 직무 카테고리 40개, 지역 17개)
+// 목표: 필터 + facet 개수 한 번에 한 자릿수 ms
+// 실행: ./gradlew jmh -PjmhIncludes=PostSearchIndexBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PostSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "백엔드", "프론트엔드", "개발자", "엔지니어", "데이터", "java", "spring", "react", "서비스", "플랫폼",
+            "신입", "경력", "채용", "모집", "운영", "클라우드", "보안", "모바일", "디자이너", "기획자"
+    };
+    private static final String[] REGIONS = {
+            "서울특별시", "부산광역시", "대구광역시", "인천광역시", "광주광역시", "대전광역시", "울산광역시", "세종특별자치시",
+            "경기도", "강원도", "충청북도", "충청남도", "전라북도", "전라남도", "경상북도", "경상남도", "제주특별자치도"
+    };
+
+    @Param({"1000000"})
+    private int posts;
+
+    private PostSearchIndex index;
+
+    private PostSearchIndex.Query facetsOnly;
+    private PostSearchIndex.Query keywordAndFilters;
+    private PostSearchIndex.Query multiSelect;
+    private PostSearchIndex.Query excluded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        List<PostSearchIndex.Document> documents = new ArrayList<>(posts);
+        for (int id = 1; id <= posts; id++) {
+            List<Integer> categories = List.of(1 + random.nextInt(40), 1 + random.nextInt(40));
+            LocalDate deadline = random.nextInt(10) == 0 ? null : today.plusDays(random.nextInt(120) - 20);
+            documents.add(new PostSearchIndex.Document(id, sentence(random, 4), sentence(random, 20),
+                    REGIONS[random.nextInt(REGIONS.length)] + " 어딘가구", deadline, categories));
+        }
+
+        index = new PostSearchIndex();
+        index.rebuild(sink -> documents.forEach(sink));
+        System.out.println("색인 크기: " + index.getStats());
+
+        facetsOnly = new PostSearchIndex.Query(null, Set.of(), Set.of(), Set.of());
+        keywordAndFilters = new PostSearchIndex.Query("백엔드 spring", Set.of(3), Set.of("서울"),
+                Set.of(PostSearchIndex.DeadlineWindow.WITHIN_30_DAYS));
+        multiSelect = new PostSearchIndex.Query(null, Set.of(1, 2, 3, 4, 5), Set.of("서울", "경기", "인천"),
+                Set.of(PostSearchIndex.DeadlineWindow.WITHIN_3_DAYS, PostSearchIndex.DeadlineWindow.WITHIN_7_DAYS));
+        excluded = new PostSearchIndex.Query(null, Set.of(1, 2), Set.of("서울"), Set.of(), Set.of(3, 4, 5));
+    }
+
+    @Benchmark
+    public int facetsOnly() {
+        return index.search(facetsOnly, 0, 20).total();
+    }
+
+    @Benchmark
+    public int keywordAndFilters() {
+        return index.search(keywordAndFilters, 0, 20).total();
+    }
+
+    @Benchmark
+    public int multiSelect() {
+        return index.search(multiSelect, 0, 20).total();
+    }
+
+    @Benchmark
+    public int excluded() {
+        return index.search(excluded, 0, 20).total();
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.b03.service;
+
+import com.example.b03.dto.InquiryCommentResponseDTO;
+import com.example.b03.dto.InquiryListDTO;
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 문의 목록 한 페이지(10줄) + 상세 페이지(답변 20개) 조각 렌더링: 매번 템플릿 처리 vs InquiryFragmentCache 적중
+// 실행: ./gradlew jmh -PjmhIncludes=InquiryFragmentRenderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InquiryFragmentRenderBenchmark {
+
+    private SpringTemplateEngine templateEngine;
+    private InquiryFragmentCache inquiryFragmentCache;
+
+    private List<InquiryListDTO> rows;
+    private InquiryListDTO detail;
+    private List<InquiryCommentResponseDTO> comments;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        inquiryFragmentCache = new InquiryFragmentCache(templateEngine, 1000);
+
+        LocalDateTime now = LocalDateTime.now();
+        rows = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            rows.add(new InquiryListDTO(i, "배송 문의드립니다 " + i, 100 + i, now, now, i % 2, i % 2 == 1));
+        }
+        detail = InquiryListDTO.builder()
+                .inquiryId(1).title("배송 문의드립니다").content("주문한 상품이 아직 도착하지 않았어요. ".repeat(20))
+                .memberNo(101).createdAt(now).updatedAt(now).build();
+        comments = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            comments.add(InquiryCommentResponseDTO.builder()
+                    .commentId(i).inquiryId(1).adminNo(1).content("확인 후 안내드리겠습니다. " + i)
+                    .createdAt(now).updatedAt(now).isDeleted(false).build());
+        }
+    }
+
+    @Benchmark
+    public int renderListUncached() {
+        int length = 0;
+        for (InquiryListDTO dto : rows) {
+            String readUrl = "/inquiry/read?inquiryId=" + dto.getInquiryId() + "&page=1&size=10";
+            length += process("row", Map.of("dto", dto, "readUrl", readUrl)).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int renderListCached() {
+        int length = 0;
+        for (InquiryListDTO dto : rows) {
+            String readUrl = "/inquiry/read?inquiryId=" + dto.getInquiryId() + "&page=1&size=10";
+            length += inquiryFragmentCache.renderRow(dto, readUrl).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int renderDetailUncached() {
+        return process("detail", Map.of("inquiryDTO", detail)).length()
+                + process("comments", Map.of("comments", comments)).length();
+    }
+
+    @Benchmark
+    public int renderDetailCached() {
+        return inquiryFragmentCache.renderDetail(detail).length()
+                + inquiryFragmentCache.renderComments(1, comments).length();
+    }
+
+    private String process(String fragment, Map<String, Object> variables) {
+        return templateEngine.process("inquiry/fragments", Set.of(fragment), new Context(Locale.KOREA, variables));
+    }
+}
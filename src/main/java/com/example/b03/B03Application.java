@@ -2,8 +2,12 @@ package com.example.b03;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@EnableAsync // spring.threads.virtual.enabled=true 이면 @Async 작업도 가상 스레드에서 실행
 public class B03Application {
 
     public static void main(String[] args) {
@@ -0,0 +1,44 @@
+package com.example.b03.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+// ⭐ SQL 문장 수 / DB 시간 / 행 수 세기 (sql.stats.enabled=true일 때만, 기본은 꺼져 있고 dev / test 프로필에서 켬)
+// - DataSource 빈을 SqlTrackingDataSource로 감쌈 → JPA, JdbcTemplate 모두 같은 경로로 셈
+// - 요청마다 SqlStatementStatsFilter가 세고 N+1 의심 문장을 경고 (dev에서는 응답 헤더로도)
+// - 테스트에서는 @SqlStatementBudget으로 문장 수 상한을 걸 수 있음
+@Configuration
+@ConditionalOnProperty(name = "sql.stats.enabled", havingValue = "true")
+public class SqlStatementStatsConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static
+    @Bean
+    public static BeanPostProcessor sqlTrackingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlTrackingDataSource)) {
+                    return new SqlTrackingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementStatsFilter> sqlStatementStatsFilter(
+            @Value("${sql.stats.response-headers:false}") boolean responseHeaders,
+            @Value("${sql.stats.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        FilterRegistrationBean<SqlStatementStatsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementStatsFilter(responseHeaders, nPlusOneThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE); // 다른 필터에서 실행하는 SQL도 포함
+        return registration;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.b03.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Map;
+
+// ⭐ HTTP 요청마다 실행된 SQL 문장 수 / DB 시간 / 행 수를 세고, 같은 모양의 문장이 nPlusOneThreshold번 이상 반복되면 N+1 의심으로 경고
+// sql.stats.response-headers=true (dev 프로필)면 응답 헤더로도 내려 줍니다.
+//   X-SQL-Count: 문장 수, X-SQL-Time-Ms: DB 시간, X-SQL-Rows: 읽은/변경된 행 수, X-SQL-N-Plus-One: 반복된 문장 모양 수
+// 헤더는 응답 본문을 쓰기 직전에 붙이므로, 스트리밍 응답이면 본문을 쓰기 전까지 실행된 문장만 들어갑니다.
+@Log4j2
+public class SqlStatementStatsFilter extends OncePerRequestFilter {
+
+    private final boolean responseHeaders;
+
+    private final int nPlusOneThreshold;
+
+    public SqlStatementStatsFilter(boolean responseHeaders, int nPlusOneThreshold) {
+        this.responseHeaders = responseHeaders;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementTracker.Scope scope = SqlStatementTracker.begin();
+        StatsHeaderResponse wrapped = responseHeaders ? new StatsHeaderResponse(response, scope) : null;
+        try {
+            filterChain.doFilter(request, wrapped != null ? wrapped : response);
+        } finally {
+            scope.close();
+            if (wrapped != null) {
+                wrapped.writeHeaders(); // 본문이 없는 응답 (204 등)
+            }
+            report(request, scope);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementTracker.Scope scope) {
+        if (scope.getStatements() == 0) {
+            return;
+        }
+        String target = request.getMethod() + " " + request.getRequestURI();
+        log.debug("SQL " + scope.getStatements() + "개, " + String.format(Locale.ROOT, "%.3f", scope.getTimeMillis()) + "ms, "
+                + scope.getRows() + "행 (" + target + ")");
+        for (Map.Entry<String, Integer> repeated : scope.getRepeatedShapes(nPlusOneThreshold).entrySet()) {
+            log.warn("N+1 의심 (" + target + "): 같은 문장 " + repeated.getValue() + "번 실행 → " + repeated.getKey());
+        }
+    }
+
+    // 본문을 쓰기 시작할 때(응답이 커밋되기 전) 한 번만 헤더를 붙임
+    private final class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementTracker.Scope scope;
+        private boolean written;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStatementTracker.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        void writeHeaders() {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (written || response.isCommitted()) {
+                return;
+            }
+            written = true;
+            response.setHeader("X-SQL-Count", String.valueOf(scope.getStatements()));
+            response.setHeader("X-SQL-Time-Ms", String.format(Locale.ROOT, "%.3f", scope.getTimeMillis()));
+            response.setHeader("X-SQL-Rows", String.valueOf(scope.getRows()));
+            response.setHeader("X-SQL-N-Plus-One", String.valueOf(scope.getRepeatedShapes(nPlusOneThreshold).size()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
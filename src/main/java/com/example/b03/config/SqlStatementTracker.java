@@ -0,0 +1,204 @@
+package com.example.b03.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// ⭐ 현재 스레드에서 실행된 SQL 문장 수 / DB 시간 / 행 수를 모으는 곳
+// SqlTrackingDataSource가 문장을 실행할 때마다 record를 부르고, HTTP 요청(SqlStatementStatsFilter)이나
+// 테스트(@SqlStatementBudget)가 begin() ~ close() 사이를 셉니다.
+// 범위는 겹칠 수 있고 (테스트 안에서 MockMvc 요청 등) 안쪽 범위의 문장은 바깥 범위에도 더해집니다.
+// 스레드 단위라서 StreamingResponseBody처럼 다른 스레드에서 실행되는 부분은 세지 않습니다.
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static volatile boolean installed = false;
+
+    private SqlStatementTracker() {
+    }
+
+    /**
+     * 현재 스레드에서 세기 시작합니다. 반드시 close() 해야 합니다. (try-with-resources)
+     */
+    public static Scope begin() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    // DataSource가 감싸져 있는지 (꺼져 있으면 항상 0개로 세어지므로 테스트에서 확인)
+    public static boolean isInstalled() {
+        return installed;
+    }
+
+    static void markInstalled() {
+        installed = true;
+    }
+
+    static void record(String sql, long nanos, long rows) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        for (; scope != null; scope = scope.parent) {
+            scope.add(shape, nanos, rows);
+        }
+    }
+
+    // 문장 실행이 끝난 뒤 ResultSet에서 읽은 행
+    static void addRows(long rows) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.rows += rows;
+        }
+    }
+
+    // 값만 다르고 모양이 같은 문장을 같은 것으로 보기 위한 정규화 (N+1 판단용)
+    // 문장마다 실행되므로 정규식 여러 번 대신 한 번 훑으면서 처리
+    // 공백 여러 개 → 공백 하나, '문자열' / 단독 숫자 → ?, IN (?, ?, ?) → IN (?)
+    static String shapeOf(String sql) {
+        if (sql == null) {
+            return "(unknown)";
+        }
+        int length = sql.length();
+        StringBuilder shape = new StringBuilder(length);
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = shape.length() > 0; // 앞뒤 공백은 버림
+                continue;
+            }
+            if (pendingSpace) {
+                shape.append(' ');
+                pendingSpace = false;
+            }
+
+            if (c == '\'') {
+                // 닫는 따옴표까지 건너뜀 ('' 는 따옴표 문자)
+                i++;
+                while (i < length && (sql.charAt(i) != '\'' || (i + 1 < length && sql.charAt(i + 1) == '\''))) {
+                    i += sql.charAt(i) == '\'' ? 2 : 1;
+                }
+                shape.append('?');
+            } else if (isDigit(c) && (i == 0 || !isWordChar(sql.charAt(i - 1)))) {
+                int end = i;
+                while (end < length && isDigit(sql.charAt(end))) {
+                    end++;
+                }
+                if (end < length && isWordChar(sql.charAt(end))) {
+                    shape.append(sql, i, end); // 123abc 처럼 식별자의 일부
+                } else {
+                    shape.append('?');
+                }
+                i = end - 1;
+            } else if (c == ')') {
+                collapseParameterList(shape);
+                shape.append(')');
+            } else {
+                shape.append(c);
+            }
+        }
+        return shape.toString();
+    }
+
+    // 괄호 안이 ?와 쉼표뿐이면 (?, ?, ?) → (?)
+    private static void collapseParameterList(StringBuilder shape) {
+        boolean parameter = false;
+        for (int i = shape.length() - 1; i >= 0; i--) {
+            char c = shape.charAt(i);
+            if (c == '(') {
+                if (parameter) {
+                    shape.setLength(i + 1);
+                    shape.append('?');
+                }
+                return;
+            }
+            if (c == '?') {
+                parameter = true;
+            } else if (c != ',' && c != ' ') {
+                return;
+            }
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    // begin() ~ close() 사이에 이 스레드에서 실행된 문장 (스레드 하나에서만 쓰므로 동기화하지 않음)
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int statements;
+        private long nanos;
+        private long rows;
+        private final Map<String, Integer> countsByShape = new HashMap<>();
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void add(String shape, long nanos, long rows) {
+            statements++;
+            this.nanos += nanos;
+            this.rows += rows;
+            countsByShape.merge(shape, 1, Integer::sum);
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        // 문장 실행(execute*)에 걸린 시간 합 (ResultSet을 읽는 시간은 빠짐)
+        public double getTimeMillis() {
+            return nanos / 1_000_000.0;
+        }
+
+        // 읽은 행 + 변경된 행
+        public long getRows() {
+            return rows;
+        }
+
+        // 모양별 실행 횟수 (많이 실행된 순)
+        public Map<String, Integer> getCountsByShape() {
+            return getRepeatedShapes(1);
+        }
+
+        // 같은 모양의 문장이 threshold번 이상 실행된 것 (N+1 의심)
+        public Map<String, Integer> getRepeatedShapes(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            countsByShape.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.b03.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// ⭐ 실행되는 JDBC 문장을 SqlStatementTracker에 알려 주는 DataSource 래퍼 (Hikari 앞에 씌움, SqlStatementStatsConfig에서 등록)
+// Connection → Statement → ResultSet을 JDK 프록시로 감싸서 execute*의 시간, 변경된 행 수, ResultSet.next()로 읽은 행 수를 셉니다.
+// 세는 범위가 없는 스레드(스케줄러, 색인 재구성 등)에서는 시간도 재지 않고 원래 객체로 바로 넘깁니다.
+// DelegatingDataSource를 상속하므로 unwrap(HikariDataSource.class) 등은 그대로 동작합니다.
+// 컨텍스트 종료 시 스프링은 감싼 이 객체의 close()를 부르므로, 원래 DataSource(커넥션 풀)도 여기서 닫습니다.
+class SqlTrackingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    SqlTrackingDataSource(DataSource target) {
+        super(target);
+        SqlStatementTracker.markInstalled();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable target) { // HikariDataSource는 Closeable(AutoCloseable)
+            target.close();
+        }
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SqlTrackingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // 프록시끼리 비교할 때 원래 객체의 equals로 넘기면 항상 false가 되므로 프록시 자신으로 비교
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class && !method.getName().equals("toString");
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        if (resultSet == null || !SqlStatementTracker.isActive()) {
+            return resultSet;
+        }
+        return proxy(ResultSet.class, new ResultSetHandler(resultSet));
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = invokeTarget(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement", "prepareCall" ->
+                        proxy(method.getReturnType(), new StatementHandler((Statement) result, (Connection) proxy, (String) args[0]));
+                case "createStatement" -> proxy(Statement.class, new StatementHandler((Statement) result, (Connection) proxy, null));
+                default -> result;
+            };
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        private final String preparedSql; // PreparedStatement면 준비할 때의 SQL, Statement면 null
+        private String lastBatchSql;
+
+        StatementHandler(Statement target, Connection connection, String preparedSql) {
+            this.target = target;
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            String name = method.getName();
+            if (name.equals("getConnection")) {
+                return connection;
+            }
+            if (name.equals("addBatch") && args != null && args.length == 1) {
+                lastBatchSql = (String) args[0]; // Statement.addBatch(String)
+            }
+            if (!name.startsWith("execute") || !SqlStatementTracker.isActive()) {
+                Object result = invokeTarget(target, method, args);
+                return name.equals("getResultSet") ? wrapResultSet((ResultSet) result) : result;
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String executed
+                    ? executed
+                    : preparedSql != null ? preparedSql : lastBatchSql;
+            long startedAt = System.nanoTime();
+            Object result = null;
+            try {
+                result = invokeTarget(target, method, args);
+            } finally {
+                SqlStatementTracker.record(sql, System.nanoTime() - startedAt, changedRows(result));
+            }
+            return result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+        }
+
+        // executeUpdate/executeBatch의 변경된 행 수 (조회는 ResultSet에서 셈)
+        private static long changedRows(Object result) {
+            if (result instanceof Number count) {
+                return Math.max(count.longValue(), 0);
+            }
+            long rows = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    rows += Math.max(count, 0); // SUCCESS_NO_INFO(-2)는 셀 수 없음
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    rows += Math.max(count, 0);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = invokeTarget(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                SqlStatementTracker.addRows(1);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.b03.controller;
+
+import com.example.b03.service.ApplicationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController // 지원서 API
+@RequestMapping("/api/applications")
+@RequiredArgsConstructor
+@Log4j2
+public class ApplicationController {
+
+    private final ApplicationService applicationService;
+
+    // 📝 지원 API (POST /api/applications?postId=&memberNo=) → 지원서 ID
+    @PostMapping
+    public ResponseEntity<Integer> registerApplication(@RequestParam("postId") Integer postId,
+                                                       @RequestParam("memberNo") Integer memberNo) { // 지원자 회원 번호
+        log.info("지원 요청 (Post ID: " + postId + ", Member No: " + memberNo + ")");
+        Integer applicationId = applicationService.register(postId, memberNo);
+        return new ResponseEntity<>(applicationId, HttpStatus.CREATED);
+    }
+
+    // 🗑️ 지원서 삭제 API (DELETE /api/applications/{applicationId}?memberNo=)
+    @DeleteMapping("/{applicationId}")
+    public ResponseEntity<Void> removeApplication(@PathVariable("applicationId") Integer applicationId,
+                                                  @RequestParam("memberNo") Integer memberNo) { // 삭제 요청 지원자 번호
+        log.info("지원서 삭제 요청 (ID: " + applicationId + ", Member No: " + memberNo + ")");
+        applicationService.remove(applicationId, memberNo);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
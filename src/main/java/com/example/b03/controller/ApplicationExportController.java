@@ -0,0 +1,39 @@
+package com.example.b03.controller;
+
+import com.example.b03.service.ApplicationExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController // 기업 지원서 내보내기 API
+@RequestMapping("/api/companies")
+@RequiredArgsConstructor
+@Log4j2
+public class ApplicationExportController {
+
+    private final ApplicationExportService applicationExportService;
+
+    // 📤 기업 공고에 들어온 지원서 CSV 다운로드 (GET /api/companies/{memberNo}/applications/export)
+    // 조회 결과를 한 행씩 응답 스트림에 바로 쓰므로 지원서 수와 관계없이 메모리 사용량이 일정함
+    @GetMapping("/{memberNo}/applications/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(@PathVariable Integer memberNo) {
+        log.info("지원서 CSV 내보내기 요청 (기업: " + memberNo + ")");
+        applicationExportService.checkCompanyExists(memberNo); // 스트리밍을 시작하기 전에 확인
+
+        StreamingResponseBody body = out -> applicationExportService.exportCsv(memberNo, out);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("applications-" + memberNo + ".csv")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.b03.controller;
+
+import com.example.b03.service.EntityLookupCache;
+import com.example.b03.service.InquiryDetailCache;
+import com.example.b03.service.InquiryFragmentCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController // 조회 캐시 상태 확인용 API
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final EntityLookupCache entityLookupCache;
+    private final InquiryDetailCache inquiryDetailCache;
+    private final InquiryFragmentCache inquiryFragmentCache;
+
+    // 📊 캐시별 크기, hit/miss/eviction 수 (GET /api/cache/stats)
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Map<String, Object>>> getStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>(entityLookupCache.getStats());
+        stats.put("inquiryDetail", inquiryDetailCache.getStats());
+        stats.put("inquiryFragments", inquiryFragmentCache.getStats());
+        return ResponseEntity.ok(stats);
+    }
+}
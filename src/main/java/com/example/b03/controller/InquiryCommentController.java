@@ -1,16 +1,23 @@
 package com.example.b03.controller;
 
+import com.example.b03.dto.InquiryCommentCursorResponseDTO;
 import com.example.b03.dto.InquiryCommentRequestDTO;
 import com.example.b03.dto.InquiryCommentResponseDTO;
+import com.example.b03.dto.InquiryFreshnessDTO;
 import com.example.b03.service.InquiryCommentService;
+import com.example.b03.service.InquiryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController // REST API 컨트롤러
 @RequestMapping("/api/comments") // 🛣️ 댓글 관련 API의 기본 URL
@@ -19,6 +26,7 @@ import java.util.List;
 public class InquiryCommentController {
 
     private final InquiryCommentService inquiryCommentService;
+    private final InquiryService inquiryService;
 
     // ➕ 새 댓글 등록 API (POST /api/comments)
     @PostMapping("")
@@ -32,11 +40,32 @@ public class InquiryCommentController {
     // NOTE: InquiryWebController의 read() 메서드에서 직접 comments를 모델에 추가했으므로,
     // 이 API는 클라이언트에서 AJAX로 댓글을 동적으로 로드하고 싶을 때 사용하면 돼.
     // 현재 read.html은 서버사이드 렌더링으로 댓글을 가져오므로, 이 API는 당장은 필수는 아님.
+    // 댓글이 등록/수정/삭제되지 않았으면 (If-None-Match/If-Modified-Since) 본문 없이 304 → 폴링해도 댓글 본문을 읽지 않음
     @GetMapping("/inquiry/{inquiryId}")
-    public ResponseEntity<List<InquiryCommentResponseDTO>> getCommentsForInquiry(@PathVariable("inquiryId") Integer inquiryId) {
+    public ResponseEntity<List<InquiryCommentResponseDTO>> getCommentsForInquiry(@PathVariable("inquiryId") Integer inquiryId,
+                                                                                 WebRequest webRequest) {
         log.info("문의 댓글 목록 조회 요청 (Inquiry ID: " + inquiryId + ")");
+        Optional<InquiryFreshnessDTO> freshness = inquiryService.getFreshness(inquiryId);
+        if (freshness.isPresent() && webRequest.checkNotModified(freshness.get().getEtag(), freshness.get().getLastModified())) {
+            return null; // 304 Not Modified (checkNotModified가 응답을 이미 설정함)
+        }
+
         List<InquiryCommentResponseDTO> comments = inquiryCommentService.getCommentsForInquiry(inquiryId);
-        return new ResponseEntity<>(comments, HttpStatus.OK);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache()); // 매번 ETag로 재검증
+        freshness.ifPresent(f -> response.eTag(f.getEtag()).lastModified(f.getLastModified()));
+        return response.body(comments);
+    }
+
+    // 📄 특정 문의글의 댓글 목록 조회 API - 커서 방식 (GET /api/comments/inquiry/{inquiryId}?cursor=&size=20)
+    // cursor 파라미터가 있으면(첫 페이지는 빈 값) 이 메서드로 매핑되고, 응답의 nextCursor를 다음 요청에 넘기면 돼.
+    // 답변이 많은 문의도 size개씩만 읽어서 내려줌 (오래된 순)
+    @GetMapping(value = "/inquiry/{inquiryId}", params = "cursor")
+    public ResponseEntity<InquiryCommentCursorResponseDTO> getCommentsForInquiryByCursor(@PathVariable("inquiryId") Integer inquiryId,
+                                                                                         @RequestParam("cursor") String cursor,
+                                                                                         @RequestParam(value = "size", defaultValue = "20") int size) {
+        log.info("문의 댓글 목록 조회 요청 (커서, Inquiry ID: " + inquiryId + ", cursor: " + cursor + ", size: " + size + ")");
+        InquiryCommentCursorResponseDTO responseDTO = inquiryCommentService.getCommentsByCursor(inquiryId, cursor, size);
+        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
 
     // ✏️ 댓글 수정 API (PUT /api/comments/{commentId})
@@ -64,4 +93,13 @@ public class InquiryCommentController {
         int count = inquiryCommentService.getCommentCountByInquiryId(inquiryId);
         return new ResponseEntity<>(count, HttpStatus.OK);
     }
+
+    // 여러 문의글의 갯수 한 번에 조회 API (GET /api/comments/counts?inquiryIds=1,2,3)
+    // 목록에서 글마다 /count/{inquiryId}를 호출하지 않도록 최대 200개까지 한 번에 (COUNT ... GROUP BY 1번)
+    @GetMapping("/counts")
+    public ResponseEntity<Map<Integer, Integer>> getCommentCounts(@RequestParam("inquiryIds") List<Integer> inquiryIds) {
+        log.info("댓글 개수 일괄 조회 요청 (" + inquiryIds.size() + "개)");
+        Map<Integer, Integer> counts = inquiryCommentService.getCommentCounts(inquiryIds);
+        return new ResponseEntity<>(counts, HttpStatus.OK);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.example.b03.controller;
 
+import com.example.b03.dto.InquiryCursorResponseDTO;
+import com.example.b03.dto.InquiryFreshnessDTO;
 import com.example.b03.dto.InquiryListDTO;
 import com.example.b03.dto.InquiryPageRequestDTO;
 import com.example.b03.dto.InquiryPageResponseDTO;
@@ -7,9 +9,14 @@ import com.example.b03.service.InquiryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*; // ⭐ @RestController 사용을 위해 변경
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Optional;
 
 @RestController // ⭐ @RestController로 변경
 @RequestMapping("/api/inquiries") // 🛣️ REST API의 기본 URL 경로
@@ -28,11 +35,28 @@ public class InquiryController { // ⭐ 이 컨트롤러는 REST API 역할만 
     }
 
     // 🔍 특정 문의 조회 API (GET /api/inquiries/{inquiryId})
+    // If-None-Match/If-Modified-Since가 현재 값과 같으면 본문 없이 304 (최신 여부는 content를 읽지 않는 가벼운 쿼리로 확인)
     @GetMapping("/{inquiryId}")
-    public ResponseEntity<InquiryListDTO> getInquiry(@PathVariable("inquiryId") Integer inquiryId) {
+    public ResponseEntity<InquiryListDTO> getInquiry(@PathVariable("inquiryId") Integer inquiryId, WebRequest webRequest) {
         log.info("문의 조회 요청 (ID: " + inquiryId + ")");
-        InquiryListDTO inquiryListDTO = inquiryService.readOne(inquiryId);
-        return new ResponseEntity<>(inquiryListDTO, HttpStatus.OK);
+        Optional<InquiryFreshnessDTO> freshness = inquiryService.getFreshness(inquiryId);
+        if (freshness.isPresent() && webRequest.checkNotModified(freshness.get().getEtag(), freshness.get().getLastModified())) {
+            return null; // 304 Not Modified (checkNotModified가 응답을 이미 설정함)
+        }
+
+        InquiryListDTO inquiryListDTO = inquiryService.readOne(inquiryId); // 없거나 삭제된 문의면 여기서 예외
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache()); // 매번 ETag로 재검증
+        freshness.ifPresent(f -> response.eTag(f.getEtag()).lastModified(f.getLastModified()));
+        return response.body(inquiryListDTO);
+    }
+
+    // 🔍 여러 문의 한 번에 조회 API (GET /api/inquiries/batch?ids=1,2,3)
+    // 목록에서 글마다 GET /api/inquiries/{inquiryId}를 호출하지 않도록 최대 200개까지 한 번에 (IN 쿼리 1번)
+    @GetMapping("/batch")
+    public ResponseEntity<List<InquiryListDTO>> getInquiries(@RequestParam("ids") List<Integer> inquiryIds) {
+        log.info("문의 일괄 조회 요청 (" + inquiryIds.size() + "개)");
+        List<InquiryListDTO> inquiries = inquiryService.readMany(inquiryIds);
+        return new ResponseEntity<>(inquiries, HttpStatus.OK);
     }
 
     // ✏️ 문의 수정 API (PUT /api/inquiries/{inquiryId})
@@ -61,4 +85,14 @@ public class InquiryController { // ⭐ 이 컨트롤러는 REST API 역할만 
         InquiryPageResponseDTO<InquiryListDTO> responseDTO = inquiryService.list(inquiryPageRequestDTO);
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
+
+    // 📄 문의 목록 조회 API - 커서 방식 (GET /api/inquiries?cursor=&size=10)
+    // cursor 파라미터가 있으면(첫 페이지는 빈 값) 이 메서드로 매핑되고, 응답의 nextCursor를 다음 요청에 넘기면 돼.
+    @GetMapping(value = "", params = "cursor")
+    public ResponseEntity<InquiryCursorResponseDTO<InquiryListDTO>> getInquiryListByCursor(
+            @ModelAttribute InquiryPageRequestDTO inquiryPageRequestDTO) {
+        log.info("문의 목록 조회 요청 (커서): " + inquiryPageRequestDTO);
+        InquiryCursorResponseDTO<InquiryListDTO> responseDTO = inquiryService.listByCursor(inquiryPageRequestDTO);
+        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+    }
 }
\ No newline at end of file
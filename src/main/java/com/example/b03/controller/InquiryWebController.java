@@ -1,11 +1,12 @@
 package com.example.b03.controller;
 
+import com.example.b03.dto.InquiryDetailDTO;
 import com.example.b03.dto.InquiryListDTO;
 import com.example.b03.dto.InquiryPageRequestDTO;
 import com.example.b03.dto.InquiryPageResponseDTO;
-import com.example.b03.dto.InquiryCommentResponseDTO; // 댓글 DTO 임포트
+import com.example.b03.service.InquiryFragmentCache;
 import com.example.b03.service.InquiryService;
-import com.example.b03.service.InquiryCommentService; // 댓글 서비스 임포트
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -13,8 +14,9 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.List; // List 임포트
+import java.util.List;
 
 @Controller
 @RequestMapping("/inquiry")
@@ -23,16 +25,22 @@ import java.util.List; // List 임포트
 public class InquiryWebController {
 
     private final InquiryService inquiryService;
-    private final InquiryCommentService inquiryCommentService; // InquiryCommentService 주입
+    private final InquiryFragmentCache inquiryFragmentCache;
 
     // 문의 목록 페이지 (GET /inquiry/list)
     @GetMapping("/list")
-    public void list(InquiryPageRequestDTO inquiryPageRequestDTO, Model model) {
+    public void list(InquiryPageRequestDTO inquiryPageRequestDTO, Model model, HttpServletRequest request) {
         log.info("GET /inquiry/list ... pageRequestDTO: " + inquiryPageRequestDTO);
         // ⭐⭐ inquiryService.list()로 수정! ⭐⭐
         InquiryPageResponseDTO<InquiryListDTO> responseDTO = inquiryService.list(inquiryPageRequestDTO);
         model.addAttribute("responseDTO", responseDTO);
         model.addAttribute("pageRequestDTO", inquiryPageRequestDTO);
+
+        // 목록 각 줄은 캐시된 조각 HTML 사용 (문의글이 바뀌지 않았으면 다시 렌더링하지 않음)
+        List<String> rows = responseDTO.getDtoList().stream()
+                .map(dto -> inquiryFragmentCache.renderRow(dto, readUrl(request, dto.getInquiryId(), responseDTO, inquiryPageRequestDTO)))
+                .toList();
+        model.addAttribute("rows", rows);
     }
 
     // 새 문의 등록 폼 페이지 (GET /inquiry/register)
@@ -58,13 +66,14 @@ public class InquiryWebController {
                      Model model){
         log.info("GET /inquiry/read ... ID: " + inquiryId + ", PageRequest: " + pageRequestDTO);
 
-        // 1. 문의글 상세 정보 가져오기
-        InquiryListDTO inquiryDTO = inquiryService.readOne(inquiryId);
-        model.addAttribute("inquiryDTO", inquiryDTO);
+        // 문의글 + 댓글 목록을 한 번에 가져오기 (문의글/작성자 1번 + 댓글/관리자 1번, 캐시 적중 시 0번)
+        InquiryDetailDTO detailDTO = inquiryService.readDetail(inquiryId);
+        model.addAttribute("inquiryDTO", detailDTO.getInquiry());
+        model.addAttribute("comments", detailDTO.getComments()); // 모델에 댓글 목록 추가!
 
-        // 2. ⭐️⭐️⭐️ 해당 문의글의 댓글 목록 가져오기 ⭐️⭐️⭐️
-        List<InquiryCommentResponseDTO> comments = inquiryCommentService.getCommentsForInquiry(inquiryId);
-        model.addAttribute("comments", comments); // 모델에 댓글 목록 추가!
+        // 상세 정보 / 답변 목록은 캐시된 조각 HTML 사용
+        model.addAttribute("detailHtml", inquiryFragmentCache.renderDetail(detailDTO.getInquiry()));
+        model.addAttribute("commentsHtml", inquiryFragmentCache.renderComments(inquiryId, detailDTO.getComments()));
     }
 
     // 문의 수정 폼 페이지 (GET /inquiry/modify)
@@ -107,4 +116,22 @@ public class InquiryWebController {
 
         return "redirect:/inquiry/list";
     }
-}
\ No newline at end of file
+
+    // 목록 → 상세 링크 (목록으로 돌아올 때 쓰는 페이지/검색 조건 포함)
+    // 조각은 요청 밖에서 렌더링되므로 Thymeleaf @{}처럼 컨텍스트 경로를 직접 붙임 (루트가 아닌 경로에 배포해도 링크가 맞도록)
+    private String readUrl(HttpServletRequest request, Integer inquiryId,
+                           InquiryPageResponseDTO<InquiryListDTO> responseDTO, InquiryPageRequestDTO pageRequestDTO) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromPath(request.getContextPath())
+                .path("/inquiry/read")
+                .queryParam("inquiryId", inquiryId)
+                .queryParam("page", responseDTO.getPage())
+                .queryParam("size", responseDTO.getSize());
+        if (pageRequestDTO.getSearchType() != null && !pageRequestDTO.getSearchType().isEmpty()) {
+            builder.queryParam("searchType", pageRequestDTO.getSearchType());
+        }
+        if (pageRequestDTO.getSearchKeyword() != null && !pageRequestDTO.getSearchKeyword().isEmpty()) {
+            builder.queryParam("searchKeyword", pageRequestDTO.getSearchKeyword());
+        }
+        return builder.encode().toUriString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.b03.controller;
+
+import com.example.b03.dto.PostImportResultDTO;
+import com.example.b03.service.PostImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+@RestController // 채용공고 대량 등록 API
+@RequestMapping("/api/companies")
+@RequiredArgsConstructor
+@Log4j2
+public class PostImportController {
+
+    private final PostImportService postImportService;
+
+    // 📥 채용공고 대량 등록 (POST /api/companies/{memberNo}/posts/import)
+    // 요청 본문을 그대로 스트림으로 읽음 (Content-Type: text/csv 또는 application/x-ndjson, UTF-8)
+    @PostMapping(value = "/{memberNo}/posts/import", consumes = "text/csv")
+    public ResponseEntity<PostImportResultDTO> importCsv(@PathVariable Integer memberNo, HttpServletRequest request) throws IOException {
+        return importPosts(memberNo, request, "csv");
+    }
+
+    @PostMapping(value = "/{memberNo}/posts/import", consumes = "application/x-ndjson")
+    public ResponseEntity<PostImportResultDTO> importNdjson(@PathVariable Integer memberNo, HttpServletRequest request) throws IOException {
+        return importPosts(memberNo, request, "ndjson");
+    }
+
+    private ResponseEntity<PostImportResultDTO> importPosts(Integer memberNo, HttpServletRequest request, String format) throws IOException {
+        log.info("채용공고 대량 등록 요청 (기업: " + memberNo + ", 형식: " + format + ")");
+        try (Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+            return ResponseEntity.ok(postImportService.importPosts(memberNo, reader, format));
+        }
+    }
+}
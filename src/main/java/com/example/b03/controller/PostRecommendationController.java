@@ -0,0 +1,26 @@
+package com.example.b03.controller;
+
+import com.example.b03.repository.search.PostRecommendationIndex;
+import com.example.b03.service.PostRecommendationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController // 채용공고 추천 API
+@RequestMapping("/api/posts")
+@RequiredArgsConstructor
+@Log4j2
+public class PostRecommendationController {
+
+    private final PostRecommendationService postRecommendationService;
+
+    // 🎯 회원 맞춤 추천 공고 (GET /api/posts/recommendations?memberNo=&size=10), 점수가 높은 순
+    @GetMapping("/recommendations")
+    public ResponseEntity<List<PostRecommendationIndex.Recommendation>> getRecommendations(@RequestParam("memberNo") Integer memberNo,
+                                                                                           @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(postRecommendationService.getRecommendations(memberNo, size));
+    }
+}
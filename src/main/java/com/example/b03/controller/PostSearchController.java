@@ -0,0 +1,42 @@
+package com.example.b03.controller;
+
+import com.example.b03.dto.PostSearchRequestDTO;
+import com.example.b03.dto.PostSearchResponseDTO;
+import com.example.b03.dto.PostSummaryDTO;
+import com.example.b03.repository.search.PostSearchIndex;
+import com.example.b03.service.PostSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController // 채용공고 검색 API
+@RequestMapping("/api/posts")
+@RequiredArgsConstructor
+@Log4j2
+public class PostSearchController {
+
+    private final PostSearchService postSearchService;
+
+    // 🔍 채용공고 검색 + facet 개수 (GET /api/posts/search?keyword=&category=&location=&deadline=&excludeCategory=&page=&size=)
+    @GetMapping("/search")
+    public ResponseEntity<PostSearchResponseDTO> search(@ModelAttribute PostSearchRequestDTO requestDTO) {
+        log.info("채용공고 검색 요청: " + requestDTO);
+        return ResponseEntity.ok(postSearchService.search(requestDTO));
+    }
+
+    // ⏰ 마감 임박 공고 (GET /api/posts/closing-soon?days=7&size=20), 마감일이 빠른 순
+    @GetMapping("/closing-soon")
+    public ResponseEntity<List<PostSummaryDTO>> getClosingSoon(@RequestParam(defaultValue = "7") int days,
+                                                               @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postSearchService.getClosingSoon(days, size));
+    }
+
+    // 📊 검색 색인 크기 (GET /api/posts/search/stats)
+    @GetMapping("/search/stats")
+    public ResponseEntity<PostSearchIndex.Stats> getIndexStats() {
+        return ResponseEntity.ok(postSearchService.getIndexStats());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.b03.controller;
+
+import com.example.b03.service.ReferenceDataCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController // 기준 데이터(회원 유형, 직무 카테고리) 조회 API
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Log4j2
+public class ReferenceDataController {
+
+    private final ReferenceDataCatalog referenceDataCatalog;
+
+    // 📄 직무 카테고리 목록 (GET /api/job-categories)
+    // 미리 직렬화해 둔 JSON 바이트를 그대로 내려주고, If-None-Match가 같으면 304
+    @GetMapping("/job-categories")
+    public ResponseEntity<byte[]> getJobCategories(WebRequest webRequest) {
+        return toResponse(referenceDataCatalog.getJobCategoriesJson(), webRequest);
+    }
+
+    // 📄 회원 유형 목록 (GET /api/membership-types)
+    @GetMapping("/membership-types")
+    public ResponseEntity<byte[]> getMembershipTypes(WebRequest webRequest) {
+        return toResponse(referenceDataCatalog.getMembershipTypesJson(), webRequest);
+    }
+
+    // 🔄 기준 데이터를 DB에서 다시 읽기 (POST /api/reference-data/refresh)
+    @PostMapping("/reference-data/refresh")
+    public ResponseEntity<Void> refresh() {
+        log.info("기준 데이터 카탈로그 갱신 요청");
+        referenceDataCatalog.refresh();
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    private ResponseEntity<byte[]> toResponse(ReferenceDataCatalog.SerializedList json, WebRequest webRequest) {
+        if (webRequest.checkNotModified(json.etag())) {
+            return null; // 304 Not Modified (checkNotModified가 응답을 이미 설정함)
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(json.etag())
+                .cacheControl(CacheControl.noCache()) // 매번 ETag로 재검증
+                .body(json.body());
+    }
+}
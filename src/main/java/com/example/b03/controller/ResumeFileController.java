@@ -0,0 +1,132 @@
+package com.example.b03.controller;
+
+import com.example.b03.dto.AttachmentStorageStatsDTO;
+import com.example.b03.dto.ResumeFileDTO;
+import com.example.b03.service.ResumeFileService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.List;
+
+@RestController // 지원서 첨부파일(이력서) 업로드/다운로드 API
+@RequestMapping("/api/applications")
+@RequiredArgsConstructor
+@Log4j2
+public class ResumeFileController {
+
+    // Tomcat sendfile 요청 속성 (DefaultServlet과 같은 방식, 커널이 파일 → 소켓으로 바로 복사)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 작은 파일은 sendfile 준비 비용이 더 큼 (Tomcat 기본 sendfileSize와 같은 48KB)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private final ResumeFileService resumeFileService;
+
+    // 📤 이력서 업로드 (PUT /api/applications/{applicationId}/resume)
+    // 요청 본문이 파일 내용 그대로 (Content-Type: application/pdf 등), 받는 대로 디스크에 씀
+    @PutMapping("/{applicationId}/resume")
+    public ResponseEntity<ResumeFileDTO> uploadResume(@PathVariable Integer applicationId, HttpServletRequest request) throws IOException {
+        log.info("이력서 업로드 요청 (지원서: " + applicationId + ", " + request.getContentType() + ", " + request.getContentLengthLong() + " bytes)");
+        try (InputStream in = request.getInputStream()) {
+            return ResponseEntity.ok(resumeFileService.upload(applicationId, in, request.getContentType()));
+        }
+    }
+
+    // 📥 이력서 다운로드 (GET /api/applications/{applicationId}/resume)
+    // - ETag/Last-Modified로 304, Range/If-Range로 이어받기(206) 지원
+    // - Tomcat이면 sendfile로 보내고, 아니면 Spring이 파일을 버퍼 단위로 스트리밍 (파일 전체를 힙에 올리지 않음)
+    @GetMapping("/{applicationId}/resume")
+    public ResponseEntity<Resource> downloadResume(@PathVariable Integer applicationId, HttpServletRequest request,
+                                                   WebRequest webRequest) throws IOException {
+        ResumeFileDTO resume = resumeFileService.getResume(applicationId);
+        if (webRequest.checkNotModified(resume.getEtag(), resume.getLastModified().toEpochMilli())) {
+            return null; // 304 Not Modified (checkNotModified가 응답을 이미 설정함)
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(resume.getContentType()));
+        headers.setContentDisposition(ContentDisposition.attachment().filename(resume.getDownloadName()).build());
+        headers.setETag(resume.getEtag());
+        headers.setLastModified(resume.getLastModified());
+        headers.setCacheControl(CacheControl.noCache().cachePrivate()); // 개인 정보라 공유 캐시 금지, 매번 ETag로 재검증
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        boolean rangeRequested = request.getHeader(HttpHeaders.RANGE) != null;
+        boolean rangeAllowed = rangeRequested && ifRangeMatches(request, resume);
+        long size = resume.getSize();
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && size >= SENDFILE_MIN_SIZE) {
+            List<HttpRange> ranges;
+            try {
+                ranges = rangeAllowed ? HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE)) : List.of();
+                if (ranges.size() <= 1) {
+                    long start = ranges.isEmpty() ? 0 : ranges.get(0).getRangeStart(size);
+                    long end = ranges.isEmpty() ? size - 1 : ranges.get(0).getRangeEnd(size);
+                    return sendfile(request, resume, headers, start, end, ranges.isEmpty() ? HttpStatus.OK : HttpStatus.PARTIAL_CONTENT);
+                }
+                // 여러 구간(multipart/byteranges)은 아래에서 Spring이 처리
+            } catch (IllegalArgumentException e) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return new ResponseEntity<>(headers, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            }
+        }
+
+        if (rangeRequested && !rangeAllowed) {
+            // If-Range가 맞지 않으면 Range를 무시하고 전체를 보내야 함
+            // (InputStreamResource는 Spring이 Range 처리를 하지 않음)
+            headers.setContentLength(size);
+            return new ResponseEntity<>(new InputStreamResource(Files.newInputStream(resume.getFile())), headers, HttpStatus.OK);
+        }
+        // Range 헤더가 있으면 Spring이 206/416과 구간 복사를 처리함 (ResourceRegion)
+        return new ResponseEntity<>(new FileSystemResource(resume.getFile()), headers, HttpStatus.OK);
+    }
+
+    // 📊 첨부파일 저장소 사용량, 중복 제거로 절약한 크기 (GET /api/applications/attachments/stats)
+    @GetMapping("/attachments/stats")
+    public ResponseEntity<AttachmentStorageStatsDTO> getStorageStats() {
+        return ResponseEntity.ok(resumeFileService.getStorageStats());
+    }
+
+    private static ResponseEntity<Resource> sendfile(HttpServletRequest request, ResumeFileDTO resume, HttpHeaders headers,
+                                                     long start, long end, HttpStatus status) {
+        if (status == HttpStatus.PARTIAL_CONTENT) {
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + resume.getSize());
+        }
+        headers.setContentLength(end - start + 1);
+        request.setAttribute(SENDFILE_FILENAME, resume.getFile().toAbsolutePath().toString());
+        request.setAttribute(SENDFILE_START, start);
+        request.setAttribute(SENDFILE_END, end + 1); // 끝 위치는 포함하지 않음
+        return new ResponseEntity<>(headers, status); // 본문은 Tomcat이 응답 커밋 후 보냄
+    }
+
+    // If-Range: ETag 또는 날짜가 지금 파일과 같을 때만 Range 적용 (없으면 항상 적용)
+    // 날짜는 Last-Modified와 정확히 같아야 함 (HTTP 날짜는 초 단위라 초로 비교, 더 늦은 날짜도 다른 파일로 봄)
+    private static boolean ifRangeMatches(HttpServletRequest request, ResumeFileDTO resume) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(resume.getEtag()); // 약한 ETag는 Range에 쓸 수 없음
+        }
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return date != -1 && resume.getLastModified().getEpochSecond() == date / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -8,6 +8,9 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(callSuper = false)
 @Entity
 @Table(name = "applications", uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "member_no"}))
+// 지원자 목록 (공고 + 지원 회원을 함께 씀) → ApplicationRepository의 목록 조회
+@NamedEntityGraph(name = "Application.withPostAndMember",
+        attributeNodes = {@NamedAttributeNode("post"), @NamedAttributeNode("member")})
 @Data
 @Builder
 @Getter
@@ -19,11 +22,15 @@ public class Application extends BaseEntity {
     @Column(name = "application_id")
     private Integer applicationId;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_no", nullable = false)
     private Member member;
 
@@ -0,0 +1,39 @@
+package com.example.b03.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 내용 주소 방식으로 저장된 첨부파일 한 벌 (ResumeFileStore의 "ab/cd/{hash}.{extension}")
+// refCount: 이 파일을 쓰는 지원서 수, 0이 된 뒤 일정 시간이 지나면 AttachmentSweeper가 파일과 행을 지움
+@Entity
+@Table(name = "attachment_blobs",
+        // 정리 대상 조회 (ref_count = 0 AND updated_at < ?)
+        indexes = @Index(name = "idx_attachment_blobs_ref_updated", columnList = "ref_count, updated_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentBlob {
+    // 파일 내용의 SHA-256 (16진수 64자)
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash;
+
+    @Column(nullable = false, length = 10)
+    private String extension;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 마지막으로 참조가 늘거나 줄어든 시각
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
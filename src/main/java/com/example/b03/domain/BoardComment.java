@@ -8,6 +8,8 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(callSuper = false)
 @Entity
 @Table(name = "board_comments")
+// 게시글의 댓글 목록 (작성 회원을 함께 씀, 게시글은 이미 읽어 둔 것을 씀) → BoardCommentRepository.findByBoardPost
+@NamedEntityGraph(name = "BoardComment.withMember", attributeNodes = @NamedAttributeNode("member"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,11 +20,15 @@ public class BoardComment extends BaseEntity {
     @Column(name = "comment_id")
     private Integer commentId;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private BoardPost boardPost;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_no")
     private Member member;
 
@@ -8,6 +8,8 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(callSuper = false)
 @Entity
 @Table(name = "board_posts")
+// 게시글 상세 (작성 회원을 함께 씀)
+@NamedEntityGraph(name = "BoardPost.withMember", attributeNodes = @NamedAttributeNode("member"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,7 +20,9 @@ public class BoardPost extends BaseEntity {
     @Column(name = "post_id")
     private Integer postId;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_no", nullable = false)
     private Member member;
 
@@ -8,6 +8,8 @@ import java.time.LocalDate;
 @EqualsAndHashCode(callSuper = false)
 @Entity
 @Table(name = "company_info")
+// 기업 상세/수정 (회원의 전화번호/주소를 함께 씀) → CompanyInfoRepository.findByMember_MemberNo
+@NamedEntityGraph(name = "CompanyInfo.withMember", attributeNodes = @NamedAttributeNode("member"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,7 +19,9 @@ public class CompanyInfo extends BaseEntity {
     @Column(name = "member_no")
     private Integer memberNo;
 
-    @OneToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @OneToOne(fetch = FetchType.LAZY)
     @MapsId
     @JoinColumn(name = "member_no")
     private Member member;
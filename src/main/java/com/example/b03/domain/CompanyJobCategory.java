@@ -5,6 +5,8 @@ import lombok.*;
 
 @Entity
 @Table(name = "company_job_categories")
+// 기업의 직무 카테고리 목록 (카테고리 이름을 함께 씀) → CompanyJobCategoryRepository.findAllByCompany_MemberNo
+@NamedEntityGraph(name = "CompanyJobCategory.withJobCategory", attributeNodes = @NamedAttributeNode("jobCategory"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,12 +22,16 @@ public class CompanyJobCategory {
     @Column(name = "job_category_id")
     private Integer jobCategoryId;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("memberNo")
     @JoinColumn(name = "member_no")
     private CompanyInfo company;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("jobCategoryId")
     @JoinColumn(name = "job_category_id")
     private JobCategory jobCategory;
@@ -2,23 +2,29 @@ package com.example.b03.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @EqualsAndHashCode(callSuper = false)
 @Entity
 @Table(name = "inquiries")
+// 상세/수정/삭제 (작성 회원 이름이 검색 색인에 들어감) → InquiryRepository.findWithMemberById 등
+@NamedEntityGraph(name = "Inquiry.withMember", attributeNodes = @NamedAttributeNode("member"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate // 답변 카운터는 벌크 UPDATE로만 갱신하므로, 엔티티 수정 시 변경된 컬럼만 UPDATE 해서 덮어쓰지 않도록 함
 public class Inquiry extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "inquiry_id")
     private Integer inquiryId;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_no")
     private Member member;
 
@@ -28,5 +34,16 @@ public class Inquiry extends BaseEntity {
     @Lob
     @Column(nullable = false)
     private String content;
+
+    // 삭제되지 않은 답변 개수 (목록에서 답변 개수를 매번 COUNT 하지 않도록 비정규화)
+    // InquiryCommentRepository가 아니라 InquiryRepository의 increase/decrease 쿼리로만 갱신합니다.
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount = 0;
+
+    // 답변완료 여부 (commentCount > 0)
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean answered = false;
 }
 
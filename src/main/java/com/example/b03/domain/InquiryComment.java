@@ -7,7 +7,11 @@ import java.time.LocalDateTime;
 
 @EqualsAndHashCode(callSuper = false)
 @Entity
-@Table(name = "inquiry_comments")
+@Table(name = "inquiry_comments",
+        // 답변 목록/커서 조회 (inquiry_id = ? AND is_deleted = 0 ORDER BY created_at, comment_id)
+        indexes = @Index(name = "idx_inquiry_comments_inquiry_created", columnList = "inquiry_id, is_deleted, created_at, comment_id"))
+// 답변 목록 (작성 관리자를 함께 씀) → InquiryCommentRepository의 목록/커서 조회
+@NamedEntityGraph(name = "InquiryComment.withAdmin", attributeNodes = @NamedAttributeNode("admin"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,11 +22,15 @@ public class InquiryComment extends BaseEntity {
     @Column(name = "comment_id")
     private Integer commentId;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "inquiry_id")
     private Inquiry inquiry;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "admin_no")
     private Member admin;
 
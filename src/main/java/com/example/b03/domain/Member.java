@@ -36,6 +36,8 @@ public class Member extends BaseEntity {
     @Column(nullable = false, length = 20)
     private String phone;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "membership_type", nullable = false)
     private MembershipType membershipType;
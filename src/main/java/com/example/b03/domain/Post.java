@@ -8,18 +8,25 @@ import java.time.LocalDateTime;
 
 @EqualsAndHashCode(callSuper = false)
 @Entity
-@Table(name = "posts")
+@Table(name = "posts",
+        // 마감 처리 대상 조회 (is_closed = FALSE AND deadline < 오늘, 마감일 순)
+        indexes = @Index(name = "idx_posts_closed_deadline", columnList = "is_closed, deadline, post_id"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Post extends BaseEntity {
+    // IDENTITY는 INSERT를 해야 id를 알 수 있어서 Hibernate가 JDBC 배치를 끄므로, 시퀀스에서 50개씩 미리 받아 씀
+    // (대량 등록 PostImportServiceImpl에서 공고 + 직무 카테고리 INSERT를 배치로 묶기 위함)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", sequenceName = "posts_seq", allocationSize = 50)
     @Column(name = "post_id")
     private Integer postId;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_no")
     private CompanyInfo company;
 
@@ -43,5 +50,13 @@ public class Post extends BaseEntity {
     private LocalDateTime updatedDate;
 
     private LocalDate deadline;
+
+    // 마감 여부 (deadline이 지나면 PostExpiryScheduler가 일괄로 닫음 → 목록은 deadline 대신 이 값으로 거름)
+    @Builder.Default
+    @Column(name = "is_closed", nullable = false)
+    private boolean closed = false;
+
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
 }
 
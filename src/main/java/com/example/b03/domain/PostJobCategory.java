@@ -5,6 +5,8 @@ import lombok.*;
 
 @Entity
 @Table(name = "post_job_categories")
+// 공고의 직무 카테고리 목록 (카테고리 이름을 함께 씀) → PostJobCategoryRepository.findAllByPost_PostId
+@NamedEntityGraph(name = "PostJobCategory.withJobCategory", attributeNodes = @NamedAttributeNode("jobCategory"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,12 +20,16 @@ public class PostJobCategory {
     @Id
     private Integer jobCategoryId;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("postId")
     @JoinColumn(name = "post_id")
     private Post post;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("jobCategoryId")
     @JoinColumn(name = "job_category_id")
     private JobCategory jobCategory;
@@ -0,0 +1,35 @@
+package com.example.b03.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// ⭐ 기업 지원서 CSV 내보내기 한 행
+// ApplicationRepository.streamExportRowsByCompany()의 "SELECT new" 프로젝션으로 조회
+// (엔티티가 아니라 영속성 컨텍스트에 쌓이지 않으므로 몇 건이든 메모리 사용량이 일정함)
+@Getter
+@ToString
+public class ApplicationExportRowDTO {
+
+    private final Integer applicationId;
+    private final Integer postId;
+    private final String postTitle;
+    private final Integer applicantNo;
+    private final String applicantName;
+    private final String applicantPhone;
+    private final String filePath;
+    private final LocalDateTime submittedAt;
+
+    public ApplicationExportRowDTO(Integer applicationId, Integer postId, String postTitle, Integer applicantNo,
+                                   String applicantName, String applicantPhone, String filePath, LocalDateTime submittedAt) {
+        this.applicationId = applicationId;
+        this.postId = postId;
+        this.postTitle = postTitle;
+        this.applicantNo = applicantNo;
+        this.applicantName = applicantName;
+        this.applicantPhone = applicantPhone;
+        this.filePath = filePath;
+        this.submittedAt = submittedAt;
+    }
+}
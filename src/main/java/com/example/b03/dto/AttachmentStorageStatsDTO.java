@@ -0,0 +1,38 @@
+package com.example.b03.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+// ⭐ 첨부파일 저장소 사용량 (중복 제거로 절약한 공간 포함)
+// AttachmentBlobRepository.getStorageStats()의 "SELECT new" 프로젝션으로 조회
+@Getter
+@ToString
+public class AttachmentStorageStatsDTO {
+
+    // 디스크에 있는 파일 수와 크기 (정리 대기 중인 파일 포함)
+    private final long storedFiles;
+    private final long storedBytes;
+
+    // 지원서가 참조하는 수와 크기 (중복 제거가 없었다면 필요했을 크기)
+    private final long references;
+    private final long referencedBytes;
+
+    // 참조가 없어 AttachmentSweeper가 지울 파일
+    private final long unreferencedFiles;
+    private final long unreferencedBytes;
+
+    public AttachmentStorageStatsDTO(Long storedFiles, Long storedBytes, Long references, Long referencedBytes,
+                                     Long unreferencedFiles, Long unreferencedBytes) {
+        this.storedFiles = storedFiles != null ? storedFiles : 0;
+        this.storedBytes = storedBytes != null ? storedBytes : 0;
+        this.references = references != null ? references : 0;
+        this.referencedBytes = referencedBytes != null ? referencedBytes : 0;
+        this.unreferencedFiles = unreferencedFiles != null ? unreferencedFiles : 0;
+        this.unreferencedBytes = unreferencedBytes != null ? unreferencedBytes : 0;
+    }
+
+    // 중복 제거로 절약한 크기 (참조 크기 - 참조 중인 파일의 실제 크기)
+    public long getSavedBytes() {
+        return referencedBytes - (storedBytes - unreferencedBytes);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.b03.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+// ⭐ 답변 목록 커서(keyset) 응답
+// 답변은 오래된 순(createdAt, commentId)으로 내려가므로, 마지막 답변의 (createdAt, commentId)를 커서로 씁니다.
+// (createdAt은 같은 초에 여러 개가 있을 수 있어서 commentId를 같이 넣어야 중복/누락이 없음)
+@Data
+public class InquiryCommentCursorResponseDTO {
+
+    private List<InquiryCommentResponseDTO> dtoList;
+    private int size;
+
+    // 다음 페이지 요청 시 cursor 파라미터로 보낼 값 (다음 페이지가 없으면 null)
+    private String nextCursor;
+    private boolean hasNext;
+
+    private static final String CURSOR_PREFIX = "cmt:";
+    private static final String SEPARATOR = "|";
+
+    // 디코딩된 커서 값
+    public record Cursor(LocalDateTime createdAt, Integer commentId) {
+    }
+
+    @Builder(builderMethodName = "withAll")
+    public InquiryCommentCursorResponseDTO(List<InquiryCommentResponseDTO> dtoList, int size, boolean hasNext) {
+        this.dtoList = dtoList;
+        this.size = size;
+        this.hasNext = hasNext;
+        if (hasNext && !dtoList.isEmpty()) {
+            InquiryCommentResponseDTO last = dtoList.get(dtoList.size() - 1);
+            this.nextCursor = encodeCursor(last.getCreatedAt(), last.getCommentId());
+        }
+    }
+
+    public static String encodeCursor(LocalDateTime createdAt, Integer commentId) {
+        if (createdAt == null || commentId == null) {
+            return null;
+        }
+        String raw = CURSOR_PREFIX + createdAt + SEPARATOR + commentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 비어 있으면 첫 페이지(null)
+    public static Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (!raw.startsWith(CURSOR_PREFIX) || separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(CURSOR_PREFIX.length(), separator));
+            Integer commentId = Integer.valueOf(raw.substring(separator + 1));
+            return new Cursor(createdAt, commentId);
+        } catch (IllegalArgumentException | DateTimeParseException e) { // Base64 디코딩 실패, NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.b03.dto;
 
+import com.example.b03.domain.InquiryComment;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -32,5 +33,18 @@ public class InquiryCommentResponseDTO {
     //답변 수정시간
     private Boolean isDeleted;
     //답변 삭제여부
+
+    // static 변환 메서드 (ModelMapper 리플렉션 매핑 대신 사용)
+    public static InquiryCommentResponseDTO fromEntity(InquiryComment inquiryComment) {
+        return InquiryCommentResponseDTO.builder()
+                .commentId(inquiryComment.getCommentId())
+                .inquiryId(inquiryComment.getInquiry() != null ? inquiryComment.getInquiry().getInquiryId() : null)
+                .content(inquiryComment.getContent())
+                .adminNo(inquiryComment.getAdmin() != null ? inquiryComment.getAdmin().getMemberNo() : null)
+                .createdAt(inquiryComment.getCreatedAt())
+                .updatedAt(inquiryComment.getUpdatedAt())
+                .isDeleted(inquiryComment.getIsDeleted())
+                .build();
+    }
 }
 //조회용이라 유효성 불필요
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.example.b03.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+// ⭐ 커서(keyset) 방식 목록 응답
+// InquiryPageResponseDTO와 달리 전체 개수/페이지 번호가 없고, 다음 요청에 그대로 넘길 nextCursor만 내려줍니다.
+@Data
+public class InquiryCursorResponseDTO<E> {
+
+    private List<E> dtoList;
+    private int size;
+
+    // 다음 페이지 요청 시 cursor 파라미터로 보낼 값 (다음 페이지가 없으면 null)
+    private String nextCursor;
+    private boolean hasNext;
+
+    private static final String CURSOR_PREFIX = "inq:";
+
+    @Builder(builderMethodName = "withAll")
+    public InquiryCursorResponseDTO(List<E> dtoList, int size, Integer lastInquiryId, boolean hasNext) {
+        this.dtoList = dtoList;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = hasNext ? encodeCursor(lastInquiryId) : null;
+    }
+
+    // 클라이언트가 id 값에 의존하지 않도록 Base64(URL-safe)로 감싼 불투명 커서를 만듭니다.
+    public static String encodeCursor(Integer inquiryId) {
+        if (inquiryId == null) {
+            return null;
+        }
+        String raw = CURSOR_PREFIX + inquiryId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 비어 있으면 첫 페이지(null)
+    public static Integer decodeCursor(String cursor) {
+        if (cursor == null || cursor.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return Integer.valueOf(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) { // Base64 디코딩 실패, NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.b03.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 문의 상세 페이지용 (문의글 + 삭제되지 않은 답변 목록)
+// InquiryDetailCache에 그대로 보관되므로 setter 없이 읽기 전용으로 둡니다.
+@Getter
+@Builder
+@AllArgsConstructor
+public class InquiryDetailDTO {
+
+    private final InquiryListDTO inquiry;
+
+    private final List<InquiryCommentResponseDTO> comments;
+}
@@ -0,0 +1,54 @@
+package com.example.b03.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+// ⭐ 문의글/답변 목록 조건부 GET(ETag, Last-Modified)용 최신 여부 정보
+// InquiryRepository.findFreshnessById()의 "SELECT new" 프로젝션으로 조회 (content LOB, 답변 본문은 읽지 않음)
+@Getter
+@ToString
+public class InquiryFreshnessDTO {
+
+    private final Integer inquiryId;
+
+    // 문의글 수정일 (수정/삭제 시 갱신)
+    private final LocalDateTime updatedAt;
+
+    // 가장 최근에 등록/수정/삭제된 답변 시각 (답변이 없으면 null)
+    private final LocalDateTime lastCommentAt;
+
+    // 답변 카운터는 벌크 UPDATE로 바뀌어 updatedAt이 갱신되지 않으므로 따로 포함
+    private final int commentCount;
+
+    public InquiryFreshnessDTO(Integer inquiryId, LocalDateTime updatedAt, LocalDateTime lastCommentAt, Integer commentCount) {
+        this.inquiryId = inquiryId;
+        this.updatedAt = updatedAt;
+        this.lastCommentAt = lastCommentAt;
+        this.commentCount = commentCount != null ? commentCount : 0;
+    }
+
+    // 문의글이나 답변이 하나라도 바뀌면 달라지는 strong ETag
+    public String getEtag() {
+        return "\"" + inquiryId + "-" + toEpochMicros(updatedAt) + "-" + toEpochMicros(lastCommentAt) + "-" + commentCount + "\"";
+    }
+
+    // Last-Modified (문의글 수정일과 최근 답변 시각 중 늦은 쪽, epoch millis)
+    public long getLastModified() {
+        LocalDateTime lastModified = updatedAt;
+        if (lastCommentAt != null && (lastModified == null || lastCommentAt.isAfter(lastModified))) {
+            lastModified = lastCommentAt;
+        }
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), dateTime);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.b03.dto;
 
+import com.example.b03.domain.Inquiry;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,5 +37,33 @@ public class InquiryListDTO {
     //댓글 개수 필드 추가(답변완료 띄우기 위해서)
     private int commentCount;
 
+    //답변완료 여부 (Inquiry.answered)
+    private boolean answered;
+
+    // 목록 조회용 생성자 (InquirySearchImpl의 JPQL "SELECT new ..." 프로젝션에서 사용, content는 읽지 않음)
+    public InquiryListDTO(Integer inquiryId, String title, Integer memberNo, LocalDateTime createdAt,
+                          LocalDateTime updatedAt, Integer commentCount, Boolean answered) {
+        this.inquiryId = inquiryId;
+        this.title = title;
+        this.memberNo = memberNo;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.commentCount = commentCount != null ? commentCount : 0;
+        this.answered = Boolean.TRUE.equals(answered);
+    }
+
+    // static 변환 메서드 (ModelMapper 리플렉션 매핑 대신 사용)
+    public static InquiryListDTO fromEntity(Inquiry inquiry) {
+        return InquiryListDTO.builder()
+                .inquiryId(inquiry.getInquiryId())
+                .title(inquiry.getTitle())
+                .content(inquiry.getContent())
+                .memberNo(inquiry.getMember() != null ? inquiry.getMember().getMemberNo() : null)
+                .createdAt(inquiry.getCreatedAt())
+                .updatedAt(inquiry.getUpdatedAt())
+                .commentCount(inquiry.getCommentCount())
+                .answered(inquiry.isAnswered())
+                .build();
+    }
 }
 //조회용이라 유효성 필요 없음
\ No newline at end of file
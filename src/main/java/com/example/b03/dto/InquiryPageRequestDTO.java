@@ -25,6 +25,9 @@ public class InquiryPageRequestDTO {
     private String searchType; // t, c, w (title, content, writer)
     private String searchKeyword;
 
+    // 커서(keyset) 방식 목록 조회용 (InquiryCursorResponseDTO.nextCursor 값). 비어 있으면 첫 페이지
+    private String cursor;
+
     // ⭐️ 이 메서드를 추가해야 해!
     public Pageable getPageable() {
         // 정렬은 inquiryId를 기준으로 내림차순으로 기본 설정
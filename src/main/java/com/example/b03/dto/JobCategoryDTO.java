@@ -0,0 +1,26 @@
+package com.example.b03.dto;
+
+import com.example.b03.domain.JobCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobCategoryDTO {
+    //직무 카테고리 조회용
+
+    private Integer jobCategoryId;
+
+    private String name;
+
+    public static JobCategoryDTO fromEntity(JobCategory jobCategory) {
+        return JobCategoryDTO.builder()
+                .jobCategoryId(jobCategory.getJobCategoryId())
+                .name(jobCategory.getName())
+                .build();
+    }
+}
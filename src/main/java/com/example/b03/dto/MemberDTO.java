@@ -28,7 +28,9 @@ public class MemberDTO {
     private Boolean isDeleted;
 
     // static 변환 메서드
-    public static MemberDTO fromEntity(com.example.b03.domain.Member member) {
+    // 회원 유형은 FK 값과 이름을 따로 받음 (member.getMembershipType()의 이름을 읽으면 프록시가 초기화되어 SELECT가 나가므로
+    // MemberServiceImpl이 FK 값은 프록시 식별자에서, 이름은 ReferenceDataCatalog에서 채움)
+    public static MemberDTO fromEntity(com.example.b03.domain.Member member, Byte membershipTypeId, String membershipTypeName) {
         return MemberDTO.builder()
                 .memberNo(member.getMemberNo())
                 .loginId(member.getLoginId())
@@ -37,8 +39,8 @@ public class MemberDTO {
                 .birthDate(member.getBirthDate())
                 .address(member.getAddress())
                 .phone(member.getPhone())
-                .membershipTypeId(member.getMembershipType().getTypeId())
-                .membershipTypeName(member.getMembershipType().getTypeName())
+                .membershipTypeId(membershipTypeId)
+                .membershipTypeName(membershipTypeName)
                 .createdAt(member.getCreatedAt())
                 .updatedAt(member.getUpdatedAt())
                 .isDeleted(member.getIsDeleted())
@@ -0,0 +1,31 @@
+package com.example.b03.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 채용공고 대량 등록 결과 (실패한 행이 있어도 나머지는 등록됨)
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostImportResultDTO {
+
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+
+    // 실패한 행 (최대 PostImportServiceImpl.MAX_REPORTED_ERRORS개까지만 담음, failedRows는 전체 개수)
+    private List<RowError> errors;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowError {
+        private long line;       // 파일의 줄 번호 (CSV 헤더가 1번 줄)
+        private String message;
+    }
+}
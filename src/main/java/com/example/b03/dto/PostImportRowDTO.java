@@ -0,0 +1,26 @@
+package com.example.b03.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 채용공고 대량 등록 한 줄 (CSV 한 행 / NDJSON 한 줄)
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostImportRowDTO {
+
+    private String title;
+    private String description;
+    private String salary;
+    private String location;
+    private LocalDate deadline;
+
+    // 직무 카테고리 ID 목록 (CSV에서는 "1|3|7"처럼 | 로 구분)
+    private List<Integer> jobCategoryIds;
+}
@@ -0,0 +1,34 @@
+package com.example.b03.dto;
+
+import com.example.b03.repository.search.PostSearchIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 채용공고 검색 조건 (GET /api/posts/search?keyword=개발&category=1&category=3&location=서울&deadline=WITHIN_7_DAYS&excludeCategory=5)
+// 같은 facet 안의 값은 OR, facet끼리는 AND, excludeCategory는 하나라도 붙은 공고를 제외
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostSearchRequestDTO {
+
+    @Builder.Default
+    private int page = 1;
+
+    @Builder.Default
+    private int size = 20;
+
+    private String keyword; // 제목/설명 (공백으로 나눈 단어 모두 포함)
+
+    private List<Integer> category; // 직무 카테고리 ID
+
+    private List<String> location; // 지역 ("서울", "경기" 등, PostSearchIndex.normalizeLocation 기준)
+
+    private List<PostSearchIndex.DeadlineWindow> deadline; // 마감 구간
+
+    private List<Integer> excludeCategory; // 제외할 직무 카테고리 ID
+}
@@ -0,0 +1,26 @@
+package com.example.b03.dto;
+
+import com.example.b03.repository.search.PostSearchIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+// 채용공고 검색 결과 (한 페이지 + facet별 개수)
+// facet 개수는 해당 facet의 선택을 뺀 나머지 조건 기준 (그 값을 추가로 고르면 몇 건이 되는지)
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostSearchResponseDTO {
+
+    private final List<PostSummaryDTO> dtoList;
+    private final int totalCount;
+    private final int page;
+    private final int size;
+
+    private final Map<Integer, Integer> categoryCounts;
+    private final Map<String, Integer> locationCounts;
+    private final Map<PostSearchIndex.DeadlineWindow, Integer> deadlineCounts;
+}
@@ -0,0 +1,35 @@
+package com.example.b03.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 채용공고 목록 한 줄 (검색 결과 페이지)
+// PostRepository.findSummariesByPostIdIn()의 "SELECT new" 프로젝션으로 조회 (description LOB, 기업 회원 정보는 읽지 않음)
+@Getter
+@ToString
+public class PostSummaryDTO {
+
+    private final Integer postId;
+    private final String title;
+    private final Integer companyNo;
+    private final String companyName;
+    private final String salary;
+    private final String location;
+    private final LocalDate deadline;
+    private final LocalDateTime postedDate;
+
+    public PostSummaryDTO(Integer postId, String title, Integer companyNo, String companyName, String salary,
+                          String location, LocalDate deadline, LocalDateTime postedDate) {
+        this.postId = postId;
+        this.title = title;
+        this.companyNo = companyNo;
+        this.companyName = companyName;
+        this.salary = salary;
+        this.location = location;
+        this.deadline = deadline;
+        this.postedDate = postedDate;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.b03.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+// 지원서 첨부파일(이력서) 정보 (업로드 응답 / 다운로드 헤더용)
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+public class ResumeFileDTO {
+
+    private final Integer applicationId;
+
+    // 저장소 기준 상대 경로 (Application.filePath)
+    private final String filePath;
+
+    private final String contentType;
+
+    private final long size;
+
+    private final Instant lastModified;
+
+    // 실제 파일 위치 (서버 내부용, 응답 JSON에는 넣지 않음)
+    @JsonIgnore
+    private final Path file;
+
+    // 같은 경로의 내용은 바뀌지 않으므로 경로로 strong ETag를 만듦
+    public String getEtag() {
+        return "\"" + filePath.replace('/', '-') + "\"";
+    }
+
+    // 다운로드 파일 이름 (resume-{지원서 번호}.{확장자})
+    public String getDownloadName() {
+        int dot = filePath.lastIndexOf('.');
+        return "resume-" + applicationId + (dot >= 0 ? filePath.substring(dot) : "");
+    }
+}
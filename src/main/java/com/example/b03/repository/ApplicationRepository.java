@@ -3,15 +3,53 @@ package com.example.b03.repository;
 
 import com.example.b03.domain.Application;
 import com.example.b03.domain.Post;
+import com.example.b03.dto.ApplicationExportRowDTO;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ApplicationRepository extends JpaRepository<Application, Integer> {
+    // 공고별 지원자 목록 (공고 + 지원 회원까지 한 번에, 행마다 SELECT가 나가지 않음)
+    @EntityGraph("Application.withPostAndMember")
     List<Application> findByPost_PostId(Integer postId);
+    @EntityGraph("Application.withPostAndMember")
     List<Application> findByPost(Post post);
 
+    // 이력서 업로드/교체와 지원서 삭제가 동시에 들어와도 이전 파일의 참조(AttachmentBlob.refCount)를 두 번 줄이지 않도록 행 잠금을 걸고 조회합니다.
+    // ResumeFileServiceImpl의 upload(), ApplicationServiceImpl의 remove()에서 사용됩니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Application a WHERE a.applicationId = :applicationId")
+    Optional<Application> findByIdForUpdate(@Param("applicationId") Integer applicationId);
+
+    // (post_id, member_no)는 유니크 → 삭제된 지원서도 포함해서 한 건
+    Optional<Application> findByPost_PostIdAndMember_MemberNo(Integer postId, Integer memberNo);
+
     // 기업 회원이 등록한 공고들에 대한 지원서만 가져오기
+    @EntityGraph("Application.withPostAndMember")
     List<Application> findByPost_Company_Member_MemberNo(Integer memberNo);
-}
\ No newline at end of file
+
+    // ⭐ 기업 회원의 공고에 들어온 지원서를 CSV 내보내기용으로 한 행씩 스트리밍 (ApplicationExportServiceImpl에서 사용)
+    // 엔티티 그래프(Post → CompanyInfo → Member) 대신 필요한 컬럼만 프로젝션으로 읽고,
+    // fetch size를 주어 드라이버가 결과 전체를 메모리에 올리지 않고 나눠 가져오게 합니다.
+    // 반드시 트랜잭션 안에서 사용하고 다 쓰면 close 해야 합니다. (try-with-resources)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.example.b03.dto.ApplicationExportRowDTO(a.applicationId, p.postId, p.title, " +
+            "m.memberNo, m.name, m.phone, a.filePath, a.submittedAt) " +
+            "FROM Application a JOIN a.post p JOIN a.member m " +
+            "WHERE p.company.memberNo = :memberNo AND a.isDeleted = FALSE " +
+            "ORDER BY a.applicationId ASC")
+    Stream<ApplicationExportRowDTO> streamExportRowsByCompany(@Param("memberNo") Integer memberNo);
+}
@@ -0,0 +1,54 @@
+// 13. AttachmentBlob
+package com.example.b03.repository;
+
+import com.example.b03.domain.AttachmentBlob;
+import com.example.b03.dto.AttachmentStorageStatsDTO;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String> {
+
+    // ⭐ 참조 추가 (ResumeFileServiceImpl의 upload에서 사용)
+    // 없으면 refCount 1로 만들고 있으면 +1 (MariaDB INSERT ... ON DUPLICATE KEY UPDATE, 행 잠금까지 한 문장으로)
+    // 반환값: 새로 만들었으면 1, 이미 있던 행을 늘렸으면 2 (MariaDB의 affected rows 규칙)
+    @Modifying
+    @Query(value = "INSERT INTO attachment_blobs (hash, extension, size, ref_count, created_at, updated_at) " +
+            "VALUES (:hash, :extension, :size, 1, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = :now", nativeQuery = true)
+    int acquire(@Param("hash") String hash, @Param("extension") String extension, @Param("size") long size,
+                @Param("now") LocalDateTime now);
+
+    // 이 내용이 처음 저장될 때의 확장자 (파일 경로는 이 확장자로 하나만 씀)
+    @Query("SELECT b.extension FROM AttachmentBlob b WHERE b.hash = :hash")
+    Optional<String> findExtensionByHash(@Param("hash") String hash);
+
+    // 참조 제거 (지원서 삭제/파일 교체), 행은 남겨 두고 AttachmentSweeper가 나중에 정리
+    @Modifying
+    @Query("UPDATE AttachmentBlob b SET b.refCount = b.refCount - 1, b.updatedAt = :now WHERE b.hash = :hash AND b.refCount > 0")
+    int release(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    // 정리 대상 (참조가 0이 된 지 일정 시간이 지난 파일), 업로드의 acquire와 겹치지 않도록 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AttachmentBlob b WHERE b.refCount = 0 AND b.updatedAt < :before ORDER BY b.updatedAt ASC")
+    List<AttachmentBlob> findUnreferencedForUpdate(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 행이 없는 파일을 지우기 직전 확인 (AttachmentSweeper.sweepOrphanFiles)
+    // 행이 있으면 그 행을, 없으면 그 키 자리를 잠가서(InnoDB 갭 잠금) 같은 내용의 업로드(acquire)와 겹치지 않게 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AttachmentBlob b WHERE b.hash = :hash")
+    Optional<AttachmentBlob> findByHashForUpdate(@Param("hash") String hash);
+
+    @Query("SELECT new com.example.b03.dto.AttachmentStorageStatsDTO(COUNT(b), SUM(b.size), SUM(b.refCount), SUM(b.size * b.refCount), " +
+            "SUM(CASE WHEN b.refCount = 0 THEN 1 ELSE 0 END), SUM(CASE WHEN b.refCount = 0 THEN b.size ELSE 0 END)) " +
+            "FROM AttachmentBlob b")
+    AttachmentStorageStatsDTO getStorageStats();
+}
@@ -3,10 +3,12 @@ package com.example.b03.repository;
 
 import com.example.b03.domain.BoardComment;
 import com.example.b03.domain.BoardPost;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface BoardCommentRepository extends JpaRepository<BoardComment, Integer> {
+    @EntityGraph("BoardComment.withMember")
     List<BoardComment> findByBoardPost(BoardPost post);
 }
@@ -2,7 +2,14 @@
 package com.example.b03.repository;
 
 import com.example.b03.domain.BoardPost;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface BoardPostRepository extends JpaRepository<BoardPost, Integer> {
+
+    // 게시글 상세: 작성 회원까지 한 번에 조회
+    @EntityGraph("BoardPost.withMember")
+    Optional<BoardPost> findWithMemberByPostId(Integer postId);
 }
\ No newline at end of file
@@ -3,10 +3,25 @@ package com.example.b03.repository;
 
 import com.example.b03.domain.CompanyInfo;
 import com.example.b03.domain.Member;
+import com.example.b03.dto.CompanyInfoDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
 public interface CompanyInfoRepository extends JpaRepository<CompanyInfo, Integer> {
+    // 기업 상세/수정: 회원(전화번호/주소)까지 한 번에 조회
+    @EntityGraph("CompanyInfo.withMember")
     Optional<CompanyInfo> findByMember_MemberNo(Integer memberNo);
+
+    // ⭐ 기업 목록 (CompanyInfoServiceImpl.getList에서 사용)
+    // findAll 후 행마다 getMember()로 회원(전화번호/주소)을 따로 읽던 것(N+1)을 JOIN 한 번 + 개수 쿼리로 줄임
+    @Query(value = "SELECT new com.example.b03.dto.CompanyInfoDTO(c.memberNo, c.companyName, c.foundedDate, c.employeeCount, " +
+            "c.revenue, c.techStack, c.homepageUrl, c.description, m.phone, m.address) " +
+            "FROM CompanyInfo c JOIN c.member m",
+            countQuery = "SELECT COUNT(c) FROM CompanyInfo c")
+    Page<CompanyInfoDTO> findListItems(Pageable pageable);
 }
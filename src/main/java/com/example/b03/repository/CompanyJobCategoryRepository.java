@@ -3,10 +3,12 @@ package com.example.b03.repository;
 
 import com.example.b03.domain.CompanyJobCategory;
 import com.example.b03.domain.CompanyJobCategoryId;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface CompanyJobCategoryRepository extends JpaRepository<CompanyJobCategory, CompanyJobCategoryId> {
+    @EntityGraph("CompanyJobCategory.withJobCategory")
     List<CompanyJobCategory> findAllByCompany_MemberNo(Integer memberNo);
 }
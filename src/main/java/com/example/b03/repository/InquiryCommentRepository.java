@@ -2,13 +2,46 @@ package com.example.b03.repository;
 
 import com.example.b03.domain.Inquiry;
 import com.example.b03.domain.InquiryComment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface InquiryCommentRepository extends JpaRepository<InquiryComment, Integer>, QuerydslPredicateExecutor<InquiryComment> {
 
+    // ⭐ 상세 페이지용: 삭제되지 않은 댓글을 작성 관리자까지 한 번에 조회 (댓글마다 관리자 SELECT가 나가지 않도록)
+    // 문의글은 같은 트랜잭션에서 먼저 읽어 두므로 영속성 컨텍스트에서 꺼내 씀 (InquiryServiceImpl의 readDetail()에서 사용)
+    @EntityGraph("InquiryComment.withAdmin")
+    @Query("SELECT c FROM InquiryComment c " +
+            "WHERE c.inquiry.inquiryId = :inquiryId AND c.isDeleted = FALSE ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<InquiryComment> findActiveWithAdminByInquiryId(@Param("inquiryId") Integer inquiryId);
+
+    // ⭐ 위와 같은 조회를 pageable 크기만큼만 (InquiryCommentServiceImpl의 커서 목록 첫 페이지, 전체 목록 상한에서 사용)
+    @EntityGraph("InquiryComment.withAdmin")
+    @Query("SELECT c FROM InquiryComment c " +
+            "WHERE c.inquiry.inquiryId = :inquiryId AND c.isDeleted = FALSE ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<InquiryComment> findActiveWithAdminByInquiryId(@Param("inquiryId") Integer inquiryId, Pageable pageable);
+
+    // ⭐ 커서 목록 다음 페이지: (createdAt, commentId)가 커서보다 뒤인 답변만 (OFFSET 없이 인덱스에서 바로 이어서 읽음)
+    @EntityGraph("InquiryComment.withAdmin")
+    @Query("SELECT c FROM InquiryComment c " +
+            "WHERE c.inquiry.inquiryId = :inquiryId AND c.isDeleted = FALSE " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.commentId > :commentId)) " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<InquiryComment> findActiveWithAdminByInquiryIdAfter(@Param("inquiryId") Integer inquiryId,
+                                                             @Param("createdAt") LocalDateTime createdAt,
+                                                             @Param("commentId") Integer commentId,
+                                                             Pageable pageable);
+
     // 특정 Inquiry 객체에 연결된 댓글 목록을 조회합니다. (isDeleted가 false이고 createdAt 오름차순)
     // InquiryCommentServiceImpl의 getCommentsForInquiry() 메서드에서 사용됩니다.
     List<InquiryComment> findByInquiryAndIsDeletedFalseOrderByCreatedAtAsc(Inquiry inquiry);
@@ -17,7 +50,16 @@ public interface InquiryCommentRepository extends JpaRepository<InquiryComment,
     // InquiryCommentServiceImpl의 getCommentCountByInquiryId() 메서드에서 사용됩니다.
     int countByInquiryAndIsDeletedFalse(Inquiry inquiry);
 
+    // ⭐ 여러 문의글의 (삭제되지 않은) 댓글 개수를 한 번에 셉니다. [inquiryId, count] 목록 (댓글이 없는 문의글은 빠짐)
+    // InquiryCommentServiceImpl의 getCommentCounts() 메서드에서 사용됩니다.
+    @Query("SELECT c.inquiry.inquiryId, COUNT(c) FROM InquiryComment c " +
+            "WHERE c.inquiry.inquiryId IN :inquiryIds AND c.isDeleted = FALSE GROUP BY c.inquiry.inquiryId")
+    List<Object[]> countActiveGroupByInquiryId(@Param("inquiryIds") Collection<Integer> inquiryIds);
+
+    // 삭제 요청이 동시에 들어와도 답변 카운터가 두 번 감소하지 않도록 행 잠금을 걸고 조회합니다.
+    // InquiryCommentServiceImpl의 deleteComment() 메서드에서 사용됩니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM InquiryComment c WHERE c.commentId = :commentId")
+    Optional<InquiryComment> findByIdForUpdate(@Param("commentId") Integer commentId);
 
-    // ⭐ 참고: InquiryId로 직접 조회하고 페이징을 원한다면 다음 메서드를 추가하는 것이 좋음 (현재는 사용하지 않음)
-    // Page<InquiryComment> findByInquiry_InquiryIdAndIsDeletedFalseOrderByCreatedAtAsc(Integer inquiryId, Pageable pageable);
 }
\ No newline at end of file
@@ -1,10 +1,20 @@
 package com.example.b03.repository;
 
 import com.example.b03.domain.Inquiry;
+import com.example.b03.dto.InquiryFreshnessDTO;
 import com.example.b03.repository.search.InquirySearch; // ⭐ InquirySearch import! ⭐
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 // ⭐️ InquiryRepository가 JpaRepository와 InquirySearch 인터페이스를 모두 상속받도록 변경!
 public interface InquiryRepository extends JpaRepository<Inquiry, Integer>, InquirySearch { // ⭐⭐⭐ 여기에 InquirySearch 상속 추가! ⭐⭐⭐
@@ -23,4 +33,52 @@ public interface InquiryRepository extends JpaRepository<Inquiry, Integer>, Inqu
     // 삭제되지 않은 특정 회원의 문의글인지 확인 (특정 용도로 사용 가능)
     boolean existsByInquiryIdAndMember_MemberNoAndIsDeletedFalse(Integer inquiryId, Integer memberNo);
 
+    // ⭐ 삭제되지 않은 문의글인지만 확인 (content LOB를 읽지 않음, InquiryCommentServiceImpl의 getCommentsForInquiry()에서 사용)
+    boolean existsByInquiryIdAndIsDeletedFalse(Integer inquiryId);
+
+    // ⭐ 답변 카운터 갱신 (InquiryCommentServiceImpl의 createComment/deleteComment에서 사용)
+    // 엔티티 값을 읽어서 +1 하면 동시 요청에서 갱신이 유실되므로, DB에서 원자적으로 증감합니다.
+    @Modifying
+    @Query("UPDATE Inquiry i SET i.answered = TRUE, i.commentCount = i.commentCount + 1 WHERE i.inquiryId = :inquiryId")
+    int increaseCommentCount(@Param("inquiryId") Integer inquiryId);
+
+    // answered를 먼저 계산해야 MariaDB(SET 절을 왼쪽부터 평가)에서도 감소 전 값을 기준으로 판단합니다.
+    @Modifying
+    @Query("UPDATE Inquiry i SET i.answered = CASE WHEN i.commentCount > 1 THEN TRUE ELSE FALSE END, " +
+            "i.commentCount = i.commentCount - 1 WHERE i.inquiryId = :inquiryId AND i.commentCount > 0")
+    int decreaseCommentCount(@Param("inquiryId") Integer inquiryId);
+
+    // ⭐ 답변 카운터 보정 (InquiryCommentCountReconciler에서 inquiryId 구간별로 호출)
+    // 답변 개수나 answered가 실제와 다른 행만 고치고, 고친 행 수를 반환합니다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Inquiry i SET " +
+            "i.answered = CASE WHEN EXISTS (SELECT c.commentId FROM InquiryComment c WHERE c.inquiry = i AND c.isDeleted = FALSE) THEN TRUE ELSE FALSE END, " +
+            "i.commentCount = (SELECT COUNT(c) FROM InquiryComment c WHERE c.inquiry = i AND c.isDeleted = FALSE) " +
+            "WHERE i.inquiryId BETWEEN :fromId AND :toId " +
+            "AND (i.commentCount <> (SELECT COUNT(c) FROM InquiryComment c WHERE c.inquiry = i AND c.isDeleted = FALSE) " +
+            "OR i.answered <> CASE WHEN EXISTS (SELECT c.commentId FROM InquiryComment c WHERE c.inquiry = i AND c.isDeleted = FALSE) THEN TRUE ELSE FALSE END)")
+    int reconcileCommentCount(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
+    // ⭐ 상세 페이지/수정/삭제용: 작성 회원까지 한 번에 조회 (InquiryServiceImpl의 readDetail(), modify(), remove()에서 사용)
+    @EntityGraph("Inquiry.withMember")
+    @Query("SELECT i FROM Inquiry i WHERE i.inquiryId = :inquiryId")
+    Optional<Inquiry> findWithMemberById(@Param("inquiryId") Integer inquiryId);
+
+    // ⭐ 여러 문의글을 한 번에 조회 (IN 목록, 작성 회원까지 같은 SELECT로 → 글마다 SELECT가 나가지 않음)
+    // InquiryServiceImpl의 readMany()에서 사용합니다.
+    @EntityGraph("Inquiry.withMember")
+    @Query("SELECT i FROM Inquiry i WHERE i.inquiryId IN :inquiryIds AND i.isDeleted = FALSE")
+    List<Inquiry> findAllWithMemberByIdIn(@Param("inquiryIds") Collection<Integer> inquiryIds);
+
+    // ⭐ 조건부 GET용: 문의글 수정일 + 가장 최근 답변 시각 + 답변 개수만 조회 (content LOB, 답변 본문은 읽지 않음)
+    // 삭제된 답변도 updatedAt이 바뀌므로 MAX에 포함합니다. InquiryServiceImpl의 getFreshness()에서 사용합니다.
+    @Query("SELECT new com.example.b03.dto.InquiryFreshnessDTO(i.inquiryId, i.updatedAt, " +
+            "(SELECT MAX(c.updatedAt) FROM InquiryComment c WHERE c.inquiry = i), i.commentCount) " +
+            "FROM Inquiry i WHERE i.inquiryId = :inquiryId AND i.isDeleted = FALSE")
+    Optional<InquiryFreshnessDTO> findFreshnessById(@Param("inquiryId") Integer inquiryId);
+
+    @Query("SELECT COALESCE(MAX(i.inquiryId), 0) FROM Inquiry i")
+    Integer findMaxInquiryId();
+
 }
\ No newline at end of file
@@ -2,10 +2,51 @@
 package com.example.b03.repository;
 
 import com.example.b03.domain.Post;
+import com.example.b03.dto.PostSummaryDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Integer> {
     List<Post> findByCompany_MemberNo(Integer memberNo);
-}
\ No newline at end of file
+
+    // ⭐ 검색 결과 한 페이지 조회 (PostSearchServiceImpl에서 사용, 순서는 호출한 쪽에서 맞춤)
+    // 필터/정렬은 PostSearchIndex가 하고, DB에서는 화면에 보일 공고만 id로 읽습니다.
+    @Query("SELECT new com.example.b03.dto.PostSummaryDTO(p.postId, p.title, c.memberNo, c.companyName, p.salary, " +
+            "p.location, p.deadline, p.postedDate) " +
+            "FROM Post p LEFT JOIN p.company c WHERE p.postId IN :postIds")
+    List<PostSummaryDTO> findSummariesByPostIdIn(@Param("postIds") Collection<Integer> postIds);
+
+    // ⭐ 마감일이 지났는데 아직 열려 있는 공고 (PostExpiryScheduler에서 batch 크기만큼씩 사용)
+    // idx_posts_closed_deadline (is_closed, deadline, post_id) 범위 조회, 잠그지 않음
+    @Query("SELECT p.postId FROM Post p WHERE p.closed = FALSE AND p.deadline < :today ORDER BY p.deadline ASC, p.postId ASC")
+    List<Integer> findExpiredPostIds(@Param("today") LocalDate today, Pageable pageable);
+
+    // 공고 마감 (조회와 UPDATE 사이에 마감일이 바뀐 공고는 조건으로 다시 걸러짐)
+    @Modifying
+    @Query("UPDATE Post p SET p.closed = TRUE, p.closedAt = :now WHERE p.postId IN :postIds AND p.closed = FALSE AND p.deadline < :today")
+    int closeExpired(@Param("postIds") Collection<Integer> postIds, @Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
+    // 마감 임박 공고 (from ~ to 사이 마감, 마감일 순) - ClosingSoonIndex를 채울 때 사용
+    @Query("SELECT new com.example.b03.dto.PostSummaryDTO(p.postId, p.title, c.memberNo, c.companyName, p.salary, " +
+            "p.location, p.deadline, p.postedDate) " +
+            "FROM Post p LEFT JOIN p.company c " +
+            "WHERE p.closed = FALSE AND p.isDeleted = FALSE AND p.deadline BETWEEN :from AND :to " +
+            "ORDER BY p.deadline ASC, p.postId ASC")
+    List<PostSummaryDTO> findClosingSoon(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 추천 후보가 될 열린 공고 (postId 순으로 이어서 조회, PostRecommendationIndexLoader에서 사용)
+    @Query("SELECT new com.example.b03.dto.PostSummaryDTO(p.postId, p.title, c.memberNo, c.companyName, p.salary, " +
+            "p.location, p.deadline, p.postedDate) " +
+            "FROM Post p LEFT JOIN p.company c " +
+            "WHERE p.closed = FALSE AND p.isDeleted = FALSE AND (p.deadline IS NULL OR p.deadline >= :today) AND p.postId > :lastId " +
+            "ORDER BY p.postId ASC")
+    List<PostSummaryDTO> findOpenSummariesAfter(@Param("lastId") Integer lastId, @Param("today") LocalDate today, Pageable pageable);
+}
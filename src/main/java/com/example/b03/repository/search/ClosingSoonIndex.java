@@ -0,0 +1,135 @@
+package com.example.b03.repository.search;
+
+import com.example.b03.dto.PostSummaryDTO;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+// ⭐ 마감 임박 채용공고 목록 (마감일 → postId 순으로 정렬된 메모리 목록)
+// 오늘부터 post.closing-soon.days일 안에 마감되는 열린 공고만 들고 있고, 조회는 잠금 없이 스냅샷에서 앞에서부터 읽습니다.
+// PostExpiryScheduler가 매일 0시(마감 처리 직후)에 DB에서 다시 채우고, 대량 등록한 공고는 커밋 후에 끼워 넣습니다.
+// 날짜가 바뀐 뒤 다시 채워지기 전까지는 마감일이 지난 항목을 조회에서 건너뜀
+@Component
+@Log4j2
+public class ClosingSoonIndex {
+
+    private static final Comparator<PostSummaryDTO> BY_DEADLINE =
+            Comparator.comparing(PostSummaryDTO::getDeadline).thenComparing(PostSummaryDTO::getPostId);
+
+    private final Clock clock;
+
+    // 정렬된 목록, 바뀔 때마다 통째로 새로 만들어 교체 (쓰기는 하루 한 번 + 대량 등록 청크마다)
+    private volatile Snapshot snapshot = new Snapshot(List.of(), null);
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // until: 이 날짜까지 마감되는 공고를 들고 있음 (null이면 아직 채우지 않음)
+    private record Snapshot(List<PostSummaryDTO> posts, LocalDate until) {
+    }
+
+    public ClosingSoonIndex() {
+        this(Clock.systemDefaultZone());
+    }
+
+    ClosingSoonIndex(Clock clock) {
+        this.clock = clock;
+    }
+
+    public boolean isReady() {
+        return snapshot.until() != null;
+    }
+
+    /**
+     * 목록을 통째로 바꿉니다.
+     * @param posts until까지 마감되는 열린 공고 (순서 상관없음)
+     */
+    public void replace(Collection<PostSummaryDTO> posts, LocalDate until) {
+        List<PostSummaryDTO> sorted = new ArrayList<>(posts);
+        sorted.sort(BY_DEADLINE);
+        writeLock.lock();
+        try {
+            snapshot = new Snapshot(List.copyOf(sorted), until);
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("마감 임박 공고 목록 갱신: " + sorted.size() + "건 (" + until + "까지)");
+    }
+
+    // 새로 등록된 공고 중 들고 있는 기간 안에 마감되는 것만 추가 (같은 postId는 교체)
+    public void addAll(Collection<PostSummaryDTO> posts) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current.until() == null) {
+                return; // 처음 채울 때 DB에서 같이 읽힘
+            }
+            LocalDate today = LocalDate.now(clock);
+            Map<Integer, PostSummaryDTO> added = new HashMap<>();
+            for (PostSummaryDTO post : posts) {
+                LocalDate deadline = post.getDeadline();
+                if (deadline != null && !deadline.isBefore(today) && !deadline.isAfter(current.until())) {
+                    added.put(post.getPostId(), post);
+                }
+            }
+            if (added.isEmpty()) {
+                return;
+            }
+            List<PostSummaryDTO> merged = new ArrayList<>(current.posts().size() + added.size());
+            for (PostSummaryDTO post : current.posts()) {
+                if (!added.containsKey(post.getPostId())) {
+                    merged.add(post);
+                }
+            }
+            merged.addAll(added.values());
+            merged.sort(BY_DEADLINE);
+            snapshot = new Snapshot(List.copyOf(merged), current.until());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 오늘부터 days일 안에(오늘 포함) 마감되는 공고를 마감일이 빠른 순으로 최대 limit개 돌려줍니다.
+     * days가 들고 있는 기간보다 길면 들고 있는 기간까지만 나옵니다.
+     */
+    public List<PostSummaryDTO> list(int days, int limit) {
+        Snapshot current = snapshot;
+        LocalDate today = LocalDate.now(clock);
+        LocalDate until = today.plusDays(days);
+
+        List<PostSummaryDTO> posts = current.posts();
+        int from = firstNotBefore(posts, today); // 앞쪽의 마감 지난 항목 건너뛰기 (0시 갱신 전까지)
+        List<PostSummaryDTO> result = new ArrayList<>(Math.min(limit, posts.size() - from));
+        for (int i = from; i < posts.size() && result.size() < limit; i++) {
+            PostSummaryDTO post = posts.get(i);
+            if (post.getDeadline().isAfter(until)) {
+                break;
+            }
+            result.add(post);
+        }
+        return result;
+    }
+
+    // 마감일이 date 당일이거나 그 뒤인 첫 위치 (이분 탐색)
+    private static int firstNotBefore(List<PostSummaryDTO> posts, LocalDate date) {
+        int low = 0;
+        int high = posts.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (posts.get(mid).getDeadline().isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int size() {
+        return snapshot.posts().size();
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.b03.repository.search;
+
+import lombok.extern.log4j.Log4j2;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// ⭐ 문의글 제목(t) / 내용(c) / 작성자 이름(w) 검색용 메모리 역색인 (2-gram → 문의글 id 압축 비트맵, RoaringBitmap)
+// LIKE '%keyword%'는 인덱스를 못 타서 항상 풀 스캔이므로, 글자 2개 단위(bigram)로 쪼갠 토큰마다
+// "어느 문의글에 있는지"만 비트맵으로 저장해 둡니다. (위치는 저장하지 않음 → 문의글 100만 건에서도 bigram 수만큼의 비트맵)
+// 검색어의 bigram이 모두 있는 문의글이 후보이고, 2글자 검색어면 후보가 곧 결과입니다.
+// 3글자 이상이면 bigram이 떨어져 있어도 후보에 들어가므로, InquirySearchImpl이 후보 id의 행에서 LIKE로 한 번 더 확인합니다.
+// (화면에 필요한 만큼만 최신순으로 확인하고, OFFSET 페이지의 전체 개수는 확인한 비율로 추정)
+// (한국어는 띄어쓰기/조사 때문에 형태소 분석보다 n-gram이 부분 문자열 검색에 잘 맞음)
+//
+// 갱신은 InquiryServiceImpl의 register/modify/remove에서, 전체 재구성은 InquiryNgramIndexLoader에서 합니다.
+@Component
+@Log4j2
+public class InquiryNgramIndex {
+
+    public static final String TITLE = "t";
+    public static final String CONTENT = "c";
+    public static final String WRITER = "w";
+
+    private static final int GRAM_SIZE = 2;
+
+    // 재구성할 때 통째로 교체하므로 volatile
+    private volatile Map<String, FieldIndex> fields = newFields();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 재구성 중에 들어온 변경 사항 (교체 직후 새 색인에 다시 적용)
+    private List<Consumer<Map<String, FieldIndex>>> pendingDuringRebuild;
+
+    private volatile boolean ready = false;
+
+    // 색인 대상 문서 (문의글 1건)
+    public record Document(Integer inquiryId, String title, String content, String writer) {
+    }
+
+    // 검색 후보 (exact면 후보가 곧 결과, 아니면 행에서 검색어를 다시 확인해야 함)
+    // 최신순(id 내림차순) 위치로 읽으며, ids는 검색할 때마다 새로 만든 비트맵이라 색인이 바뀌어도 영향이 없음
+    public record Candidates(RoaringBitmap ids, boolean exact) {
+
+        public int size() {
+            return ids.getCardinality();
+        }
+
+        // afterInquiryId보다 작은 첫 id의 위치 (null이면 0 = 처음부터)
+        public int positionAfter(Integer afterInquiryId) {
+            if (afterInquiryId == null) {
+                return 0;
+            }
+            return size() - (int) ids.rank(Math.max(afterInquiryId - 1, 0));
+        }
+
+        // 최신순으로 from 위치부터 limit개
+        public List<Integer> page(int from, int limit) {
+            int total = size();
+            List<Integer> page = new ArrayList<>(Math.max(0, Math.min(limit, total - from)));
+            for (int i = from; i < total && page.size() < limit; i++) {
+                page.add(ids.select(total - 1 - i));
+            }
+            return page;
+        }
+    }
+
+    // 색인 크기 (bytes: 직렬화 기준 비트맵 크기 합계)
+    public record Stats(int grams, long bytes) {
+    }
+
+    /**
+     * 검색에 사용할 수 있는 상태인지 (최초 재구성이 끝나기 전에는 LIKE 검색으로 대신함)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 이 색인으로 처리할 수 있는 검색인지 확인합니다.
+     * 검색어가 2글자 미만이거나 t/c/w 이외의 검색 타입이 섞여 있으면 false → 기존 LIKE 검색 사용
+     */
+    public boolean supports(String[] types, String keyword) {
+        if (!ready || types == null || types.length == 0 || keyword == null || keyword.isBlank()) {
+            return false;
+        }
+        if (normalize(keyword).length() < GRAM_SIZE) {
+            return false;
+        }
+        for (String type : types) {
+            if (!fields.containsKey(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 검색 타입(t/c/w) 중 하나라도 keyword의 bigram을 모두 포함하는 문의글 id 후보를 반환합니다.
+     */
+    public Candidates search(String[] types, String keyword) {
+        String query = normalize(keyword);
+        List<RoaringBitmap> matches = new ArrayList<>(types.length);
+
+        lock.readLock().lock();
+        try {
+            Map<String, FieldIndex> current = fields;
+            for (String type : types) {
+                matches.add(current.get(type).search(query));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new Candidates(FastAggregation.or(matches.iterator()), query.length() == GRAM_SIZE);
+    }
+
+    public Stats getStats() {
+        lock.readLock().lock();
+        try {
+            int grams = 0;
+            long bytes = 0;
+            for (FieldIndex field : fields.values()) {
+                grams += field.postings.size();
+                bytes += field.sizeInBytes();
+            }
+            return new Stats(grams, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(Document document) {
+        apply(target -> addTo(target, document));
+    }
+
+    public void remove(Document document) {
+        apply(target -> removeFrom(target, document));
+    }
+
+    // 수정 시: 이전 내용의 토큰을 지우고 새 내용으로 다시 색인
+    public void update(Document before, Document after) {
+        apply(target -> {
+            removeFrom(target, before);
+            addTo(target, after);
+        });
+    }
+
+    /**
+     * 색인을 처음부터 다시 만듭니다.
+     * loader는 전달받은 sink에 모든 문서를 넣어야 하며, 읽는 동안에도 검색/갱신은 기존 색인으로 계속 동작합니다.
+     */
+    public void rebuild(Consumer<Consumer<Document>> loader) {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, FieldIndex> fresh = newFields();
+        int[] count = {0};
+        try {
+            loader.accept(document -> {
+                addTo(fresh, document);
+                count[0]++;
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 재구성 중 변경된 내용 재적용 (add/remove 모두 여러 번 적용해도 결과가 같음)
+            for (Consumer<Map<String, FieldIndex>> change : pendingDuringRebuild) {
+                change.accept(fresh);
+            }
+            pendingDuringRebuild = null;
+            fresh.values().forEach(FieldIndex::runOptimize);
+            fields = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("문의 검색 색인 재구성 완료: " + count[0] + "건, " + getStats());
+    }
+
+    private void apply(Consumer<Map<String, FieldIndex>> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(fields);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void addTo(Map<String, FieldIndex> target, Document document) {
+        target.get(TITLE).add(document.inquiryId(), document.title());
+        target.get(CONTENT).add(document.inquiryId(), document.content());
+        target.get(WRITER).add(document.inquiryId(), document.writer());
+    }
+
+    private static void removeFrom(Map<String, FieldIndex> target, Document document) {
+        target.get(TITLE).remove(document.inquiryId(), document.title());
+        target.get(CONTENT).remove(document.inquiryId(), document.content());
+        target.get(WRITER).remove(document.inquiryId(), document.writer());
+    }
+
+    private static Map<String, FieldIndex> newFields() {
+        return Map.of(TITLE, new FieldIndex(), CONTENT, new FieldIndex(), WRITER, new FieldIndex());
+    }
+
+    // MariaDB 기본 collation(대소문자 무시)과 같은 결과가 나오도록 소문자로 통일
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    // 필드 하나(제목/내용/작성자)의 색인: bigram → 문의글 id 비트맵
+    // bigram은 두 글자(char)를 int 하나로 묶어 키로 씀 (문자열 객체를 만들지 않음)
+    static class FieldIndex {
+
+        private final Map<Integer, RoaringBitmap> postings = new HashMap<>();
+
+        void add(Integer inquiryId, String text) {
+            for (int gram : gramsOf(normalize(text))) {
+                postings.computeIfAbsent(gram, key -> new RoaringBitmap()).add(inquiryId);
+            }
+        }
+
+        void remove(Integer inquiryId, String text) {
+            for (int gram : gramsOf(normalize(text))) {
+                RoaringBitmap docs = postings.get(gram);
+                if (docs != null) {
+                    docs.remove(inquiryId);
+                    if (docs.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+
+        // query의 bigram이 모두 있는 문의글 (드문 bigram부터 AND, 원본 비트맵은 바꾸지 않음)
+        RoaringBitmap search(String query) {
+            List<RoaringBitmap> lists = new ArrayList<>();
+            for (int gram : gramsOf(query)) {
+                RoaringBitmap docs = postings.get(gram);
+                if (docs == null) {
+                    return new RoaringBitmap(); // 없는 토큰이 하나라도 있으면 결과 없음
+                }
+                lists.add(docs);
+            }
+            lists.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+
+            RoaringBitmap result = lists.get(0).clone();
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.and(lists.get(i));
+            }
+            return result;
+        }
+
+        void runOptimize() {
+            postings.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        long sizeInBytes() {
+            long bytes = 0;
+            for (RoaringBitmap docs : postings.values()) {
+                bytes += docs.getLongSizeInBytes();
+            }
+            return bytes;
+        }
+
+        // 중복 없는 bigram 키 (앞 글자 << 16 | 뒤 글자)
+        static Set<Integer> gramsOf(String text) {
+            Set<Integer> grams = new HashSet<>();
+            for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+                grams.add(text.charAt(i) << 16 | text.charAt(i + 1));
+            }
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.b03.repository.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// ⭐ InquiryNgramIndex를 DB 내용으로 다시 만드는 컴포넌트
+// 애플리케이션 시작 시 한 번 실행되고, 필요하면 rebuild()를 직접 호출해서 다시 만들 수 있습니다.
+// 삭제되지 않은 문의글을 inquiryId 순으로 batchSize개씩 끊어 읽습니다 (OFFSET 없이 id 기준으로 이어서 조회).
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class InquiryNgramIndexLoader implements ApplicationRunner {
+
+    private final InquiryNgramIndex inquiryNgramIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${inquiry.search.ngram-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${inquiry.search.ngram-index.rebuild-batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("문의 검색 색인 사용 안 함 → LIKE 검색 사용");
+            return;
+        }
+        rebuild();
+    }
+
+    public void rebuild() {
+        inquiryNgramIndex.rebuild(sink -> {
+            int lastId = 0;
+            while (true) {
+                List<Object[]> rows = entityManager.createQuery(
+                                "SELECT i.inquiryId, i.title, i.content, m.name FROM Inquiry i LEFT JOIN i.member m " +
+                                        "WHERE i.isDeleted = FALSE AND i.inquiryId > :lastId ORDER BY i.inquiryId ASC", Object[].class)
+                        .setParameter("lastId", lastId)
+                        .setMaxResults(batchSize)
+                        .getResultList();
+
+                for (Object[] row : rows) {
+                    sink.accept(new InquiryNgramIndex.Document((Integer) row[0], (String) row[1], (String) row[2], (String) row[3]));
+                }
+                if (rows.size() < batchSize) {
+                    break;
+                }
+                lastId = (Integer) rows.get(rows.size() - 1)[0];
+            }
+        });
+    }
+}
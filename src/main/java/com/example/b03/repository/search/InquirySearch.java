@@ -1,9 +1,12 @@
 package com.example.b03.repository.search; // ⭐ 패키지명을 com.example.b03.repository.search 로!
 
 import com.example.b03.domain.Inquiry;
+import com.example.b03.dto.InquiryListDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface InquirySearch { // ⭐ InquirySearchImpl -> InquirySearch 로 이름 변경 추천!
 
     // 검색 조건(searchType, keyword)에 따라 문의글을 검색하는 메서드
@@ -11,6 +14,14 @@ public interface InquirySearch { // ⭐ InquirySearchImpl -> InquirySearch 로 
     // 이렇게 하면 제목, 내용, 작성자 등으로 유연하게 검색할 수 있어.
     Page<Inquiry> searchAll(String[] types, String keyword, Pageable pageable);
 
+    // 목록 화면용: searchAll과 같은 조건이지만 InquiryListDTO 프로젝션으로 목록 컬럼만 조회합니다. (content 제외)
+    // types가 null이면 검색 조건 없이 전체 목록
+    Page<InquiryListDTO> searchList(String[] types, String keyword, Pageable pageable);
+
+    // 커서(keyset) 방식 검색: afterInquiryId보다 작은 inquiryId를 최신순으로 최대 size + 1개 가져옵니다.
+    // afterInquiryId가 null이면 첫 페이지. 마지막 1개는 다음 페이지 존재 여부 확인용입니다. (목록 프로젝션)
+    List<InquiryListDTO> searchAfter(String[] types, String keyword, Integer afterInquiryId, int size);
+
     // ⭐ 도몬이 이전에 사용했던 특정 키워드 검색 메서드도 필요하다면 여기에 다시 정의할 수 있어.
     // Page<Inquiry> findByKeywordContainingAndIsDeletedFalse(String keyword, Pageable pageable);
 
@@ -2,14 +2,17 @@
 package com.example.b03.repository.search;
 
 import com.example.b03.domain.Inquiry;
+import com.example.b03.dto.InquiryListDTO;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery; // TypedQuery 임포트
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport; // QuerydslRepositorySupport는 필요 없음!
 
+import java.util.ArrayList;
 import java.util.List;
 
 // ⭐⭐ QuerydslRepositorySupport를 상속받지 않습니다! ⭐⭐S
@@ -19,71 +22,202 @@ public class InquirySearchImpl implements InquirySearch { // ⭐⭐ QuerydslRepo
     @PersistenceContext // EntityManager 주입
     private EntityManager entityManager;
 
+    @Autowired // t/c/w 검색은 LIKE 풀 스캔 대신 메모리 n-gram 색인으로 id를 찾고, DB는 해당 id만 조회
+    private InquiryNgramIndex inquiryNgramIndex;
+
     // 생성자도 QuerydslRepositorySupport를 상속받지 않으므로 필요 없습니다!
     // public InquirySearchImpl() {
     //     super(Inquiry.class);
     // }
 
 
+    // ⭐ 목록 화면용 프로젝션: 목록에 필요한 컬럼과 답변 개수만 SELECT (content LOB, Member 엔티티는 읽지 않음)
+    private static final String LIST_SELECT = "SELECT new com.example.b03.dto.InquiryListDTO(" +
+            "i.inquiryId, i.title, m.memberNo, i.createdAt, i.updatedAt, i.commentCount, i.answered)";
+
+    private static final String ENTITY_SELECT = "SELECT i";
+
+    // 색인 후보를 행에서 확인할 때 한 번에 IN으로 넘기는 id 수
+    static final int VERIFY_CHUNK_SIZE = 1000;
+
     @Override // InquirySearch 인터페이스의 searchAll 메서드를 구현합니다.
     public Page<Inquiry> searchAll(String[] types, String keyword, Pageable pageable) {
+        return searchPage(ENTITY_SELECT, Inquiry.class, types, keyword, pageable);
+    }
 
-        StringBuilder jpql = new StringBuilder("SELECT i FROM Inquiry i LEFT JOIN i.member m WHERE i.isDeleted = FALSE");
-        StringBuilder countJpql = new StringBuilder("SELECT COUNT(i) FROM Inquiry i LEFT JOIN i.member m WHERE i.isDeleted = FALSE");
+    @Override
+    public Page<InquiryListDTO> searchList(String[] types, String keyword, Pageable pageable) {
+        return searchPage(LIST_SELECT, InquiryListDTO.class, types, keyword, pageable);
+    }
 
-        // 검색 조건 처리 (types, keyword)
-        if (types != null && types.length > 0 && keyword != null && !keyword.trim().isEmpty()) {
-            jpql.append(" AND (");
-            countJpql.append(" AND (");
-
-            boolean firstCondition = true;
-            for (String type : types) {
-                if (!firstCondition) {
-                    jpql.append(" OR ");
-                    countJpql.append(" OR ");
-                }
-                switch (type) {
-                    case "t": // 제목 (title) 검색
-                        jpql.append("i.title LIKE :keyword");
-                        countJpql.append("i.title LIKE :keyword");
-                        break;
-                    case "c": // 내용 (content) 검색
-                        jpql.append("i.content LIKE :keyword");
-                        countJpql.append("i.content LIKE :keyword");
-                        break;
-                    case "w": // 작성자 (writer/member name) 검색
-                        jpql.append("m.name LIKE :keyword"); // m은 member의 별칭
-                        countJpql.append("m.name LIKE :keyword");
-                        break;
-                    // 추가적인 검색 조건이 있다면 여기에 case 추가
-                }
-                firstCondition = false;
+    @Override // 커서(seek) 방식: OFFSET 없이 inquiryId < afterInquiryId 조건으로 다음 묶음을 가져옵니다.
+    public List<InquiryListDTO> searchAfter(String[] types, String keyword, Integer afterInquiryId, int size) {
+
+        if (inquiryNgramIndex.supports(types, keyword)) {
+            InquiryNgramIndex.Candidates candidates = inquiryNgramIndex.search(types, keyword);
+            int from = candidates.positionAfter(afterInquiryId);
+            if (candidates.exact()) {
+                return findAllByIds(LIST_SELECT, InquiryListDTO.class, candidates.page(from, size + 1));
+            }
+            // 후보를 최신순으로 잘라 가며 검색어가 실제로 있는 행만 size + 1개가 될 때까지 모음
+            List<InquiryListDTO> result = new ArrayList<>();
+            while (result.size() <= size && from < candidates.size()) {
+                List<Integer> chunk = candidates.page(from, VERIFY_CHUNK_SIZE);
+                from += chunk.size();
+                result.addAll(findMatchingByIds(LIST_SELECT, InquiryListDTO.class, types, keyword, chunk, size + 1 - result.size()));
+            }
+            return result;
+        }
+
+        StringBuilder jpql = new StringBuilder(LIST_SELECT + " FROM Inquiry i LEFT JOIN i.member m WHERE i.isDeleted = FALSE");
+
+        // 커서가 있으면 그 다음(더 오래된) 글부터 → PK 인덱스로 바로 찾아가므로 몇 페이지를 넘겨도 속도가 같음
+        if (afterInquiryId != null) {
+            jpql.append(" AND i.inquiryId < :afterInquiryId");
+        }
+        appendSearchCondition(jpql, types, keyword);
+
+        jpql.append(" ORDER BY i.inquiryId DESC");
+
+        TypedQuery<InquiryListDTO> query = entityManager.createQuery(jpql.toString(), InquiryListDTO.class);
+        if (afterInquiryId != null) {
+            query.setParameter("afterInquiryId", afterInquiryId);
+        }
+        if (hasKeyword(keyword)) {
+            query.setParameter("keyword", "%" + keyword + "%");
+        }
+
+        // 다음 페이지가 있는지 알기 위해 1개 더 가져옴 (COUNT 쿼리 없음)
+        query.setMaxResults(size + 1);
+
+        return query.getResultList();
+    }
+
+    // searchAll(엔티티)과 searchList(프로젝션)가 같이 쓰는 OFFSET 페이징 검색
+    private <T> Page<T> searchPage(String select, Class<T> resultType, String[] types, String keyword, Pageable pageable) {
+
+        if (inquiryNgramIndex.supports(types, keyword)) {
+            InquiryNgramIndex.Candidates candidates = inquiryNgramIndex.search(types, keyword);
+            if (candidates.exact()) {
+                List<Integer> pageIds = candidates.page((int) pageable.getOffset(), pageable.getPageSize());
+                return new PageImpl<>(findAllByIds(select, resultType, pageIds), pageable, candidates.size());
             }
-            jpql.append(")");
-            countJpql.append(")");
+            // 후보를 최신순으로 확인하다가 이 페이지 + 1건이 모이면 멈춤 (id만 조회, PK IN 조회라 풀 스캔 없음)
+            // 후보 전체를 LIKE로 확인하지 않으므로 전체 개수는 추정값 (estimateTotal 참고)
+            int needed = (int) pageable.getOffset() + pageable.getPageSize() + 1;
+            List<Integer> matchedIds = new ArrayList<>();
+            for (int from = 0; matchedIds.size() < needed && from < candidates.size(); from += VERIFY_CHUNK_SIZE) {
+                matchedIds.addAll(findMatchingByIds("SELECT i.inquiryId", Integer.class, types, keyword,
+                        candidates.page(from, VERIFY_CHUNK_SIZE), needed - matchedIds.size()));
+            }
+            int fromIndex = (int) Math.min(pageable.getOffset(), matchedIds.size());
+            int toIndex = Math.min(fromIndex + pageable.getPageSize(), matchedIds.size());
+            return new PageImpl<>(findAllByIds(select, resultType, matchedIds.subList(fromIndex, toIndex)), pageable,
+                    estimateTotal(candidates, matchedIds, needed));
         }
 
+        StringBuilder jpql = new StringBuilder(select + " FROM Inquiry i LEFT JOIN i.member m WHERE i.isDeleted = FALSE");
+        StringBuilder countJpql = new StringBuilder("SELECT COUNT(i) FROM Inquiry i LEFT JOIN i.member m WHERE i.isDeleted = FALSE");
+
+        // 검색 조건 처리 (types, keyword)
+        appendSearchCondition(jpql, types, keyword);
+        appendSearchCondition(countJpql, types, keyword);
+
         // 정렬 (최신순)
         jpql.append(" ORDER BY i.inquiryId DESC");
 
         // ⭐ 내용(content) 쿼리
-        TypedQuery<Inquiry> contentQuery = entityManager.createQuery(jpql.toString(), Inquiry.class);
-        if (keyword != null && !keyword.trim().isEmpty()) {
+        TypedQuery<T> contentQuery = entityManager.createQuery(jpql.toString(), resultType);
+        if (hasKeyword(keyword)) {
             contentQuery.setParameter("keyword", "%" + keyword + "%"); // LIKE 검색을 위해 % 추가
         }
 
         contentQuery.setFirstResult((int) pageable.getOffset()); // 페이징 시작 오프셋
         contentQuery.setMaxResults(pageable.getPageSize()); // 페이지당 개수
 
-        List<Inquiry> content = contentQuery.getResultList();
+        List<T> content = contentQuery.getResultList();
 
         // ⭐ 전체 개수(total) 쿼리
         TypedQuery<Long> countQuery = entityManager.createQuery(countJpql.toString(), Long.class);
-        if (keyword != null && !keyword.trim().isEmpty()) {
+        if (hasKeyword(keyword)) {
             countQuery.setParameter("keyword", "%" + keyword + "%");
         }
         long total = countQuery.getSingleResult();
 
         return new PageImpl<>(content, pageable, total);
     }
+
+    // 3글자 이상 검색의 전체 개수: 후보를 끝까지 확인했으면 정확한 값,
+    // 중간에 멈췄으면 "마지막 일치 행까지 확인한 후보 중 일치 비율 × 후보 수" (최소한 이미 찾은 개수 이상)
+    // 추정이 실제보다 커도 끝 페이지에서 PageImpl이 offset + 실제 개수로 줄여 줌
+    static long estimateTotal(InquiryNgramIndex.Candidates candidates, List<Integer> matchedIds, int needed) {
+        if (matchedIds.size() < needed) {
+            return matchedIds.size();
+        }
+        int scanned = candidates.positionAfter(matchedIds.get(matchedIds.size() - 1));
+        long estimated = Math.round((double) matchedIds.size() / scanned * candidates.size());
+        return Math.max(estimated, matchedIds.size());
+    }
+
+    // 색인으로 찾은 id 목록(내림차순)의 문의글만 조회 (PK IN 조회라 풀 스캔 없음)
+    private <T> List<T> findAllByIds(String select, Class<T> resultType, List<Integer> inquiryIds) {
+        if (inquiryIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(select + " FROM Inquiry i LEFT JOIN i.member m " +
+                        "WHERE i.inquiryId IN :inquiryIds AND i.isDeleted = FALSE ORDER BY i.inquiryId DESC", resultType)
+                .setParameter("inquiryIds", inquiryIds)
+                .getResultList();
+    }
+
+    // 색인 후보 id 중 검색어가 실제로 있는 행만 최신순으로 최대 limit개 (bigram이 떨어져 있는 후보를 LIKE로 걸러냄)
+    private <T> List<T> findMatchingByIds(String select, Class<T> resultType, String[] types, String keyword,
+                                          List<Integer> inquiryIds, int limit) {
+        if (inquiryIds.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder jpql = new StringBuilder(select + " FROM Inquiry i LEFT JOIN i.member m " +
+                "WHERE i.inquiryId IN :inquiryIds AND i.isDeleted = FALSE");
+        appendSearchCondition(jpql, types, keyword);
+        jpql.append(" ORDER BY i.inquiryId DESC");
+        return entityManager.createQuery(jpql.toString(), resultType)
+                .setParameter("inquiryIds", inquiryIds)
+                .setParameter("keyword", "%" + keyword + "%")
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private boolean hasKeyword(String keyword) {
+        return keyword != null && !keyword.trim().isEmpty();
+    }
+
+    // 검색 조건(types, keyword)을 " AND (... OR ...)" 형태로 붙입니다.
+    private void appendSearchCondition(StringBuilder jpql, String[] types, String keyword) {
+        if (types == null || types.length == 0 || !hasKeyword(keyword)) {
+            return;
+        }
+
+        jpql.append(" AND (");
+
+        boolean firstCondition = true;
+        for (String type : types) {
+            if (!firstCondition) {
+                jpql.append(" OR ");
+            }
+            switch (type) {
+                case "t": // 제목 (title) 검색
+                    jpql.append("i.title LIKE :keyword");
+                    break;
+                case "c": // 내용 (content) 검색
+                    jpql.append("i.content LIKE :keyword");
+                    break;
+                case "w": // 작성자 (writer/member name) 검색
+                    jpql.append("m.name LIKE :keyword"); // m은 member의 별칭
+                    break;
+                // 추가적인 검색 조건이 있다면 여기에 case 추가
+            }
+            firstCondition = false;
+        }
+        jpql.append(")");
+    }
 }
\ No newline at end of file
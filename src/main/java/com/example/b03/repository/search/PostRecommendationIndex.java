@@ -0,0 +1,490 @@
+package com.example.b03.repository.search;
+
+import com.example.b03.dto.PostSummaryDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// ⭐ 회원별 채용공고 추천 (메모리, 회원마다 점수 상위 topK개를 미리 계산)
+// - 회원 벡터: 지원한 공고의 직무 카테고리 합 (공고 하나가 카테고리 n개면 각각 1/n씩, 지원할수록 커짐)
+// - 공고 벡터: 직무 카테고리마다 1/√n (길이 1)
+// - 점수: 코사인 유사도 = Σ 회원[c] / (|회원| × √n), 이미 지원한 공고는 제외
+// 후보는 회원이 가진 카테고리의 열린 공고만 보고, 카테고리 조합이 같은 공고는 점수가 같으므로 조합마다 한 번만 계산합니다.
+//
+// 갱신 (모두 커밋 후에 호출):
+// - 지원/지원 취소 → 그 회원만 다시 계산
+// - 공고 등록 → 그 공고의 카테고리를 가진 회원들의 상위 목록에 끼워 넣기만 함 (전체 재계산 없음)
+// - 공고 마감 → 그 공고가 상위 목록에 있던 회원만 다시 계산
+// 전체 재구성(PostRecommendationIndexLoader)은 회원들을 ForkJoinPool로 나눠 병렬로 계산합니다.
+// 조회는 DB를 읽지 않고, 공고 요약(PostSummaryDTO)도 여기 들고 있는 것으로 돌려줍니다.
+@Component
+@Log4j2
+public class PostRecommendationIndex {
+
+    // 추천 결과 한 건 (score: 0~1)
+    public record Recommendation(PostSummaryDTO post, double score) {
+    }
+
+    // 추천 후보로 넣을 열린 공고
+    public record Candidate(PostSummaryDTO post, Collection<Integer> jobCategoryIds) {
+    }
+
+    // 전체 재구성 때 loader가 채우는 곳
+    public interface Sink {
+
+        // 추천 후보 (열린 공고)
+        void addOpenPost(PostSummaryDTO post, Collection<Integer> jobCategoryIds);
+
+        // 지원 이력에만 쓰이는 공고 (마감된 공고 등)의 직무 카테고리
+        void addPostCategories(Integer postId, Collection<Integer> jobCategoryIds);
+
+        void addApplication(Integer memberNo, Integer postId);
+    }
+
+    // 한 작업이 맡는 회원 수 (이보다 많으면 반으로 나눔)
+    private static final int SPLIT_THRESHOLD = 256;
+
+    private static final Comparator<Scored> BEST_FIRST =
+            Comparator.comparingDouble(Scored::score).reversed().thenComparing(Comparator.comparingInt(Scored::postId).reversed());
+
+    private final int topK;
+
+    private final ForkJoinPool pool;
+
+    private volatile Data data = new Data();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 재구성 중에 들어온 변경 사항 (교체 직후 새 색인에 다시 적용)
+    private List<Consumer<Data>> pendingDuringRebuild;
+
+    private volatile boolean ready = false;
+
+    // parallelism: 0이면 CPU 코어 수
+    public PostRecommendationIndex(@Value("${post.recommendation.top-k:20}") int topK,
+                                   @Value("${post.recommendation.parallelism:0}") int parallelism) {
+        this.topK = topK;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.shutdown();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * 회원의 추천 공고를 점수가 높은 순으로 최대 limit개 돌려줍니다. (지원 이력이 없으면 빈 목록)
+     */
+    public List<Recommendation> recommend(Integer memberNo, int limit) {
+        lock.readLock().lock();
+        try {
+            Data current = data;
+            Profile profile = current.profiles.get(memberNo);
+            if (profile == null) {
+                return List.of();
+            }
+            List<Recommendation> result = new ArrayList<>(Math.min(limit, profile.top.size()));
+            for (Scored scored : profile.top) {
+                if (result.size() == limit) {
+                    break;
+                }
+                PostSummaryDTO post = current.openPosts.get(scored.postId());
+                if (post != null) {
+                    result.add(new Recommendation(post, scored.score()));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void addApplication(Integer memberNo, Integer postId) {
+        apply(target -> target.changeApplication(memberNo, postId, true, topK));
+    }
+
+    public void removeApplication(Integer memberNo, Integer postId) {
+        apply(target -> target.changeApplication(memberNo, postId, false, topK));
+    }
+
+    public void addPosts(Collection<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        apply(target -> candidates.forEach(candidate -> target.addOpenPost(candidate.post(), candidate.jobCategoryIds(), topK)));
+    }
+
+    // 마감/삭제된 공고를 후보에서 뺌 (지원 이력 계산에 쓰이므로 카테고리는 남겨 둠)
+    public void removePosts(Collection<Integer> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        apply(target -> target.removeOpenPosts(postIds, topK));
+    }
+
+    /**
+     * 추천을 처음부터 다시 만듭니다.
+     * loader가 sink에 공고/지원 이력을 모두 넣으면 회원별 상위 목록을 병렬로 계산하고 교체합니다.
+     * 그동안 조회/갱신은 기존 데이터로 계속 동작합니다.
+     */
+    public void rebuild(Consumer<Sink> loader) {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Data fresh = new Data();
+        long startedAt = System.nanoTime();
+        try {
+            loader.accept(fresh.sink());
+            fresh.buildProfiles();
+            pool.invoke(new TopKTask(fresh, fresh.profiles.values().toArray(Profile[]::new), 0, fresh.profiles.size(), topK));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Consumer<Data> change : pendingDuringRebuild) {
+                change.accept(fresh);
+            }
+            pendingDuringRebuild = null;
+            data = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("채용공고 추천 재구성 완료: 회원 " + fresh.profiles.size() + "명, 후보 공고 " + fresh.openPosts.size() + "건, "
+                + (System.nanoTime() - startedAt) / 1_000_000 + "ms (병렬 " + pool.getParallelism() + ")");
+    }
+
+    private void apply(Consumer<Data> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(data);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Scored(int postId, double score) {
+    }
+
+    // 회원 한 명의 지원 이력과 상위 목록
+    private static final class Profile {
+
+        final Set<Integer> appliedPostIds = new HashSet<>();
+        final Map<Integer, Double> weights = new HashMap<>();
+        double norm;
+        List<Scored> top = List.of(); // BEST_FIRST 순, 통째로 교체
+    }
+
+    // 회원 묶음을 반씩 나눠 상위 목록 계산 (각 작업은 자기 회원의 top만 씀)
+    private static final class TopKTask extends RecursiveAction {
+
+        private final Data data;
+        private final Profile[] profiles;
+        private final int from;
+        private final int to;
+        private final int topK;
+
+        TopKTask(Data data, Profile[] profiles, int from, int to, int topK) {
+            this.data = data;
+            this.profiles = profiles;
+            this.from = from;
+            this.to = to;
+            this.topK = topK;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    profiles[i].top = data.topFor(profiles[i], topK);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new TopKTask(data, profiles, from, mid, topK), new TopKTask(data, profiles, mid, to, topK));
+        }
+    }
+
+    // 직무 카테고리 조합이 같은 열린 공고 묶음 (같은 묶음의 공고는 어떤 회원에게나 점수가 같음)
+    private static final class Group {
+
+        final int[] categories;
+        final NavigableSet<Integer> postIds = new TreeSet<>(Comparator.reverseOrder()); // 최신 공고(큰 id) 먼저
+
+        Group(int[] categories) {
+            this.categories = categories;
+        }
+    }
+
+    // 추천 본체 (재구성 시 통째로 교체)
+    private static final class Data {
+
+        final Map<Integer, int[]> categoriesByPost = new HashMap<>();
+        final Map<Integer, PostSummaryDTO> openPosts = new HashMap<>();
+        final Map<List<Integer>, Group> groups = new HashMap<>();
+        final Map<Integer, Set<Group>> groupsByCategory = new HashMap<>();
+        final Map<Integer, Profile> profiles = new HashMap<>();
+        final Map<Integer, Set<Integer>> membersByCategory = new HashMap<>();
+
+        Sink sink() {
+            return new Sink() {
+                @Override
+                public void addOpenPost(PostSummaryDTO post, Collection<Integer> jobCategoryIds) {
+                    registerOpenPost(post, jobCategoryIds);
+                }
+
+                @Override
+                public void addPostCategories(Integer postId, Collection<Integer> jobCategoryIds) {
+                    categoriesByPost.put(postId, toArray(jobCategoryIds));
+                }
+
+                @Override
+                public void addApplication(Integer memberNo, Integer postId) {
+                    profiles.computeIfAbsent(memberNo, key -> new Profile()).appliedPostIds.add(postId);
+                }
+            };
+        }
+
+        // 지원 이력을 다 넣은 뒤 회원 벡터를 한 번에 계산 (재구성 때만)
+        void buildProfiles() {
+            profiles.forEach((memberNo, profile) -> recomputeWeights(memberNo, profile));
+        }
+
+        void registerOpenPost(PostSummaryDTO post, Collection<Integer> jobCategoryIds) {
+            int[] categories = toArray(jobCategoryIds);
+            categoriesByPost.put(post.getPostId(), categories);
+            openPosts.put(post.getPostId(), post);
+            if (categories.length == 0) {
+                return; // 카테고리가 없는 공고는 누구에게도 점수가 0
+            }
+            Group group = groups.computeIfAbsent(key(categories), key -> {
+                Group created = new Group(categories);
+                for (int category : categories) {
+                    groupsByCategory.computeIfAbsent(category, ignored -> new HashSet<>()).add(created);
+                }
+                return created;
+            });
+            group.postIds.add(post.getPostId());
+        }
+
+        void addOpenPost(PostSummaryDTO post, Collection<Integer> jobCategoryIds, int topK) {
+            registerOpenPost(post, jobCategoryIds);
+            int postId = post.getPostId();
+            int[] categories = categoriesByPost.get(postId);
+
+            // 이 공고와 카테고리가 겹치는 회원의 상위 목록에만 끼워 넣음
+            Set<Integer> members = new HashSet<>();
+            for (int category : categories) {
+                members.addAll(membersByCategory.getOrDefault(category, Set.of()));
+            }
+            for (Integer memberNo : members) {
+                Profile profile = profiles.get(memberNo);
+                if (!profile.appliedPostIds.contains(postId)) {
+                    profile.top = insert(profile.top, new Scored(postId, score(profile, categories)), topK);
+                }
+            }
+        }
+
+        void removeOpenPosts(Collection<Integer> postIds, int topK) {
+            Set<Integer> affected = new HashSet<>();
+            for (Integer postId : postIds) {
+                if (openPosts.remove(postId) == null) {
+                    continue;
+                }
+                int[] categories = categoriesByPost.get(postId);
+                if (categories.length == 0) {
+                    continue;
+                }
+                List<Integer> key = key(categories);
+                Group group = groups.get(key);
+                if (group != null && group.postIds.remove(postId) && group.postIds.isEmpty()) {
+                    groups.remove(key);
+                    for (int category : categories) {
+                        Set<Group> categoryGroups = groupsByCategory.get(category);
+                        if (categoryGroups != null && categoryGroups.remove(group) && categoryGroups.isEmpty()) {
+                            groupsByCategory.remove(category);
+                        }
+                    }
+                }
+                for (int category : categories) {
+                    affected.addAll(membersByCategory.getOrDefault(category, Set.of()));
+                }
+            }
+            for (Integer memberNo : affected) {
+                Profile profile = profiles.get(memberNo);
+                if (profile.top.stream().anyMatch(scored -> postIds.contains(scored.postId()))) {
+                    profile.top = topFor(profile, topK);
+                }
+            }
+        }
+
+        void changeApplication(Integer memberNo, Integer postId, boolean applied, int topK) {
+            Profile profile = profiles.computeIfAbsent(memberNo, key -> new Profile());
+            boolean changed = applied ? profile.appliedPostIds.add(postId) : profile.appliedPostIds.remove(postId);
+            if (!changed) {
+                return;
+            }
+            recomputeWeights(memberNo, profile);
+            if (profile.appliedPostIds.isEmpty()) {
+                profiles.remove(memberNo);
+                return;
+            }
+            profile.top = topFor(profile, topK);
+        }
+
+        private void recomputeWeights(Integer memberNo, Profile profile) {
+            for (Integer category : profile.weights.keySet()) {
+                Set<Integer> members = membersByCategory.get(category);
+                if (members != null && members.remove(memberNo) && members.isEmpty()) {
+                    membersByCategory.remove(category);
+                }
+            }
+            profile.weights.clear();
+            for (Integer appliedPostId : profile.appliedPostIds) {
+                int[] categories = categoriesByPost.get(appliedPostId);
+                if (categories == null || categories.length == 0) {
+                    continue; // 카테고리가 없는 공고는 취향에 반영하지 않음
+                }
+                for (int category : categories) {
+                    profile.weights.merge(category, 1.0 / categories.length, Double::sum);
+                }
+            }
+            double sumOfSquares = 0;
+            for (Map.Entry<Integer, Double> entry : profile.weights.entrySet()) {
+                sumOfSquares += entry.getValue() * entry.getValue();
+                membersByCategory.computeIfAbsent(entry.getKey(), key -> new HashSet<>()).add(memberNo);
+            }
+            profile.norm = Math.sqrt(sumOfSquares);
+        }
+
+        /**
+         * 회원의 상위 topK개 (읽기만 하므로 병렬 계산 가능)
+         * 공고마다 점수를 매기지 않고 카테고리 조합(Group)마다 한 번만 계산한 뒤,
+         * 점수가 높은 묶음부터 최신 공고 순으로 꺼냄 → 비용이 공고 수가 아니라 조합 수 + topK에 비례
+         */
+        List<Scored> topFor(Profile profile, int topK) {
+            if (profile.weights.isEmpty()) {
+                return List.of();
+            }
+            Set<Group> candidates = new HashSet<>();
+            for (Integer category : profile.weights.keySet()) {
+                candidates.addAll(groupsByCategory.getOrDefault(category, Set.of()));
+            }
+            List<Map.Entry<Group, Double>> scoredGroups = new ArrayList<>(candidates.size());
+            for (Group group : candidates) {
+                scoredGroups.add(Map.entry(group, score(profile, group.categories)));
+            }
+            scoredGroups.sort(Map.Entry.<Group, Double>comparingByValue().reversed());
+
+            List<Scored> top = new ArrayList<>(topK);
+            int i = 0;
+            while (i < scoredGroups.size() && top.size() < topK) {
+                // 점수가 같은 묶음끼리는 각 묶음의 최신 공고부터 합쳐 나감 (k-way merge, 묶음이 많아도 topK개만 봄)
+                double score = scoredGroups.get(i).getValue();
+                PriorityQueue<PeekingIterator> tied = new PriorityQueue<>();
+                for (; i < scoredGroups.size() && scoredGroups.get(i).getValue() == score; i++) {
+                    PeekingIterator iterator = new PeekingIterator(scoredGroups.get(i).getKey().postIds.iterator());
+                    if (iterator.head != null) {
+                        tied.add(iterator);
+                    }
+                }
+                while (!tied.isEmpty() && top.size() < topK) {
+                    PeekingIterator newest = tied.poll();
+                    if (!profile.appliedPostIds.contains(newest.head)) {
+                        top.add(new Scored(newest.head, score));
+                    }
+                    if (newest.advance()) {
+                        tied.add(newest);
+                    }
+                }
+            }
+            return List.copyOf(top);
+        }
+
+        // 묶음 안의 공고 id를 큰 것부터 하나씩 (head가 큰 것이 먼저 나오도록 비교)
+        private static final class PeekingIterator implements Comparable<PeekingIterator> {
+
+            private final Iterator<Integer> iterator;
+            Integer head;
+
+            PeekingIterator(Iterator<Integer> iterator) {
+                this.iterator = iterator;
+                advance();
+            }
+
+            boolean advance() {
+                head = iterator.hasNext() ? iterator.next() : null;
+                return head != null;
+            }
+
+            @Override
+            public int compareTo(PeekingIterator other) {
+                return Integer.compare(other.head, head);
+            }
+        }
+
+        private static double score(Profile profile, int[] categories) {
+            double dot = 0;
+            for (int category : categories) {
+                dot += profile.weights.getOrDefault(category, 0.0);
+            }
+            return dot / (profile.norm * Math.sqrt(categories.length));
+        }
+
+        private static List<Scored> insert(List<Scored> top, Scored scored, int topK) {
+            if (scored.score() <= 0 || (top.size() == topK && BEST_FIRST.compare(scored, top.get(top.size() - 1)) >= 0)) {
+                return top;
+            }
+            List<Scored> updated = new ArrayList<>(top.size() + 1);
+            for (Scored existing : top) {
+                if (existing.postId() != scored.postId()) {
+                    updated.add(existing);
+                }
+            }
+            int position = Collections.binarySearch(updated, scored, BEST_FIRST);
+            updated.add(position < 0 ? -position - 1 : position, scored);
+            return List.copyOf(updated.size() > topK ? updated.subList(0, topK) : updated);
+        }
+
+        private static int[] toArray(Collection<Integer> jobCategoryIds) {
+            if (jobCategoryIds == null) {
+                return new int[0];
+            }
+            return jobCategoryIds.stream().distinct().sorted().mapToInt(Integer::intValue).toArray();
+        }
+
+        private static List<Integer> key(int[] categories) {
+            return Arrays.stream(categories).boxed().toList();
+        }
+    }
+}
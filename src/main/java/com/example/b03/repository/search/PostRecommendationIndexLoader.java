@@ -0,0 +1,128 @@
+package com.example.b03.repository.search;
+
+import com.example.b03.dto.PostSummaryDTO;
+import com.example.b03.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+// ⭐ PostRecommendationIndex를 DB 내용으로 다시 만드는 컴포넌트
+// 애플리케이션 시작 시 한 번 실행되고, 평소에는 커밋 후 갱신으로 따라가다가 post.recommendation.rebuild-cron(매일 0시 30분)에 통째로 다시 만듭니다.
+// 1) 열린 공고를 postId 순으로 batchSize개씩 + 그 공고들의 직무 카테고리를 IN 쿼리 한 번으로
+// 2) 삭제되지 않은 지원서를 applicationId 순으로 batchSize개씩 + 아직 읽지 않은(마감된) 공고의 직무 카테고리
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class PostRecommendationIndexLoader implements ApplicationRunner {
+
+    private final PostRecommendationIndex postRecommendationIndex;
+    private final PostRepository postRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${post.recommendation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${post.recommendation.rebuild-batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("채용공고 추천 사용 안 함");
+            return;
+        }
+        rebuild();
+    }
+
+    @Scheduled(cron = "${post.recommendation.rebuild-cron:0 30 0 * * *}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        postRecommendationIndex.rebuild(sink -> {
+            Set<Integer> loadedPostIds = new HashSet<>();
+
+            int lastPostId = 0;
+            while (true) {
+                List<PostSummaryDTO> posts = postRepository.findOpenSummariesAfter(lastPostId, today, PageRequest.of(0, batchSize));
+                if (posts.isEmpty()) {
+                    break;
+                }
+                List<Integer> postIds = posts.stream().map(PostSummaryDTO::getPostId).toList();
+                Map<Integer, List<Integer>> categories = loadCategories(postIds);
+                for (PostSummaryDTO post : posts) {
+                    sink.addOpenPost(post, categories.getOrDefault(post.getPostId(), List.of()));
+                }
+                loadedPostIds.addAll(postIds);
+                entityManager.clear();
+                if (posts.size() < batchSize) {
+                    break;
+                }
+                lastPostId = postIds.get(postIds.size() - 1);
+            }
+
+            int lastApplicationId = 0;
+            while (true) {
+                List<Object[]> rows = entityManager.createQuery(
+                                "SELECT a.applicationId, a.member.memberNo, a.post.postId FROM Application a " +
+                                        "WHERE a.isDeleted = FALSE AND a.applicationId > :lastId ORDER BY a.applicationId ASC", Object[].class)
+                        .setParameter("lastId", lastApplicationId)
+                        .setMaxResults(batchSize)
+                        .getResultList();
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                // 마감된 공고에 지원한 이력도 취향에 반영 → 그 공고의 카테고리만 따로 읽음
+                Set<Integer> missing = new HashSet<>();
+                for (Object[] row : rows) {
+                    if (!loadedPostIds.contains((Integer) row[2])) {
+                        missing.add((Integer) row[2]);
+                    }
+                }
+                if (!missing.isEmpty()) {
+                    Map<Integer, List<Integer>> categories = loadCategories(missing);
+                    for (Integer postId : missing) {
+                        sink.addPostCategories(postId, categories.getOrDefault(postId, List.of()));
+                    }
+                    loadedPostIds.addAll(missing);
+                }
+
+                for (Object[] row : rows) {
+                    sink.addApplication((Integer) row[1], (Integer) row[2]);
+                }
+                entityManager.clear();
+                if (rows.size() < batchSize) {
+                    break;
+                }
+                lastApplicationId = (Integer) rows.get(rows.size() - 1)[0];
+            }
+        });
+    }
+
+    private Map<Integer, List<Integer>> loadCategories(Collection<Integer> postIds) {
+        Map<Integer, List<Integer>> categories = new HashMap<>();
+        entityManager.createQuery(
+                        "SELECT pjc.postId, pjc.jobCategoryId FROM PostJobCategory pjc WHERE pjc.postId IN :postIds", Object[].class)
+                .setParameter("postIds", postIds)
+                .getResultList()
+                .forEach(row -> categories.computeIfAbsent((Integer) row[0], key -> new ArrayList<>()).add((Integer) row[1]));
+        return categories;
+    }
+}
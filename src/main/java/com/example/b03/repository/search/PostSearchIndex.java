@@ -0,0 +1,462 @@
+package com.example.b03.repository.search;
+
+import lombok.extern.log4j.Log4j2;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// ⭐ 채용공고 검색 + facet 개수용 메모리 색인 (공고 id 압축 비트맵, RoaringBitmap)
+// - 제목/설명: 단어(토큰) → 공고 id 비트맵, 검색어의 각 단어로 "시작하는" 단어가 모두 있는 공고를 찾음
+//   ("개발"로 "개발자를", "개발팀" 모두 검색됨, 한국어 조사가 붙은 단어 대응)
+// - facet: 직무 카테고리 / 지역(정규화) / 마감 구간마다 공고 id 비트맵을 두고, AND/OR/ANDNOT으로 필터와 facet 개수를 계산
+//   facet 개수는 자기 facet의 선택을 뺀 나머지 조건으로 셈 (다중 선택 facet, 다른 값을 골랐을 때의 개수가 보이도록)
+// - 마감 구간(3일 이내, 7일 이내 ...)은 날짜가 바뀌면 달라지므로 마감일별 비트맵에서 하루 한 번 다시 만듦
+// - Roaring은 id 범위(65536개)마다 드문 구간은 정렬 배열, 빽빽한 구간은 비트맵, 연속 구간은 run으로 저장하므로
+//   공고가 적은 카테고리/지역도 id 범위 전체 크기의 비트맵을 차지하지 않음 (getStats()로 실제 크기 확인)
+// - DB(post_job_categories 조인, location/deadline 조건)는 필터에 쓰지 않고, 결과 한 페이지를 읽을 때만 사용
+//
+// 갱신은 PostImportServiceImpl에서 커밋 후에, 전체 재구성은 PostSearchIndexLoader에서 합니다.
+@Component
+@Log4j2
+public class PostSearchIndex {
+
+    // 마감 구간 (겹치지 않음)
+    public enum DeadlineWindow {
+        EXPIRED, WITHIN_3_DAYS, WITHIN_7_DAYS, WITHIN_30_DAYS, LATER, NO_DEADLINE;
+
+        static DeadlineWindow of(LocalDate deadline, LocalDate today) {
+            if (deadline == null) {
+                return NO_DEADLINE;
+            }
+            if (deadline.isBefore(today)) {
+                return EXPIRED;
+            }
+            if (!deadline.isAfter(today.plusDays(3))) {
+                return WITHIN_3_DAYS;
+            }
+            if (!deadline.isAfter(today.plusDays(7))) {
+                return WITHIN_7_DAYS;
+            }
+            if (!deadline.isAfter(today.plusDays(30))) {
+                return WITHIN_30_DAYS;
+            }
+            return LATER;
+        }
+    }
+
+    // 색인 대상 문서 (공고 1건)
+    public record Document(Integer postId, String title, String description, String location, LocalDate deadline,
+                           Collection<Integer> jobCategoryIds) {
+    }
+
+    // 검색 조건 (각 facet 안에서는 OR, facet끼리는 AND, 비어 있으면 조건 없음)
+    // excludedJobCategoryIds: 이 직무 카테고리가 하나라도 붙은 공고는 제외 (ANDNOT)
+    public record Query(String keyword, Set<Integer> jobCategoryIds, Set<String> locations, Set<DeadlineWindow> deadlines,
+                        Set<Integer> excludedJobCategoryIds) {
+
+        public Query(String keyword, Set<Integer> jobCategoryIds, Set<String> locations, Set<DeadlineWindow> deadlines) {
+            this(keyword, jobCategoryIds, locations, deadlines, Set.of());
+        }
+    }
+
+    // 색인 크기 (bytes: 직렬화 기준 비트맵 크기 합계)
+    public record Stats(int posts, int tokens, long tokenBytes, int jobCategories, int locations, long facetBytes) {
+    }
+
+    // 검색 결과 (postIds: 최신순 한 페이지, 개수가 0인 facet 값은 빠짐)
+    public record Result(int total, List<Integer> postIds, Map<Integer, Integer> jobCategoryCounts,
+                         Map<String, Integer> locationCounts, Map<DeadlineWindow, Integer> deadlineCounts) {
+    }
+
+    private final Clock clock;
+
+    private volatile Data data = new Data();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 재구성 중에 들어온 변경 사항 (교체 직후 새 색인에 다시 적용)
+    private List<Consumer<Data>> pendingDuringRebuild;
+
+    private volatile boolean ready = false;
+
+    public PostSearchIndex() {
+        this(Clock.systemDefaultZone());
+    }
+
+    PostSearchIndex(Clock clock) {
+        this.clock = clock;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Result search(Query query, int offset, int limit) {
+        LocalDate today = LocalDate.now(clock);
+        refreshDeadlineWindows(today);
+
+        lock.readLock().lock();
+        try {
+            Data current = data;
+            RoaringBitmap text = current.matchText(query.keyword());
+            RoaringBitmap excluded = union(query.excludedJobCategoryIds(), current.categories::get);
+            if (excluded != null) {
+                text = RoaringBitmap.andNot(text, excluded); // 제외 조건은 모든 facet 개수에도 적용
+            }
+            RoaringBitmap categories = union(query.jobCategoryIds(), current.categories::get);
+            RoaringBitmap locations = union(normalizeLocations(query.locations()), current.locations::get);
+            RoaringBitmap deadlines = union(query.deadlines(), current.windows::get);
+
+            RoaringBitmap matches = intersect(text, categories, locations, deadlines);
+            return new Result(
+                    matches.getCardinality(),
+                    page(matches, offset, limit),
+                    counts(intersect(text, null, locations, deadlines), current.categories),
+                    counts(intersect(text, categories, null, deadlines), current.locations),
+                    counts(intersect(text, categories, locations, null), current.windows));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats getStats() {
+        lock.readLock().lock();
+        try {
+            return data.stats();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(Document document) {
+        apply(target -> target.add(document));
+    }
+
+    public void remove(Document document) {
+        apply(target -> target.remove(document));
+    }
+
+    // 수정 시: 이전 내용을 지우고 새 내용으로 다시 색인
+    public void update(Document before, Document after) {
+        apply(target -> {
+            target.remove(before);
+            target.add(after);
+        });
+    }
+
+    /**
+     * 색인을 처음부터 다시 만듭니다.
+     * loader는 전달받은 sink에 모든 문서를 넣어야 하며, 읽는 동안에도 검색/갱신은 기존 색인으로 계속 동작합니다.
+     */
+    public void rebuild(Consumer<Consumer<Document>> loader) {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Data fresh = new Data();
+        int[] count = {0};
+        try {
+            loader.accept(document -> {
+                fresh.add(document);
+                count[0]++;
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 재구성 중 변경된 내용 재적용 (add/remove 모두 여러 번 적용해도 결과가 같음)
+            for (Consumer<Data> change : pendingDuringRebuild) {
+                change.accept(fresh);
+            }
+            pendingDuringRebuild = null;
+            fresh.runOptimize();
+            data = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("채용공고 검색 색인 재구성 완료: " + count[0] + "건, " + fresh.stats());
+    }
+
+    private void apply(Consumer<Data> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(data);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 날짜가 바뀌었으면 마감 구간 비트맵을 다시 만듦 (하루 한 번)
+    private void refreshDeadlineWindows(LocalDate today) {
+        if (today.equals(data.windowsDate)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            data.rebuildWindows(today);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static <K> RoaringBitmap union(Set<K> keys, Function<K, RoaringBitmap> lookup) {
+        if (keys == null || keys.isEmpty()) {
+            return null;
+        }
+        List<RoaringBitmap> bitmaps = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            RoaringBitmap bitmap = lookup.apply(key);
+            if (bitmap != null) {
+                bitmaps.add(bitmap);
+            }
+        }
+        return FastAggregation.or(bitmaps.iterator());
+    }
+
+    // null인 조건은 건너뜀 (첫 번째 조건 text는 항상 있음, 원본 비트맵은 바꾸지 않음)
+    private static RoaringBitmap intersect(RoaringBitmap text, RoaringBitmap... filters) {
+        RoaringBitmap result = null;
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result = RoaringBitmap.and(result == null ? text : result, filter);
+            }
+        }
+        return result == null ? text : result;
+    }
+
+    private static <K> Map<K, Integer> counts(RoaringBitmap base, Map<K, RoaringBitmap> facet) {
+        List<Map.Entry<K, Integer>> entries = new ArrayList<>();
+        facet.forEach((key, bitmap) -> {
+            int count = RoaringBitmap.andCardinality(base, bitmap); // 교집합을 만들지 않고 개수만 셈
+            if (count > 0) {
+                entries.add(Map.entry(key, count));
+            }
+        });
+        entries.sort(Map.Entry.<K, Integer>comparingByValue().reversed());
+        Map<K, Integer> result = new LinkedHashMap<>();
+        entries.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    // 최신순(id 내림차순)으로 offset부터 limit개 (select로 바로 찾아가므로 뒤쪽 페이지도 앞에서부터 세지 않음)
+    private static List<Integer> page(RoaringBitmap matches, int offset, int limit) {
+        int total = matches.getCardinality();
+        List<Integer> postIds = new ArrayList<>(Math.max(0, Math.min(limit, total - offset)));
+        for (int i = offset; i < total && postIds.size() < limit; i++) {
+            postIds.add(matches.select(total - 1 - i));
+        }
+        return postIds;
+    }
+
+    private static Set<String> normalizeLocations(Set<String> locations) {
+        if (locations == null) {
+            return null;
+        }
+        Set<String> normalized = new HashSet<>();
+        for (String location : locations) {
+            String key = normalizeLocation(location);
+            if (key != null) {
+                normalized.add(key);
+            }
+        }
+        return normalized;
+    }
+
+    private static final List<String> REGION_SUFFIXES = List.of("특별자치시", "특별자치도", "특별시", "광역시", "시", "도");
+
+    /**
+     * 지역 facet 키: 첫 단어(시/도)만, 행정구역 접미사 제거, 소문자
+     * "서울특별시 강남구", "서울시 마포구", "서울" → "서울" / "경기도 성남시" → "경기" / 비어 있으면 null
+     */
+    public static String normalizeLocation(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        String region = location.trim().split("[\\s,/()]+", 2)[0].toLowerCase(Locale.ROOT);
+        for (String suffix : REGION_SUFFIXES) {
+            if (region.length() > suffix.length() + 1 && region.endsWith(suffix)) {
+                return region.substring(0, region.length() - suffix.length());
+            }
+        }
+        return region;
+    }
+
+    // 제목/설명 단어 (글자/숫자가 아닌 문자로 나눔, 소문자, 중복 제거)
+    static Set<String> tokensOf(String... texts) {
+        Set<String> tokens = new HashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // 색인 본체 (재구성 시 통째로 교체)
+    private static final class Data {
+
+        final TreeMap<String, RoaringBitmap> tokens = new TreeMap<>();
+        final Map<Integer, RoaringBitmap> categories = new HashMap<>();
+        final Map<String, RoaringBitmap> locations = new HashMap<>();
+        final TreeMap<LocalDate, RoaringBitmap> deadlineDates = new TreeMap<>();
+        final RoaringBitmap noDeadline = new RoaringBitmap();
+        final RoaringBitmap all = new RoaringBitmap();
+
+        // windowsDate 기준 마감 구간 비트맵
+        final Map<DeadlineWindow, RoaringBitmap> windows = new EnumMap<>(DeadlineWindow.class);
+        volatile LocalDate windowsDate;
+
+        void add(Document document) {
+            int postId = document.postId();
+            all.add(postId);
+            for (String token : tokensOf(document.title(), document.description())) {
+                tokens.computeIfAbsent(token, key -> new RoaringBitmap()).add(postId);
+            }
+            if (document.jobCategoryIds() != null) {
+                for (Integer jobCategoryId : document.jobCategoryIds()) {
+                    categories.computeIfAbsent(jobCategoryId, key -> new RoaringBitmap()).add(postId);
+                }
+            }
+            String location = normalizeLocation(document.location());
+            if (location != null) {
+                locations.computeIfAbsent(location, key -> new RoaringBitmap()).add(postId);
+            }
+            if (document.deadline() == null) {
+                noDeadline.add(postId);
+            } else {
+                deadlineDates.computeIfAbsent(document.deadline(), key -> new RoaringBitmap()).add(postId);
+            }
+            if (windowsDate != null) {
+                windows.computeIfAbsent(DeadlineWindow.of(document.deadline(), windowsDate), key -> new RoaringBitmap()).add(postId);
+            }
+        }
+
+        void remove(Document document) {
+            int postId = document.postId();
+            all.remove(postId);
+            for (String token : tokensOf(document.title(), document.description())) {
+                removeFrom(tokens, token, postId);
+            }
+            if (document.jobCategoryIds() != null) {
+                for (Integer jobCategoryId : document.jobCategoryIds()) {
+                    removeFrom(categories, jobCategoryId, postId);
+                }
+            }
+            String location = normalizeLocation(document.location());
+            if (location != null) {
+                removeFrom(locations, location, postId);
+            }
+            if (document.deadline() == null) {
+                noDeadline.remove(postId);
+            } else {
+                removeFrom(deadlineDates, document.deadline(), postId);
+            }
+            for (RoaringBitmap window : windows.values()) {
+                window.remove(postId);
+            }
+        }
+
+        private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int postId) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                bitmap.remove(postId);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+
+        // 재구성 직후 연속 구간을 run 컨테이너로 바꿔 크기를 줄임 (대량 등록한 공고는 id가 연속)
+        void runOptimize() {
+            tokens.values().forEach(RoaringBitmap::runOptimize);
+            categories.values().forEach(RoaringBitmap::runOptimize);
+            locations.values().forEach(RoaringBitmap::runOptimize);
+            deadlineDates.values().forEach(RoaringBitmap::runOptimize);
+            noDeadline.runOptimize();
+            all.runOptimize();
+        }
+
+        Stats stats() {
+            long tokenBytes = 0;
+            for (RoaringBitmap bitmap : tokens.values()) {
+                tokenBytes += bitmap.getLongSizeInBytes();
+            }
+            long facetBytes = all.getLongSizeInBytes() + noDeadline.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : categories.values()) {
+                facetBytes += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : locations.values()) {
+                facetBytes += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : deadlineDates.values()) {
+                facetBytes += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : windows.values()) {
+                facetBytes += bitmap.getLongSizeInBytes();
+            }
+            return new Stats(all.getCardinality(), tokens.size(), tokenBytes, categories.size(), locations.size(), facetBytes);
+        }
+
+        void rebuildWindows(LocalDate today) {
+            if (today.equals(windowsDate)) {
+                return; // 다른 스레드가 먼저 만듦
+            }
+            Map<DeadlineWindow, List<RoaringBitmap>> byWindow = new EnumMap<>(DeadlineWindow.class);
+            deadlineDates.forEach((deadline, bitmap) -> byWindow
+                    .computeIfAbsent(DeadlineWindow.of(deadline, today), key -> new ArrayList<>()).add(bitmap));
+
+            windows.clear();
+            byWindow.forEach((window, bitmaps) -> {
+                RoaringBitmap merged = FastAggregation.or(bitmaps.iterator());
+                merged.runOptimize();
+                windows.put(window, merged);
+            });
+            if (!noDeadline.isEmpty()) {
+                windows.put(DeadlineWindow.NO_DEADLINE, noDeadline.clone());
+            }
+            windowsDate = today;
+        }
+
+        // 검색어의 각 단어로 시작하는 단어가 모두 있는 공고 (검색어가 없으면 전체)
+        RoaringBitmap matchText(String keyword) {
+            Set<String> queryTokens = tokensOf(keyword);
+            if (queryTokens.isEmpty()) {
+                return all;
+            }
+            RoaringBitmap result = null;
+            for (String queryToken : queryTokens) {
+                RoaringBitmap matched = FastAggregation.or(
+                        tokens.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false).values().iterator());
+                result = result == null ? matched : RoaringBitmap.and(result, matched);
+            }
+            return result;
+        }
+    }
+}
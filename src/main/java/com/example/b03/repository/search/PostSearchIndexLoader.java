@@ -0,0 +1,81 @@
+package com.example.b03.repository.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// ⭐ PostSearchIndex를 DB 내용으로 다시 만드는 컴포넌트
+// 애플리케이션 시작 시 한 번 실행되고, 필요하면 rebuild()를 직접 호출해서 다시 만들 수 있습니다.
+// 삭제되지 않은 공고를 postId 순으로 batchSize개씩 끊어 읽고, 그 공고들의 직무 카테고리는 IN 쿼리 한 번으로 읽습니다.
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class PostSearchIndexLoader implements ApplicationRunner {
+
+    private final PostSearchIndex postSearchIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${post.search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${post.search.index.rebuild-batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("채용공고 검색 색인 사용 안 함");
+            return;
+        }
+        rebuild();
+    }
+
+    public void rebuild() {
+        postSearchIndex.rebuild(sink -> {
+            int lastId = 0;
+            while (true) {
+                List<Object[]> rows = entityManager.createQuery(
+                                "SELECT p.postId, p.title, p.description, p.location, p.deadline FROM Post p " +
+                                        "WHERE p.isDeleted = FALSE AND p.postId > :lastId ORDER BY p.postId ASC", Object[].class)
+                        .setParameter("lastId", lastId)
+                        .setMaxResults(batchSize)
+                        .getResultList();
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                List<Integer> postIds = rows.stream().map(row -> (Integer) row[0]).toList();
+                Map<Integer, List<Integer>> categories = new HashMap<>();
+                entityManager.createQuery(
+                                "SELECT pjc.postId, pjc.jobCategoryId FROM PostJobCategory pjc WHERE pjc.postId IN :postIds", Object[].class)
+                        .setParameter("postIds", postIds)
+                        .getResultList()
+                        .forEach(row -> categories.computeIfAbsent((Integer) row[0], key -> new ArrayList<>()).add((Integer) row[1]));
+
+                for (Object[] row : rows) {
+                    Integer postId = (Integer) row[0];
+                    sink.accept(new PostSearchIndex.Document(postId, (String) row[1], (String) row[2], (String) row[3],
+                            (LocalDate) row[4], categories.getOrDefault(postId, List.of())));
+                }
+                entityManager.clear();
+                if (rows.size() < batchSize) {
+                    break;
+                }
+                lastId = postIds.get(postIds.size() - 1);
+            }
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.b03.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ApplicationExportService {
+
+    /**
+     * 기업 회원의 공고에 들어온 지원서를 CSV로 out에 바로 씁니다. (전체 목록을 메모리에 만들지 않음)
+     * out은 닫지 않습니다. (호출한 쪽이 관리)
+     * @param memberNo 기업 회원 번호
+     * @param out CSV를 쓸 스트림 (UTF-8, 엑셀용 BOM 포함)
+     * @return 내보낸 지원서 수
+     */
+    long exportCsv(Integer memberNo, OutputStream out) throws IOException;
+
+    // 내보내기 전에 존재 여부만 확인 (스트리밍 응답은 시작한 뒤에는 상태 코드를 바꿀 수 없으므로)
+    void checkCompanyExists(Integer memberNo);
+}
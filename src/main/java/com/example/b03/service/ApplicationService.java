@@ -0,0 +1,18 @@
+package com.example.b03.service;
+
+public interface ApplicationService {
+
+    /**
+     * 채용공고에 지원합니다. (이력서 파일은 ResumeFileService로 따로 올림)
+     * 예전에 지원했다가 삭제한 공고면 그 지원서를 되살립니다.
+     * @return 지원서 ID
+     */
+    Integer register(Integer postId, Integer memberNo);
+
+    /**
+     * 지원서를 삭제(소프트 삭제)하고 첨부파일 참조를 줄입니다.
+     * @param applicationId 삭제할 지원서 ID
+     * @param memberNo 요청한 지원자 회원 번호 (본인 지원서만 삭제 가능)
+     */
+    void remove(Integer applicationId, Integer memberNo);
+}
@@ -0,0 +1,103 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.Application;
+import com.example.b03.domain.Member;
+import com.example.b03.domain.Post;
+import com.example.b03.repository.ApplicationRepository;
+import com.example.b03.repository.MemberRepository;
+import com.example.b03.repository.PostRepository;
+import com.example.b03.repository.search.PostRecommendationIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+
+@Service
+@Log4j2
+@RequiredArgsConstructor
+@Transactional
+public class ApplicationServiceImpl implements ApplicationService {
+
+    private final ApplicationRepository applicationRepository;
+    private final ResumeFileService resumeFileService;
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final PostRecommendationIndex postRecommendationIndex;
+
+    @Override
+    public Integer register(Integer postId, Integer memberNo) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new NoSuchElementException("Post not found"));
+        Member member = memberRepository.findById(memberNo)
+                .orElseThrow(() -> new NoSuchElementException("Member not found"));
+
+        if (Boolean.TRUE.equals(post.getIsDeleted()) || post.isClosed()) {
+            throw new IllegalArgumentException("마감되었거나 삭제된 공고입니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Application application = applicationRepository.findByPost_PostIdAndMember_MemberNo(postId, memberNo).orElse(null);
+        if (application == null) {
+            application = applicationRepository.save(Application.builder()
+                    .post(post)
+                    .member(member)
+                    .submittedAt(now)
+                    .updatedAt(now)
+                    .build());
+        } else if (Boolean.TRUE.equals(application.getIsDeleted())) {
+            application.setIsDeleted(false); // (post_id, member_no) 유니크라 새로 만들지 않고 되살림
+            application.setSubmittedAt(now);
+            application.setUpdatedAt(now);
+        } else {
+            throw new IllegalArgumentException("이미 지원한 공고입니다.");
+        }
+
+        afterCommit(() -> postRecommendationIndex.addApplication(memberNo, postId));
+        log.info("지원서 등록 완료: " + application.getApplicationId());
+        return application.getApplicationId();
+    }
+
+    @Override
+    public void remove(Integer applicationId, Integer memberNo) {
+        // 행 잠금: 같은 지원서의 이력서 업로드와 겹쳐도 파일 참조를 한 번만 줄임
+        Application application = applicationRepository.findByIdForUpdate(applicationId)
+                .orElseThrow(() -> new NoSuchElementException("Application not found"));
+
+        if (Boolean.TRUE.equals(application.getIsDeleted())) {
+            throw new IllegalArgumentException("이미 삭제된 지원서입니다.");
+        }
+        if (!application.getMember().getMemberNo().equals(memberNo)) {
+            throw new IllegalArgumentException("본인의 지원서만 삭제할 수 있습니다.");
+        }
+
+        if (application.getFilePath() != null) {
+            resumeFileService.releaseFile(application.getFilePath()); // 파일은 AttachmentSweeper가 정리
+            application.setFilePath(null);
+        }
+        application.setIsDeleted(true);
+        application.setUpdatedAt(LocalDateTime.now());
+
+        Integer postId = application.getPost().getPostId();
+        afterCommit(() -> postRecommendationIndex.removeApplication(memberNo, postId));
+        log.info("지원서 삭제 완료: " + applicationId);
+    }
+
+    // 추천은 DB에 커밋된 지원 이력과 같아야 하므로, 트랜잭션이 롤백되면 반영하지 않음
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.AttachmentBlob;
+import com.example.b03.repository.AttachmentBlobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// ⭐ 참조가 없는 첨부파일 정리 작업
+// 지원서 삭제/파일 교체는 AttachmentBlob.refCount만 줄이고, 실제 파일은 여기서 모아서 지웁니다.
+// 참조가 0이 된 뒤 grace 시간이 지난 파일만 지우므로, 그 사이에 같은 파일이 다시 올라오면 그대로 재사용됩니다.
+// batchSize개씩 행을 잠근 트랜잭션 안에서 파일과 행을 지워서, 같은 내용의 업로드(acquire)와 겹치지 않게 합니다.
+// 업로드 트랜잭션이 파일을 옮긴 뒤 롤백되면 행 없이 파일만 남으므로, 하루 한 번 저장소를 훑어서 그런 파일도 지웁니다. (sweepOrphanFiles)
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class AttachmentSweeper {
+
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final ResumeFileStore resumeFileStore;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${application.attachment.sweep-grace:1h}")
+    private Duration grace;
+
+    @Value("${application.attachment.sweep-batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${application.attachment.sweep-interval:PT10M}")
+    public void scheduledSweep() {
+        sweep();
+    }
+
+    @Scheduled(cron = "${application.attachment.orphan-sweep-cron:0 0 5 * * *}")
+    public void scheduledOrphanSweep() {
+        sweepOrphanFiles();
+    }
+
+    /**
+     * 참조가 없는 첨부파일을 지웁니다.
+     * @return 지운 파일 수
+     */
+    public int sweep() {
+        LocalDateTime before = LocalDateTime.now().minus(grace);
+        int removedFiles = 0;
+        long reclaimedBytes = 0;
+
+        while (true) {
+            List<AttachmentBlob> removed = transactionTemplate.execute(status -> {
+                List<AttachmentBlob> blobs = attachmentBlobRepository.findUnreferencedForUpdate(before, PageRequest.of(0, batchSize));
+                for (AttachmentBlob blob : blobs) {
+                    // 커밋 전에 지움 → 커밋이 실패해도 refCount 0인 행만 남고 다음 정리 때 다시 처리됨
+                    resumeFileStore.delete(ResumeFileStore.pathOf(blob.getHash(), blob.getExtension()));
+                    attachmentBlobRepository.delete(blob);
+                }
+                return blobs;
+            });
+
+            for (AttachmentBlob blob : removed) {
+                reclaimedBytes += blob.getSize();
+            }
+            removedFiles += removed.size();
+            if (removed.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (removedFiles > 0) {
+            log.info("첨부파일 정리 완료: " + removedFiles + "개 파일 삭제, " + reclaimedBytes + " bytes 회수");
+        }
+        return removedFiles;
+    }
+
+    /**
+     * AttachmentBlob 행이 가리키지 않는 파일을 지웁니다. (롤백된 업로드가 옮겨 둔 파일, 행과 확장자가 다른 파일)
+     * 마지막으로 바뀐 지 grace 시간이 지난 파일만 보므로 진행 중인 업로드의 파일은 건드리지 않습니다.
+     * @return 지운 파일 수
+     */
+    public int sweepOrphanFiles() {
+        Instant before = Instant.now().minus(grace);
+        int removedFiles = 0;
+
+        try (Stream<String> files = resumeFileStore.listContentFiles(before)) {
+            List<String> batch = new ArrayList<>(batchSize);
+            Iterator<String> iterator = files.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    removedFiles += removeOrphans(batch);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (removedFiles > 0) {
+            log.info("행이 없는 첨부파일 정리 완료: " + removedFiles + "개 파일 삭제");
+        }
+        return removedFiles;
+    }
+
+    private int removeOrphans(List<String> paths) {
+        // 먼저 잠금 없이 한 번에 걸러내고, 행이 없어 보이는 파일만 잠근 뒤 다시 확인하고 지움
+        Map<String, AttachmentBlob> blobs = new HashMap<>();
+        attachmentBlobRepository.findAllById(paths.stream().map(path -> ResumeFileStore.hashOf(path).orElseThrow()).toList())
+                .forEach(blob -> blobs.put(blob.getHash(), blob));
+
+        int removed = 0;
+        for (String path : paths) {
+            String hash = ResumeFileStore.hashOf(path).orElseThrow();
+            if (isReferencedBy(blobs.get(hash), path)) {
+                continue;
+            }
+            Boolean deleted = transactionTemplate.execute(status ->
+                    !isReferencedBy(attachmentBlobRepository.findByHashForUpdate(hash).orElse(null), path)
+                            && resumeFileStore.delete(path));
+            if (Boolean.TRUE.equals(deleted)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static boolean isReferencedBy(AttachmentBlob blob, String path) {
+        return blob != null && path.equals(ResumeFileStore.pathOf(blob.getHash(), blob.getExtension()));
+    }
+}
@@ -13,7 +13,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.NoSuchElementException;
 
 @Service
@@ -22,6 +21,7 @@ public class CompanyInfoServiceImpl implements CompanyInfoService {
 
     private final CompanyInfoRepository companyInfoRepository;
     private final MemberRepository memberRepository;
+    private final EntityLookupCache entityLookupCache;
 
     @Override
     @Transactional
@@ -41,15 +41,18 @@ public class CompanyInfoServiceImpl implements CompanyInfoService {
                 .build();
 
         CompanyInfo saved = companyInfoRepository.save(companyInfo);
+        entityLookupCache.evictCompanyInfo(dto.getMemberNo());
         return CompanyInfoDTO.fromEntity(saved);
     }
 
     @Override
     public CompanyInfoDTO getByMemberNo(Integer memberNo) {
-        CompanyInfo companyInfo = companyInfoRepository.findByMember_MemberNo(memberNo)
-                .orElseThrow(() -> new NoSuchElementException("CompanyInfo not found"));
-
-        return CompanyInfoDTO.fromEntity(companyInfo);
+        // 캐시에 없을 때만 DB 조회 (없는 기업정보는 캐시하지 않음)
+        return entityLookupCache.getCompanyInfo(memberNo, () -> {
+            CompanyInfo companyInfo = companyInfoRepository.findByMember_MemberNo(memberNo)
+                    .orElseThrow(() -> new NoSuchElementException("CompanyInfo not found"));
+            return CompanyInfoDTO.fromEntity(companyInfo);
+        });
     }
 
     @Override
@@ -70,6 +73,10 @@ public class CompanyInfoServiceImpl implements CompanyInfoService {
         existing.getMember().setPhone(dto.getPhone());
         existing.getMember().setAddress(dto.getAddress());
 
+        // 기업정보 + 회원(phone/address) 캐시 둘 다 무효화
+        entityLookupCache.evictCompanyInfo(dto.getMemberNo());
+        entityLookupCache.evictMember(dto.getMemberNo());
+
         return CompanyInfoDTO.fromEntity(existing);
     }
 
@@ -79,21 +86,17 @@ public class CompanyInfoServiceImpl implements CompanyInfoService {
         CompanyInfo companyInfo = companyInfoRepository.findByMember_MemberNo(memberNo)
                 .orElseThrow(() -> new NoSuchElementException("CompanyInfo not found"));
         companyInfoRepository.delete(companyInfo);
+        entityLookupCache.evictCompanyInfo(memberNo);
     }
 
     @Override
     public PageResponseDTO<CompanyInfoDTO> getList(PageRequestDTO requestDTO) {
         Pageable pageable = requestDTO.getPageable("memberNo");
-        Page<CompanyInfo> result = companyInfoRepository.findAll(pageable);
-
-        List<CompanyInfoDTO> dtoList = result.getContent()
-                .stream()
-                .map(CompanyInfoDTO::fromEntity) //  ModelMapper 대신 정적 메서드 사용
-                .toList();
+        Page<CompanyInfoDTO> result = companyInfoRepository.findListItems(pageable); // 회원 연락처까지 한 문장으로
 
         return PageResponseDTO.<CompanyInfoDTO>withAll()
                 .pageRequestDTO(requestDTO)
-                .dtoList(dtoList)
+                .dtoList(result.getContent())
                 .total((int) result.getTotalElements())
                 .build();
     }
@@ -0,0 +1,191 @@
+package com.example.b03.service;
+
+import com.example.b03.dto.CompanyInfoDTO;
+import com.example.b03.dto.MemberDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// ⭐ 프로필 화면에서 자주 조회되는 회원/기업정보 조회 결과 캐시 (크기 + TTL 제한, Caffeine)
+// MemberServiceImpl.findByLoginId/getByMemberNo, CompanyInfoServiceImpl.getByMemberNo 앞단에서 사용하고
+// register/update/delete에서 무효화합니다.
+// 캐시에는 불변 record(비밀번호 제외)를 두고 꺼낼 때마다 새 DTO로 복사해서 돌려주므로,
+// 호출한 쪽이 DTO를 고쳐도 다른 요청이 받는 캐시 값은 바뀌지 않습니다.
+@Component
+@Log4j2
+public class EntityLookupCache {
+
+    private final Cache<Integer, CachedMember> membersByNo;
+    // loginId는 바뀌지 않으므로 loginId → memberNo 매핑만 저장하고, 회원 정보는 membersByNo 한 곳에만 둠
+    private final Cache<String, Integer> memberNoByLoginId;
+    private final Cache<Integer, CachedCompanyInfo> companyInfoByMemberNo;
+
+    public EntityLookupCache(@Value("${cache.entity.maximum-size:10000}") long maximumSize,
+                             @Value("${cache.entity.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.membersByNo = newCache(maximumSize, expireAfterWrite);
+        this.memberNoByLoginId = newCache(maximumSize, expireAfterWrite);
+        this.companyInfoByMemberNo = newCache(maximumSize, expireAfterWrite);
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    // 캐시에 두는 회원 정보 (password는 담지 않음)
+    record CachedMember(Integer memberNo, String loginId, String name, LocalDate birthDate, String address, String phone,
+                        Byte membershipTypeId, String membershipTypeName,
+                        LocalDateTime createdAt, LocalDateTime updatedAt, Boolean isDeleted) {
+
+        static CachedMember of(MemberDTO dto) {
+            return new CachedMember(dto.getMemberNo(), dto.getLoginId(), dto.getName(), dto.getBirthDate(), dto.getAddress(),
+                    dto.getPhone(), dto.getMembershipTypeId(), dto.getMembershipTypeName(),
+                    dto.getCreatedAt(), dto.getUpdatedAt(), dto.getIsDeleted());
+        }
+
+        MemberDTO toDTO() {
+            return MemberDTO.builder()
+                    .memberNo(memberNo)
+                    .loginId(loginId)
+                    .name(name)
+                    .birthDate(birthDate)
+                    .address(address)
+                    .phone(phone)
+                    .membershipTypeId(membershipTypeId)
+                    .membershipTypeName(membershipTypeName)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .isDeleted(isDeleted)
+                    .build();
+        }
+    }
+
+    record CachedCompanyInfo(Integer memberNo, String companyName, LocalDate foundedDate, Integer employeeCount, Long revenue,
+                             String techStack, String homepageUrl, String description, String phone, String address) {
+
+        static CachedCompanyInfo of(CompanyInfoDTO dto) {
+            return new CachedCompanyInfo(dto.getMemberNo(), dto.getCompanyName(), dto.getFoundedDate(), dto.getEmployeeCount(),
+                    dto.getRevenue(), dto.getTechStack(), dto.getHomepageUrl(), dto.getDescription(), dto.getPhone(), dto.getAddress());
+        }
+
+        CompanyInfoDTO toDTO() {
+            return CompanyInfoDTO.builder()
+                    .memberNo(memberNo)
+                    .companyName(companyName)
+                    .foundedDate(foundedDate)
+                    .employeeCount(employeeCount)
+                    .revenue(revenue)
+                    .techStack(techStack)
+                    .homepageUrl(homepageUrl)
+                    .description(description)
+                    .phone(phone)
+                    .address(address)
+                    .build();
+        }
+    }
+
+    // --- 회원 ---
+
+    // 캐시에서 꺼낸 값은 password가 비어 있음 (처음 DB에서 읽은 경우도 같은 모양으로 돌려줌)
+    public Optional<MemberDTO> getMember(Integer memberNo, Supplier<Optional<MemberDTO>> loader) {
+        CachedMember cached = membersByNo.getIfPresent(memberNo);
+        if (cached != null) {
+            return Optional.of(cached.toDTO());
+        }
+        // 없는 회원은 캐시하지 않음 (가입 직후 바로 조회될 수 있도록)
+        return loader.get().map(this::putMember);
+    }
+
+    public Optional<MemberDTO> getMemberByLoginId(String loginId, Function<String, Optional<MemberDTO>> loader) {
+        Integer memberNo = memberNoByLoginId.getIfPresent(loginId);
+        if (memberNo != null) {
+            CachedMember cached = membersByNo.getIfPresent(memberNo);
+            if (cached != null) {
+                return Optional.of(cached.toDTO());
+            }
+        }
+        return loader.apply(loginId).map(this::putMember);
+    }
+
+    // 캐시에 넣고, 넣은 값의 복사본을 돌려줌
+    public MemberDTO putMember(MemberDTO memberDTO) {
+        CachedMember cached = CachedMember.of(memberDTO);
+        membersByNo.put(cached.memberNo(), cached);
+        memberNoByLoginId.put(cached.loginId(), cached.memberNo());
+        return cached.toDTO();
+    }
+
+    // loginId 매핑은 남아 있어도 membersByNo에서 못 찾으면 DB에서 다시 읽으므로 회원 정보만 지우면 됨
+    public void evictMember(Integer memberNo) {
+        evictNowAndAfterCommit(() -> membersByNo.invalidate(memberNo));
+    }
+
+    // --- 기업 정보 ---
+
+    public CompanyInfoDTO getCompanyInfo(Integer memberNo, Supplier<CompanyInfoDTO> loader) {
+        CachedCompanyInfo cached = companyInfoByMemberNo.getIfPresent(memberNo);
+        if (cached == null) {
+            cached = CachedCompanyInfo.of(loader.get()); // 없으면 loader가 예외를 던짐 → 캐시하지 않음
+            companyInfoByMemberNo.put(memberNo, cached);
+        }
+        return cached.toDTO();
+    }
+
+    public void evictCompanyInfo(Integer memberNo) {
+        evictNowAndAfterCommit(() -> companyInfoByMemberNo.invalidate(memberNo));
+    }
+
+    // 커밋 전에 다른 요청이 옛날 값을 다시 캐시에 넣을 수 있으므로, 지금 한 번 + 커밋 후 한 번 더 지움
+    private void evictNowAndAfterCommit(Runnable evict) {
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict.run();
+                }
+            });
+        }
+    }
+
+    // --- 통계 ---
+
+    /**
+     * 캐시별 hit/miss/eviction 통계 (GET /api/cache/stats)
+     */
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        stats.put("membersByNo", statsOf(membersByNo));
+        stats.put("memberNoByLoginId", statsOf(memberNoByLoginId));
+        stats.put("companyInfoByMemberNo", statsOf(companyInfoByMemberNo));
+        return stats;
+    }
+
+    static Map<String, Object> statsOf(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("size", cache.estimatedSize());
+        map.put("hitCount", stats.hitCount());
+        map.put("missCount", stats.missCount());
+        map.put("hitRate", stats.hitRate());
+        map.put("evictionCount", stats.evictionCount());
+        return map;
+    }
+}
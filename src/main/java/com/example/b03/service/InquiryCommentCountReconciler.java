@@ -0,0 +1,59 @@
+package com.example.b03.service;
+
+import com.example.b03.repository.InquiryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// ⭐ Inquiry.commentCount / answered 보정 작업
+// 답변 카운터는 createComment/deleteComment에서 갱신되지만, 테스트 데이터나 DB 직접 수정 등으로 어긋날 수 있어서
+// inquiryId 구간(batchSize)마다 실제 답변 개수 / 답변 여부와 비교해 다른 행만 고칩니다.
+// 구간마다 별도 트랜잭션으로 실행되므로 한 번에 전체 테이블을 잠그지 않습니다.
+// comment_count / answered 컬럼은 ddl-auto로 기본값(0, false)과 함께 추가되므로, 처음 배포할 때는
+// inquiry.comment-count.reconcile-on-startup=true로 시작할 때 한 번 보정합니다. (기본은 꺼져 있음 → 매번 전체 테이블을 훑지 않음)
+// (모든 빈이 만들어진 직후, 웹 서버가 요청을 받기 전에 실행 → 배포 직후 목록에서 답변이 있는 문의글이 '미답변'으로 보이지 않음)
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class InquiryCommentCountReconciler implements SmartInitializingSingleton {
+
+    private final InquiryRepository inquiryRepository;
+
+    @Value("${inquiry.comment-count.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${inquiry.comment-count.reconcile-on-startup:false}")
+    private boolean reconcileOnStartup;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${inquiry.comment-count.reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 전체 문의글의 답변 카운터를 보정합니다.
+     * @return 보정된 문의글 수
+     */
+    public int reconcile() {
+        int maxId = inquiryRepository.findMaxInquiryId();
+        int repaired = 0;
+
+        for (int fromId = 1; fromId <= maxId; fromId += batchSize) {
+            int toId = (int) Math.min((long) fromId + batchSize - 1, maxId);
+            repaired += inquiryRepository.reconcileCommentCount(fromId, toId);
+        }
+
+        log.info("답변 카운터 보정 완료: " + repaired + "개 문의글 수정 (maxId: " + maxId + ")");
+        return repaired;
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.b03.service;
 
+import com.example.b03.dto.InquiryCommentCursorResponseDTO;
 import com.example.b03.dto.InquiryCommentRequestDTO;
 import com.example.b03.dto.InquiryCommentResponseDTO;
 // import com.example.b03.dto.InquiryCommentPageRequestDTO; // ⭐ 제거: 존재하지 않는 DTO
 // import com.example.b03.dto.InquiryCommentPageResponseDTO; // ⭐ 제거: 존재하지 않는 DTO
 
 import java.util.List;
+import java.util.Map;
 
 public interface InquiryCommentService {
 
@@ -32,12 +34,29 @@ public interface InquiryCommentService {
     void deleteComment(Integer commentId, Integer adminNo);
 
     /**
-     * 특정 문의에 대한 답변 목록을 조회합니다. (삭제되지 않은 답변만)
+     * 특정 문의에 대한 답변 목록을 조회합니다. (삭제되지 않은 답변만, 오래된 순으로 최대 inquiry.comment.list-max-size개)
+     * 답변이 많은 문의는 getCommentsByCursor()로 나눠서 조회하세요.
      * @param inquiryId 답변을 조회할 문의글의 ID
      * @return 해당 문의글에 대한 답변 응답 DTO 목록
      */
     List<InquiryCommentResponseDTO> getCommentsForInquiry(Integer inquiryId); // ⭐ 수정: 반환 타입, 파라미터 변경
 
+    /**
+     * 특정 문의에 대한 답변 목록을 커서 방식으로 조회합니다. (삭제되지 않은 답변만, 오래된 순)
+     * @param inquiryId 답변을 조회할 문의글의 ID
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 한 번에 가져올 답변 수 (1 ~ 100)
+     * @return 답변 목록과 다음 페이지 커서
+     */
+    InquiryCommentCursorResponseDTO getCommentsByCursor(Integer inquiryId, String cursor, int size);
+
     //댓글 개수 세는 메소드 추가!
     int getCommentCountByInquiryId(Integer inquiryId);
+
+    /**
+     * 여러 문의글의 답변 개수를 한 번에 조회합니다. (삭제되지 않은 답변만, 최대 200개)
+     * @param inquiryIds 답변 개수를 조회할 문의글 ID 목록
+     * @return 문의글 ID → 답변 개수 (요청한 순서대로, 답변이 없거나 없는 문의글이면 0)
+     */
+    Map<Integer, Integer> getCommentCounts(List<Integer> inquiryIds);
 }
\ No newline at end of file
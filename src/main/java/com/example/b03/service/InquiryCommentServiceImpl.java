@@ -3,20 +3,23 @@ package com.example.b03.service;
 import com.example.b03.domain.Inquiry;
 import com.example.b03.domain.InquiryComment;
 import com.example.b03.domain.Member;
-import com.example.b03.domain.MembershipType;
+import com.example.b03.dto.InquiryCommentCursorResponseDTO;
 import com.example.b03.dto.InquiryCommentRequestDTO;
 import com.example.b03.dto.InquiryCommentResponseDTO;
 import com.example.b03.repository.InquiryCommentRepository;
 import com.example.b03.repository.InquiryRepository;
 import com.example.b03.repository.MemberRepository;
-import com.example.b03.repository.MembershipTypeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,10 +31,16 @@ public class InquiryCommentServiceImpl implements InquiryCommentService {
     private final InquiryCommentRepository inquiryCommentRepository;
     private final InquiryRepository inquiryRepository;
     private final MemberRepository memberRepository;
-    private final MembershipTypeRepository membershipTypeRepository;
-    private final ModelMapper modelMapper;
+    private final ReferenceDataCatalog referenceDataCatalog;
+    private final InquiryDetailCache inquiryDetailCache;
+    private final InquiryFragmentCache inquiryFragmentCache;
 
     private static final Byte ADMIN_MEMBERSHIP_TYPE_ID = 1;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_IDS = 200;
+
+    @Value("${inquiry.comment.list-max-size:500}")
+    private int listMaxSize;
 
     @Override
     public InquiryCommentResponseDTO createComment(InquiryCommentRequestDTO requestDTO) {
@@ -45,7 +54,8 @@ public class InquiryCommentServiceImpl implements InquiryCommentService {
         Member admin = memberRepository.findById(requestDTO.getAdminNo())
                 .orElseThrow(() -> new IllegalArgumentException("해당 관리자를 찾을 수 없습니다: " + requestDTO.getAdminNo()));
 
-        if (admin.getMembershipType() == null || !admin.getMembershipType().getTypeId().equals(ADMIN_MEMBERSHIP_TYPE_ID)) {
+        // LAZY 프록시(membershipType)를 초기화하지 않고 FK 값만으로 관리자 여부 확인 → 추가 SELECT 없음
+        if (!ADMIN_MEMBERSHIP_TYPE_ID.equals(referenceDataCatalog.getMembershipTypeId(admin))) {
             throw new IllegalArgumentException("관리자만 답변을 작성할 수 있습니다.");
         }
 
@@ -54,7 +64,12 @@ public class InquiryCommentServiceImpl implements InquiryCommentService {
                 .admin(admin)
                 .content(requestDTO.getContent())
                 .build();
+        // 목록용 답변 카운터 +1
+        // INSERT의 외래키 검사(공유 잠금)보다 먼저 문의글 행에 쓰기 잠금을 잡아야 동시 등록 시 데드락이 나지 않음
+        inquiryRepository.increaseCommentCount(inquiry.getInquiryId());
         inquiryCommentRepository.save(comment);
+        inquiryDetailCache.evict(inquiry.getInquiryId()); // 상세 페이지 캐시 무효화
+        inquiryFragmentCache.evict(inquiry.getInquiryId());
 
         log.info("새로운 답변 등록: " + comment.getCommentId());
         return entityToDto(comment);
@@ -77,6 +92,8 @@ public class InquiryCommentServiceImpl implements InquiryCommentService {
         comment.setContent(requestDTO.getContent()); // 기존 changeContent() 대신 setContent() 사용
 
         inquiryCommentRepository.save(comment); // 변경된 엔티티를 저장해야 DB에 반영됨
+        inquiryDetailCache.evict(comment.getInquiry().getInquiryId()); // 상세 페이지 캐시 무효화
+        inquiryFragmentCache.evict(comment.getInquiry().getInquiryId());
 
         log.info("답변 수정 완료: " + comment.getCommentId());
         return entityToDto(comment);
@@ -84,7 +101,7 @@ public class InquiryCommentServiceImpl implements InquiryCommentService {
 
     @Override
     public void deleteComment(Integer commentId, Integer adminNo) {
-        InquiryComment comment = inquiryCommentRepository.findById(commentId)
+        InquiryComment comment = inquiryCommentRepository.findByIdForUpdate(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 답변을 찾을 수 없습니다: " + commentId));
 
         if (comment.getIsDeleted()) {
@@ -99,6 +116,9 @@ public class InquiryCommentServiceImpl implements InquiryCommentService {
         comment.setIsDeleted(true); // 또는 comment.setDeleted(true); (Lombok 생성 규칙에 따라)
 
         inquiryCommentRepository.save(comment); // 변경된 엔티티를 저장해야 DB에 반영됨
+        inquiryRepository.decreaseCommentCount(comment.getInquiry().getInquiryId()); // 목록용 답변 카운터 -1
+        inquiryDetailCache.evict(comment.getInquiry().getInquiryId()); // 상세 페이지 캐시 무효화
+        inquiryFragmentCache.evict(comment.getInquiry().getInquiryId());
 
         log.info("답변 삭제 완료 (논리적 삭제): " + commentId);
     }
@@ -106,16 +126,53 @@ public class InquiryCommentServiceImpl implements InquiryCommentService {
     @Override
     @Transactional(readOnly = true)
     public List<InquiryCommentResponseDTO> getCommentsForInquiry(Integer inquiryId) {
-        Inquiry inquiry = inquiryRepository.findById(inquiryId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 문의를 찾을 수 없습니다: " + inquiryId));
+        // 문의글 엔티티(content LOB)는 필요 없으므로 삭제되지 않은 문의글인지만 확인
+        if (!inquiryRepository.existsByInquiryIdAndIsDeletedFalse(inquiryId)) {
+            throw new IllegalArgumentException("해당 문의를 찾을 수 없습니다: " + inquiryId);
+        }
 
-        List<InquiryComment> comments = inquiryCommentRepository.findByInquiryAndIsDeletedFalseOrderByCreatedAtAsc(inquiry);
+        // 관리자까지 fetch join
+        // 답변이 아주 많은 문의도 한 번에 전부 읽지 않도록 상한을 둠 (나머지는 커서 API로)
+        List<InquiryComment> comments = inquiryCommentRepository.findActiveWithAdminByInquiryId(
+                inquiryId, PageRequest.of(0, listMaxSize));
+        if (comments.size() == listMaxSize) {
+            log.warn("답변 목록 상한(" + listMaxSize + "개) 도달 (Inquiry ID: " + inquiryId + ") → 커서 API 사용 필요");
+        }
 
         return comments.stream()
                 .map(this::entityToDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public InquiryCommentCursorResponseDTO getCommentsByCursor(Integer inquiryId, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 ~ " + MAX_CURSOR_PAGE_SIZE + " 사이여야 합니다: " + size);
+        }
+        InquiryCommentCursorResponseDTO.Cursor after = InquiryCommentCursorResponseDTO.decodeCursor(cursor);
+
+        Inquiry inquiry = inquiryRepository.findById(inquiryId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 문의를 찾을 수 없습니다: " + inquiryId));
+
+        // size + 1개를 가져와서 남는 1개로 다음 페이지 여부를 판단
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<InquiryComment> comments = after == null
+                ? inquiryCommentRepository.findActiveWithAdminByInquiryId(inquiry.getInquiryId(), limit)
+                : inquiryCommentRepository.findActiveWithAdminByInquiryIdAfter(inquiry.getInquiryId(), after.createdAt(), after.commentId(), limit);
+
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
+        }
+
+        return InquiryCommentCursorResponseDTO.withAll()
+                .dtoList(comments.stream().map(this::entityToDto).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public int getCommentCountByInquiryId(Integer inquiryId) {
@@ -125,16 +182,26 @@ public class InquiryCommentServiceImpl implements InquiryCommentService {
         return inquiryCommentRepository.countByInquiryAndIsDeletedFalse(inquiry);
     }
 
-    private InquiryCommentResponseDTO entityToDto(InquiryComment inquiryComment) {
-        InquiryCommentResponseDTO dto = modelMapper.map(inquiryComment, InquiryCommentResponseDTO.class);
-
-        if (inquiryComment.getInquiry() != null) {
-            dto.setInquiryId(inquiryComment.getInquiry().getInquiryId());
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, Integer> getCommentCounts(List<Integer> inquiryIds) {
+        Map<Integer, Integer> counts = new LinkedHashMap<>(); // 중복 제거 (요청 순서 유지)
+        inquiryIds.forEach(inquiryId -> counts.put(inquiryId, 0));
+        if (counts.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 문의글은 최대 " + MAX_BATCH_IDS + "개입니다: " + counts.size());
+        }
+        if (counts.isEmpty()) {
+            return counts;
         }
-        if (inquiryComment.getAdmin() != null) {
-            dto.setAdminNo(inquiryComment.getAdmin().getMemberNo());
+
+        // COUNT ... GROUP BY 한 번으로 모두 셈
+        for (Object[] row : inquiryCommentRepository.countActiveGroupByInquiryId(counts.keySet())) {
+            counts.put((Integer) row[0], ((Long) row[1]).intValue());
         }
+        return counts;
+    }
 
-        return dto;
+    private InquiryCommentResponseDTO entityToDto(InquiryComment inquiryComment) {
+        return InquiryCommentResponseDTO.fromEntity(inquiryComment); // ModelMapper 대신 정적 메서드 사용
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.example.b03.service;
+
+import com.example.b03.dto.InquiryDetailDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// ⭐ 문의 상세 페이지(문의글 + 답변 목록) 캐시
+// 답변 등록/수정/삭제, 문의 수정/삭제 시 해당 inquiryId만 무효화합니다.
+@Component
+public class InquiryDetailCache {
+
+    private final Cache<Integer, InquiryDetailDTO> details;
+
+    public InquiryDetailCache(@Value("${inquiry.detail-cache.maximum-size:1000}") long maximumSize,
+                              @Value("${inquiry.detail-cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public InquiryDetailDTO get(Integer inquiryId, Supplier<InquiryDetailDTO> loader) {
+        InquiryDetailDTO cached = details.getIfPresent(inquiryId);
+        if (cached != null) {
+            return cached;
+        }
+        InquiryDetailDTO loaded = loader.get(); // 없는/삭제된 문의는 loader가 예외를 던짐 → 캐시하지 않음
+        details.put(inquiryId, loaded);
+        return loaded;
+    }
+
+    // 커밋 전에 다른 요청이 옛날 내용을 다시 캐시에 넣을 수 있으므로, 지금 한 번 + 트랜잭션 종료 후 한 번 더 지움
+    public void evict(Integer inquiryId) {
+        details.invalidate(inquiryId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    details.invalidate(inquiryId);
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        return EntityLookupCache.statsOf(details);
+    }
+}
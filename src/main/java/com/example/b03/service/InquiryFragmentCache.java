@@ -0,0 +1,108 @@
+package com.example.b03.service;
+
+import com.example.b03.dto.InquiryCommentResponseDTO;
+import com.example.b03.dto.InquiryListDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// ⭐ 문의 화면 조각(templates/inquiry/fragments.html) 렌더링 결과 캐시
+// 문의글마다 조각별로 (버전, HTML)을 보관하고, 버전(updatedAt, 답변 개수 등)이 같으면 템플릿을 다시 처리하지 않습니다.
+// 버전이 다르면 다시 렌더링하므로 오래된 HTML이 나가지는 않고, 쓰기 경로에서는 evict()로 메모리만 정리합니다.
+@Component
+public class InquiryFragmentCache {
+
+    private static final String TEMPLATE = "inquiry/fragments";
+
+    // 같은 문의글이라도 목록 검색 조건(readUrl)마다 줄이 따로 생기므로 문의글당 조각 수 상한
+    private static final int MAX_FRAGMENTS_PER_INQUIRY = 16;
+
+    private record Entry(String version, String html) {
+    }
+
+    private final ITemplateEngine templateEngine;
+    private final Cache<Integer, ConcurrentMap<String, Entry>> fragments;
+
+    // 조각 단위 적중/렌더링 횟수 (Caffeine 통계는 문의글 단위라서 따로 셈)
+    private final LongAdder renderHits = new LongAdder();
+    private final LongAdder renderMisses = new LongAdder();
+
+    public InquiryFragmentCache(ITemplateEngine templateEngine,
+                                @Value("${inquiry.fragment-cache.maximum-size:5000}") long maximumSize) {
+        this.templateEngine = templateEngine;
+        this.fragments = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    // 목록 한 줄 (inquiry/fragments :: row)
+    public String renderRow(InquiryListDTO dto, String readUrl) {
+        String version = toVersion(dto.getUpdatedAt()) + ":" + dto.getCommentCount();
+        return render(dto.getInquiryId(), "row|" + readUrl, version, "row", Map.of("dto", dto, "readUrl", readUrl));
+    }
+
+    // 상세 정보 (inquiry/fragments :: detail)
+    public String renderDetail(InquiryListDTO inquiryDTO) {
+        String version = toVersion(inquiryDTO.getUpdatedAt());
+        return render(inquiryDTO.getInquiryId(), "detail", version, "detail", Map.of("inquiryDTO", inquiryDTO));
+    }
+
+    // 답변 목록 (inquiry/fragments :: comments) - 답변 개수 + 가장 최근 수정 시각이 버전
+    public String renderComments(Integer inquiryId, List<InquiryCommentResponseDTO> comments) {
+        LocalDateTime lastUpdatedAt = comments.stream()
+                .map(InquiryCommentResponseDTO::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        String version = comments.size() + ":" + toVersion(lastUpdatedAt);
+        return render(inquiryId, "comments", version, "comments", Map.of("comments", comments));
+    }
+
+    // 문의글 수정/삭제, 답변 등록/수정/삭제 시 호출
+    public void evict(Integer inquiryId) {
+        fragments.invalidate(inquiryId);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(EntityLookupCache.statsOf(fragments));
+        stats.put("fragmentHitCount", renderHits.sum());
+        stats.put("fragmentRenderCount", renderMisses.sum());
+        return stats;
+    }
+
+    private String render(Integer inquiryId, String key, String version, String fragment, Map<String, Object> variables) {
+        ConcurrentMap<String, Entry> entries = fragments.get(inquiryId, id -> new ConcurrentHashMap<>());
+        Entry cached = entries.get(key);
+        if (cached != null && cached.version().equals(version)) {
+            renderHits.increment();
+            return cached.html();
+        }
+        renderMisses.increment();
+
+        String html = templateEngine.process(TEMPLATE, Set.of(fragment), new Context(LocaleContextHolder.getLocale(), variables));
+        if (entries.size() >= MAX_FRAGMENTS_PER_INQUIRY && !entries.containsKey(key)) {
+            entries.clear();
+        }
+        entries.put(key, new Entry(version, html));
+        return html;
+    }
+
+    private static String toVersion(LocalDateTime dateTime) {
+        return dateTime == null ? "-" : dateTime.toString();
+    }
+}
@@ -1,10 +1,16 @@
 // src/main/java/com/example/b03/service/InquiryService.java
 package com.example.b03.service;
 
+import com.example.b03.dto.InquiryCursorResponseDTO;
+import com.example.b03.dto.InquiryDetailDTO;
+import com.example.b03.dto.InquiryFreshnessDTO;
 import com.example.b03.dto.InquiryListDTO;
 import com.example.b03.dto.InquiryPageRequestDTO;
 import com.example.b03.dto.InquiryPageResponseDTO;
 
+import java.util.List;
+import java.util.Optional;
+
 // ⭐⭐ InquiryService 인터페이스 ⭐⭐
 public interface InquiryService {
 
@@ -12,6 +18,15 @@ public interface InquiryService {
 
     InquiryListDTO readOne(Integer inquiryId);
 
+    // 여러 문의글 한 번에 조회 (요청한 순서대로, 없거나 삭제된 문의글은 빠짐, 최대 200개)
+    List<InquiryListDTO> readMany(List<Integer> inquiryIds);
+
+    // 조건부 GET(ETag/Last-Modified)용 최신 여부 정보 (없거나 삭제된 문의글이면 empty)
+    Optional<InquiryFreshnessDTO> getFreshness(Integer inquiryId);
+
+    // 상세 페이지용: 문의글 + 답변 목록을 쿼리 2번으로 조회 (InquiryDetailCache에 캐시)
+    InquiryDetailDTO readDetail(Integer inquiryId);
+
     void modify(InquiryListDTO inquiryListDTO);
 
     void remove(Integer inquiryId);
@@ -20,4 +35,7 @@ public interface InquiryService {
     // 만약 에러 메시지처럼 getAllInquiries였다면 이 부분을 그렇게 바꿔주세요.
     // 현재 InquiryServiceImpl의 구현에 맞춰 list로 선언합니다.
     InquiryPageResponseDTO<InquiryListDTO> list(InquiryPageRequestDTO inquiryPageRequestDTO);
+
+    // 커서(keyset) 방식 목록 조회: 깊은 페이지에서도 OFFSET 스캔 없이 일정한 속도로 조회
+    InquiryCursorResponseDTO<InquiryListDTO> listByCursor(InquiryPageRequestDTO inquiryPageRequestDTO);
 }
\ No newline at end of file
@@ -1,26 +1,33 @@
 package com.example.b03.service;
 
 import com.example.b03.domain.Inquiry;
+import com.example.b03.dto.InquiryCommentResponseDTO;
+import com.example.b03.dto.InquiryDetailDTO;
+import com.example.b03.dto.InquiryFreshnessDTO;
+import com.example.b03.repository.InquiryCommentRepository;
 import com.example.b03.domain.Member;
 import com.example.b03.repository.MemberRepository;
+import com.example.b03.dto.InquiryCursorResponseDTO;
 import com.example.b03.dto.InquiryListDTO;
 import com.example.b03.dto.InquiryPageRequestDTO;
 import com.example.b03.dto.InquiryPageResponseDTO;
 import com.example.b03.repository.InquiryRepository;
-import com.example.b03.repository.InquiryCommentRepository; // ⭐️ 추가: InquiryCommentRepository 임포트!
+import com.example.b03.repository.search.InquiryNgramIndex;
 // import com.example.b03.repository.search.InquirySearch; // 이 임포트는 현재 사용하지 않으므로 주석 처리 또는 삭제
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest; // PageRequest는 직접 사용하지 않으므로 필요 없으면 삭제해도 됨
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.*;
 
 @Service
 @Transactional
@@ -30,18 +37,28 @@ public class InquiryServiceImpl implements InquiryService {
 
     private final InquiryRepository inquiryRepository;
     private final MemberRepository memberRepository;
-    private final InquiryCommentRepository inquiryCommentRepository; // ⭐️ 추가: InquiryCommentRepository 주입!
-    private final ModelMapper modelMapper;
+    private final InquiryCommentRepository inquiryCommentRepository;
+    private final InquiryNgramIndex inquiryNgramIndex;
+    private final InquiryDetailCache inquiryDetailCache;
+    private final InquiryFragmentCache inquiryFragmentCache;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int MAX_BATCH_IDS = 200;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     @Override
     public Integer register(InquiryListDTO inquiryListDTO) {
         Member member = memberRepository.findById(inquiryListDTO.getMemberNo())
                 .orElseThrow(() -> new IllegalArgumentException("해당 회원을 찾을 수 없습니다: " + inquiryListDTO.getMemberNo()));
 
-        Inquiry inquiry = modelMapper.map(inquiryListDTO, Inquiry.class);
-        inquiry.setMember(member);
+        Inquiry inquiry = Inquiry.builder()
+                .title(inquiryListDTO.getTitle())
+                .content(inquiryListDTO.getContent())
+                .member(member)
+                .build();
 
         Inquiry savedInquiry = inquiryRepository.save(inquiry);
+        afterCommit(() -> inquiryNgramIndex.add(toSearchDocument(savedInquiry)));
         log.info("새로운 문의 등록: " + savedInquiry.getInquiryId());
         return savedInquiry.getInquiryId();
     }
@@ -55,12 +72,73 @@ public class InquiryServiceImpl implements InquiryService {
             throw new IllegalArgumentException("삭제된 문의글입니다.");
         }
 
-        return modelMapper.map(inquiry, InquiryListDTO.class);
+        return InquiryListDTO.fromEntity(inquiry);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InquiryListDTO> readMany(List<Integer> inquiryIds) {
+        Set<Integer> ids = new LinkedHashSet<>(inquiryIds); // 중복 제거 (요청 순서 유지)
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 문의글은 최대 " + MAX_BATCH_IDS + "개입니다: " + ids.size());
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, InquiryListDTO> found = new HashMap<>();
+        for (Inquiry inquiry : inquiryRepository.findAllWithMemberByIdIn(ids)) {
+            found.put(inquiry.getInquiryId(), InquiryListDTO.fromEntity(inquiry));
+        }
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<InquiryFreshnessDTO> getFreshness(Integer inquiryId) {
+        return inquiryRepository.findFreshnessById(inquiryId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS) // 캐시 적중이면 트랜잭션/커넥션 없이 바로 반환
+    public InquiryDetailDTO readDetail(Integer inquiryId) {
+        return inquiryDetailCache.get(inquiryId, () -> loadDetail(inquiryId));
+    }
+
+    // 캐시에 없을 때만 읽기 전용 트랜잭션에서 조회 (이미 트랜잭션 안에서 불렸으면 거기에 참여)
+    private InquiryDetailDTO loadDetail(Integer inquiryId) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> {
+            // 1. 문의글 + 작성 회원
+            Inquiry inquiry = inquiryRepository.findWithMemberById(inquiryId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 문의를 찾을 수 없습니다: " + inquiryId));
+
+            if (inquiry.getIsDeleted()) {
+                throw new IllegalArgumentException("삭제된 문의글입니다.");
+            }
+
+            // 2. 답변 + 작성 관리자
+            List<InquiryCommentResponseDTO> comments = inquiryCommentRepository.findActiveWithAdminByInquiryId(inquiryId)
+                    .stream()
+                    .map(InquiryCommentResponseDTO::fromEntity)
+                    .toList();
+
+            return InquiryDetailDTO.builder()
+                    .inquiry(InquiryListDTO.fromEntity(inquiry))
+                    .comments(comments)
+                    .build();
+        });
     }
 
     @Override
     public void modify(InquiryListDTO inquiryListDTO) {
-        Optional<Inquiry> result = inquiryRepository.findById(inquiryListDTO.getInquiryId());
+        // 작성 회원 이름이 검색 색인에 들어가므로 회원까지 한 번에 읽음
+        Optional<Inquiry> result = inquiryRepository.findWithMemberById(inquiryListDTO.getInquiryId());
         Inquiry inquiry = result.orElseThrow(() -> new IllegalArgumentException("해당 문의를 찾을 수 없습니다: " + inquiryListDTO.getInquiryId()));
 
         if (!inquiry.getMember().getMemberNo().equals(inquiryListDTO.getMemberNo())) {
@@ -71,15 +149,22 @@ public class InquiryServiceImpl implements InquiryService {
             throw new IllegalArgumentException("삭제된 문의글은 수정할 수 없습니다.");
         }
 
+        InquiryNgramIndex.Document before = toSearchDocument(inquiry);
+
         inquiry.setTitle(inquiryListDTO.getTitle());
         inquiry.setContent(inquiryListDTO.getContent());
 
+        InquiryNgramIndex.Document after = toSearchDocument(inquiry);
+        afterCommit(() -> inquiryNgramIndex.update(before, after));
+        inquiryDetailCache.evict(inquiry.getInquiryId());
+        inquiryFragmentCache.evict(inquiry.getInquiryId());
+
         log.info("문의 수정 완료: " + inquiry.getInquiryId());
     }
 
     @Override
     public void remove(Integer inquiryId) {
-        Optional<Inquiry> result = inquiryRepository.findById(inquiryId);
+        Optional<Inquiry> result = inquiryRepository.findWithMemberById(inquiryId);
         Inquiry inquiry = result.orElseThrow(() -> new IllegalArgumentException("해당 문의를 찾을 수 없습니다: " + inquiryId));
 
         if (inquiry.getIsDeleted()) {
@@ -89,39 +174,37 @@ public class InquiryServiceImpl implements InquiryService {
         inquiry.setIsDeleted(true);
         inquiryRepository.save(inquiry);
 
+        InquiryNgramIndex.Document removed = toSearchDocument(inquiry);
+        afterCommit(() -> inquiryNgramIndex.remove(removed));
+        inquiryDetailCache.evict(inquiryId);
+        inquiryFragmentCache.evict(inquiryId);
+
         log.info("문의 삭제 완료 (논리적 삭제): " + inquiryId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public InquiryPageResponseDTO<InquiryListDTO> list(InquiryPageRequestDTO inquiryPageRequestDTO) {
         Pageable pageable = inquiryPageRequestDTO.getPageable(); // Pageable 생성 시 정렬 기준이 없으면 기본 정렬 (ID 내림차순 등) 필요
 
-        Page<Inquiry> result;
+        Page<InquiryListDTO> result;
 
-        // searchAll 메서드의 파라미터가 String[] searchTypes, String searchKeyword, Pageable pageable 이 맞다면 아래 코드
+        // ⭐ 목록은 InquiryListDTO 프로젝션으로 조회 (content LOB, Member 엔티티 로딩 없음, 답변 개수 포함 SQL 1번 + COUNT 1번)
         if (inquiryPageRequestDTO.getSearchType() != null && inquiryPageRequestDTO.getSearchKeyword() != null
                 && !inquiryPageRequestDTO.getSearchType().trim().isEmpty() && !inquiryPageRequestDTO.getSearchKeyword().trim().isEmpty()) {
-            result = inquiryRepository.searchAll(
+            result = inquiryRepository.searchList(
                     new String[]{inquiryPageRequestDTO.getSearchType()}, // ⭐ 배열 형태로 전달
                     inquiryPageRequestDTO.getSearchKeyword(),
                     pageable
             );
             log.info("검색 결과: " + result.getTotalElements() + "개");
         } else {
-            // 검색 조건이 없을 경우, 삭제되지 않은 문의글을 최신순으로 가져옴 (inquiryId 내림차순으로 가정)
-            result = inquiryRepository.findByIsDeletedFalseOrderByInquiryIdDesc(pageable);
+            // 검색 조건이 없을 경우, 삭제되지 않은 문의글을 최신순으로 가져옴 (inquiryId 내림차순)
+            result = inquiryRepository.searchList(null, null, pageable);
             log.info("전체 목록 (검색 조건 없음): " + result.getTotalElements() + "개");
         }
 
-        List<InquiryListDTO> dtoList = result.getContent().stream()
-                .map(inquiry -> {
-                    InquiryListDTO dto = modelMapper.map(inquiry, InquiryListDTO.class);
-                    // ⭐️⭐️⭐️ 각 문의글에 대한 댓글 개수 추가! ⭐️⭐️⭐️
-                    int commentCount = inquiryCommentRepository.countByInquiryAndIsDeletedFalse(inquiry);
-                    dto.setCommentCount(commentCount); // InquiryListDTO에 setCommentCount() 메서드가 있어야 함
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        List<InquiryListDTO> dtoList = result.getContent();
 
         return InquiryPageResponseDTO.<InquiryListDTO>withAll()
                 .dtoList(dtoList)
@@ -130,4 +213,55 @@ public class InquiryServiceImpl implements InquiryService {
                 .size(inquiryPageRequestDTO.getSize())
                 .build();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InquiryCursorResponseDTO<InquiryListDTO> listByCursor(InquiryPageRequestDTO inquiryPageRequestDTO) {
+        int size = inquiryPageRequestDTO.getSize();
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 ~ " + MAX_CURSOR_PAGE_SIZE + " 사이여야 합니다: " + size);
+        }
+        Integer afterInquiryId = InquiryCursorResponseDTO.decodeCursor(inquiryPageRequestDTO.getCursor());
+
+        String[] types = null;
+        if (inquiryPageRequestDTO.getSearchType() != null && !inquiryPageRequestDTO.getSearchType().trim().isEmpty()) {
+            types = new String[]{inquiryPageRequestDTO.getSearchType()};
+        }
+
+        // size + 1개를 가져와서 남는 1개로 다음 페이지 여부를 판단
+        List<InquiryListDTO> dtoList = inquiryRepository.searchAfter(types, inquiryPageRequestDTO.getSearchKeyword(), afterInquiryId, size);
+        boolean hasNext = dtoList.size() > size;
+        if (hasNext) {
+            dtoList = dtoList.subList(0, size);
+        }
+
+        Integer lastInquiryId = dtoList.isEmpty() ? null : dtoList.get(dtoList.size() - 1).getInquiryId();
+        log.info("커서 목록 조회 (after: " + afterInquiryId + "): " + dtoList.size() + "개, 다음 페이지: " + hasNext);
+
+        return InquiryCursorResponseDTO.<InquiryListDTO>withAll()
+                .dtoList(dtoList)
+                .size(size)
+                .lastInquiryId(lastInquiryId)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private InquiryNgramIndex.Document toSearchDocument(Inquiry inquiry) {
+        String writer = inquiry.getMember() != null ? inquiry.getMember().getName() : null;
+        return new InquiryNgramIndex.Document(inquiry.getInquiryId(), inquiry.getTitle(), inquiry.getContent(), writer);
+    }
+
+    // 검색 색인은 DB에 커밋된 내용과 같아야 하므로, 트랜잭션이 롤백되면 반영하지 않음
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
\ No newline at end of file
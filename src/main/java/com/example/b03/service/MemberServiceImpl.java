@@ -6,7 +6,8 @@ import com.example.b03.dto.MemberDTO;
 import com.example.b03.repository.MemberRepository;
 import com.example.b03.repository.MembershipTypeRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,34 +20,65 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
     private final MembershipTypeRepository membershipTypeRepository;
-    private final ModelMapper modelMapper;
+    private final ReferenceDataCatalog referenceDataCatalog;
+    private final EntityLookupCache entityLookupCache;
 
     @Override
     public MemberDTO register(MemberDTO memberDTO) {
-        MembershipType membershipType = membershipTypeRepository.findById(memberDTO.getMembershipTypeId())
+        // 회원 유형은 메모리 카탈로그에서 확인하고, 엔티티는 FK만 담은 참조(프록시)로 연결 (DB 조회 없음)
+        Byte typeId = referenceDataCatalog.getMembershipType(memberDTO.getMembershipTypeId())
+                .map(ReferenceDataCatalog.MembershipTypeEntry::typeId)
                 .orElseThrow( () ->new IllegalArgumentException("Invalid Membership Type"));
+        MembershipType membershipType = membershipTypeRepository.getReferenceById(typeId);
 
-        Member member = modelMapper.map(memberDTO, Member.class);
-        member.setMembershipType(membershipType);
+        Member member = Member.builder()
+                .loginId(memberDTO.getLoginId())
+                .password(memberDTO.getPassword())
+                .name(memberDTO.getName())
+                .birthDate(memberDTO.getBirthDate())
+                .address(memberDTO.getAddress())
+                .phone(memberDTO.getPhone())
+                .membershipType(membershipType)
+                .build();
 
         Member saved = memberRepository.save(member);
-        return modelMapper.map(saved, MemberDTO.class);
+        entityLookupCache.evictMember(saved.getMemberNo());
+        return toDTO(saved);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<MemberDTO> findByLoginId(String loginId) {
-        return memberRepository.findByLoginId(loginId)
-                .map(member -> modelMapper.map(member, MemberDTO.class));
+        // 캐시에 없을 때만 DB 조회
+        return entityLookupCache.getMemberByLoginId(loginId, id -> memberRepository.findByLoginId(id)
+                .map(this::toDTO));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<MemberDTO> getByMemberNo(Integer memberNo) {
-        return memberRepository.findById(memberNo)
-                .map(member -> modelMapper.map(member, MemberDTO.class));
+        return entityLookupCache.getMember(memberNo, () -> memberRepository.findById(memberNo)
+                .map(this::toDTO));
+    }
+
+    // 회원 유형은 프록시 식별자(FK 값)만 읽고 이름은 메모리 카탈로그에서 채움 → membership_types SELECT가 나가지 않음
+    private MemberDTO toDTO(Member member) {
+        MembershipType membershipType = member.getMembershipType();
+        if (membershipType == null) {
+            return MemberDTO.fromEntity(member, null, null);
+        }
+        LazyInitializer proxy = HibernateProxy.extractLazyInitializer(membershipType);
+        Byte typeId = proxy != null ? (Byte) proxy.getIdentifier() : membershipType.getTypeId();
+        String typeName = referenceDataCatalog.getMembershipType(typeId)
+                .map(ReferenceDataCatalog.MembershipTypeEntry::typeName)
+                .orElse(null);
+        return MemberDTO.fromEntity(member, typeId, typeName);
     }
 
     @Override
     public void delete(Integer memberNo) {
         memberRepository.deleteById(memberNo);
+        entityLookupCache.evictMember(memberNo);
+        entityLookupCache.evictCompanyInfo(memberNo);
     }
 }
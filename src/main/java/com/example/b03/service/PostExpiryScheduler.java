@@ -0,0 +1,85 @@
+package com.example.b03.service;
+
+import com.example.b03.repository.PostRepository;
+import com.example.b03.repository.search.ClosingSoonIndex;
+import com.example.b03.repository.search.PostRecommendationIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// ⭐ 채용공고 마감 처리 + 마감 임박 목록 갱신
+// 마감일(deadline)은 날짜 단위라서 하루 한 번(0시) 돌면 충분합니다. 시작할 때도 한 번 돌아서 꺼져 있던 동안 지난 마감을 처리합니다.
+// 1) 마감일이 지난 열린 공고를 idx_posts_closed_deadline 순서로 batchSize개씩 읽어서, 배치마다 짧은 트랜잭션의 UPDATE로 닫음
+//    (한 문장으로 전체를 UPDATE하면 닫을 공고가 많은 날 그 행들을 오래 잠그므로 나눔)
+//    배치가 커밋될 때마다 닫힌 공고를 추천 후보(PostRecommendationIndex)에서 뺌
+// 2) 오늘부터 post.closing-soon.days일 안에 마감되는 공고를 ClosingSoonIndex에 다시 채움
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class PostExpiryScheduler implements ApplicationRunner {
+
+    private final PostRepository postRepository;
+    private final ClosingSoonIndex closingSoonIndex;
+    private final PostRecommendationIndex postRecommendationIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${post.expiry.batch-size:500}")
+    private int batchSize;
+
+    @Value("${post.closing-soon.days:7}")
+    private int closingSoonDays;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        runDaily();
+    }
+
+    @Scheduled(cron = "${post.expiry.cron:0 0 0 * * *}")
+    public void runDaily() {
+        LocalDate today = LocalDate.now();
+        closeExpired(today);
+        reloadClosingSoon(today);
+    }
+
+    /**
+     * 마감일이 today보다 앞선 열린 공고를 닫습니다.
+     * @return 닫은 공고 수
+     */
+    public int closeExpired(LocalDate today) {
+        long startedAt = System.nanoTime();
+        int[] closed = {0};
+        while (true) {
+            List<Integer> postIds = transactionTemplate.execute(status -> {
+                List<Integer> expired = postRepository.findExpiredPostIds(today, PageRequest.of(0, batchSize));
+                if (!expired.isEmpty()) {
+                    closed[0] += postRepository.closeExpired(expired, today, LocalDateTime.now());
+                }
+                return expired;
+            });
+            if (postIds.isEmpty()) {
+                break;
+            }
+            postRecommendationIndex.removePosts(postIds);
+        }
+
+        if (closed[0] > 0) {
+            log.info("채용공고 마감 처리: " + closed[0] + "건, " + (System.nanoTime() - startedAt) / 1_000_000 + "ms");
+        }
+        return closed[0];
+    }
+
+    public void reloadClosingSoon(LocalDate today) {
+        LocalDate until = today.plusDays(closingSoonDays);
+        closingSoonIndex.replace(postRepository.findClosingSoon(today, until), until);
+    }
+}
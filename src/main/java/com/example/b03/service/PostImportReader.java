@@ -0,0 +1,207 @@
+package com.example.b03.service;
+
+import com.example.b03.dto.PostImportRowDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 채용공고 대량 등록 파일을 한 행씩 읽는 리더 (파일 전체를 메모리에 올리지 않음)
+// CSV: 첫 줄은 헤더 (title,description,salary,location,deadline,jobCategoryIds), 따옴표 안의 쉼표/줄바꿈 허용
+// NDJSON: 한 줄에 JSON 객체 하나 ({"title": ..., "deadline": "2025-12-31", "jobCategoryIds": [1, 2]})
+// 형식이 잘못된 행은 예외 대신 error가 채워진 Row로 돌려줘서 나머지 행은 계속 읽을 수 있게 합니다.
+abstract class PostImportReader {
+
+    // line: 행이 시작하는 줄 번호, 파싱에 실패하면 row는 null이고 error에 이유
+    record Row(long line, PostImportRowDTO row, String error) {
+    }
+
+    protected final BufferedReader reader;
+    protected long lineNumber = 0;
+
+    protected PostImportReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    static PostImportReader csv(Reader reader) throws IOException {
+        return new Csv(reader);
+    }
+
+    static PostImportReader ndjson(Reader reader, ObjectMapper objectMapper) {
+        return new NdJson(reader, objectMapper);
+    }
+
+    // 다음 행 (파일 끝이면 null)
+    abstract Row next() throws IOException;
+
+    // --- CSV ---
+
+    private static final class Csv extends PostImportReader {
+
+        private static final List<String> COLUMNS = List.of("title", "description", "salary", "location", "deadline", "jobCategoryIds");
+
+        private final Map<String, Integer> columnIndex = new HashMap<>();
+
+        Csv(Reader reader) throws IOException {
+            super(reader);
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columnIndex.put(header.get(i).trim().replace("\uFEFF", ""), i); // 엑셀 BOM 제거
+            }
+            if (!columnIndex.containsKey("title") || !columnIndex.containsKey("description")) {
+                throw new IllegalArgumentException("CSV 헤더에 title, description 컬럼이 필요합니다. 사용 가능한 컬럼: " + COLUMNS);
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            long startLine = lineNumber + 1;
+            List<String> record = readRecord();
+            while (record != null && record.size() == 1 && record.get(0).isBlank()) { // 빈 줄은 건너뜀
+                startLine = lineNumber + 1;
+                record = readRecord();
+            }
+            if (record == null) {
+                return null;
+            }
+            try {
+                return new Row(startLine, PostImportRowDTO.builder()
+                        .title(column(record, "title"))
+                        .description(column(record, "description"))
+                        .salary(column(record, "salary"))
+                        .location(column(record, "location"))
+                        .deadline(parseDate(column(record, "deadline")))
+                        .jobCategoryIds(parseIds(column(record, "jobCategoryIds")))
+                        .build(), null);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                return new Row(startLine, null, e.getMessage());
+            }
+        }
+
+        private String column(List<String> record, String name) {
+            Integer index = columnIndex.get(name);
+            if (index == null || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private static LocalDate parseDate(String value) {
+            return value == null ? null : LocalDate.parse(value);
+        }
+
+        private static List<Integer> parseIds(String value) {
+            List<Integer> ids = new ArrayList<>();
+            if (value == null) {
+                return ids;
+            }
+            for (String id : value.split("\\|")) {
+                if (!id.isBlank()) {
+                    try {
+                        ids.add(Integer.valueOf(id.trim()));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("잘못된 직무 카테고리 ID: " + id);
+                    }
+                }
+            }
+            return ids;
+        }
+
+        // RFC 4180 레코드 하나 읽기 (따옴표 안의 줄바꿈은 같은 레코드, "" 는 따옴표 문자)
+        private List<String> readRecord() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char ch = line.charAt(i);
+                    if (quoted) {
+                        if (ch == '"') {
+                            if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                                field.append('"');
+                                i++;
+                            } else {
+                                quoted = false;
+                            }
+                        } else {
+                            field.append(ch);
+                        }
+                    } else if (ch == '"') {
+                        quoted = true;
+                    } else if (ch == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                    } else {
+                        field.append(ch);
+                    }
+                }
+                if (!quoted) {
+                    break;
+                }
+                // 따옴표가 안 닫혔으면 다음 줄까지 같은 필드
+                line = reader.readLine();
+                if (line == null) {
+                    break; // 파일 끝까지 닫히지 않으면 읽은 데까지 사용
+                }
+                lineNumber++;
+                field.append('\n');
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    // --- NDJSON ---
+
+    private static final class NdJson extends PostImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        NdJson(Reader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        Row next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+
+            try {
+                // null, 숫자, 배열도 올바른 JSON이므로 객체인지 먼저 확인 (readValue는 null에 null을 돌려줌)
+                JsonNode node = objectMapper.readTree(line);
+                if (node == null || !node.isObject()) {
+                    return new Row(lineNumber, null, "JSON 객체가 아닙니다: " + line.strip());
+                }
+                return new Row(lineNumber, objectMapper.treeToValue(node, PostImportRowDTO.class), null);
+            } catch (JsonProcessingException e) {
+                return new Row(lineNumber, null, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
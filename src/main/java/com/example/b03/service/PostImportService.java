@@ -0,0 +1,19 @@
+package com.example.b03.service;
+
+import com.example.b03.dto.PostImportResultDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+
+public interface PostImportService {
+
+    /**
+     * 채용공고를 직무 카테고리와 함께 대량 등록합니다. (파일을 한 행씩 읽어 일정 개수마다 배치 INSERT + 커밋)
+     * 잘못된 행은 건너뛰고 결과의 errors에 줄 번호와 이유를 담습니다.
+     * @param memberNo 공고를 등록하는 기업 회원 번호
+     * @param reader CSV 또는 NDJSON 내용
+     * @param format "csv" 또는 "ndjson"
+     * @return 전체/성공/실패 행 수와 실패 사유
+     */
+    PostImportResultDTO importPosts(Integer memberNo, Reader reader, String format) throws IOException;
+}
@@ -0,0 +1,216 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.CompanyInfo;
+import com.example.b03.domain.JobCategory;
+import com.example.b03.domain.Post;
+import com.example.b03.domain.PostJobCategory;
+import com.example.b03.dto.PostImportResultDTO;
+import com.example.b03.dto.PostImportRowDTO;
+import com.example.b03.dto.PostSummaryDTO;
+import com.example.b03.repository.CompanyInfoRepository;
+import com.example.b03.repository.search.ClosingSoonIndex;
+import com.example.b03.repository.search.PostRecommendationIndex;
+import com.example.b03.repository.search.PostSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+// ⭐ 채용공고 대량 등록
+// chunkSize개 행마다 트랜잭션 하나로 persist → flush(배치 INSERT) → clear 해서 메모리와 영속성 컨텍스트 크기를 일정하게 유지합니다.
+// 한 청크가 DB 오류로 실패하면 그 청크만 한 행씩 다시 넣어서 문제 행만 실패로 기록합니다. (앞에서 커밋된 청크는 그대로)
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class PostImportServiceImpl implements PostImportService {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final CompanyInfoRepository companyInfoRepository;
+    private final ReferenceDataCatalog referenceDataCatalog;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final PostSearchIndex postSearchIndex;
+    private final ClosingSoonIndex closingSoonIndex;
+    private final PostRecommendationIndex postRecommendationIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // hibernate.jdbc.batch_size의 배수로 맞추면 마지막 배치 외에는 꽉 찬 배치로 나감
+    @Value("${post.import.chunk-size:500}")
+    private int chunkSize;
+
+    private record ValidRow(long line, PostImportRowDTO row) {
+    }
+
+    @Override
+    public PostImportResultDTO importPosts(Integer memberNo, Reader reader, String format) throws IOException {
+        // 마감 임박 목록에 넣을 기업명 (청크마다 읽지 않도록 한 번만)
+        String companyName = companyInfoRepository.findById(memberNo)
+                .orElseThrow(() -> new NoSuchElementException("CompanyInfo not found"))
+                .getCompanyName();
+
+        PostImportReader rows = switch (format) {
+            case "csv" -> PostImportReader.csv(reader);
+            case "ndjson" -> PostImportReader.ndjson(reader, objectMapper);
+            default -> throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        };
+
+        PostImportResultDTO result = PostImportResultDTO.builder().errors(new ArrayList<>()).build();
+        List<ValidRow> chunk = new ArrayList<>(chunkSize);
+
+        long startedAt = System.nanoTime();
+        PostImportReader.Row row;
+        while ((row = rows.next()) != null) {
+            result.setTotalRows(result.getTotalRows() + 1);
+
+            String error = row.error() != null ? row.error() : validate(row.row());
+            if (error != null) {
+                addError(result, row.line(), error);
+                continue;
+            }
+
+            chunk.add(new ValidRow(row.line(), row.row()));
+            if (chunk.size() == chunkSize) {
+                writeChunk(memberNo, companyName, chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(memberNo, companyName, chunk, result);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("채용공고 대량 등록 (기업: " + memberNo + "): 전체 " + result.getTotalRows() + "행, 성공 " + result.getImportedRows()
+                + "행, 실패 " + result.getFailedRows() + "행, " + elapsedMillis + "ms");
+        return result;
+    }
+
+    // DB에 보내기 전에 걸러낼 수 있는 오류 (직무 카테고리 존재 여부는 메모리 카탈로그로 확인)
+    private String validate(PostImportRowDTO row) {
+        if (row.getTitle() == null || row.getTitle().isBlank()) {
+            return "title은 필수입니다.";
+        }
+        if (row.getTitle().length() > 255) {
+            return "title은 255자 이하여야 합니다.";
+        }
+        if (row.getDescription() == null || row.getDescription().isBlank()) {
+            return "description은 필수입니다.";
+        }
+        if (row.getSalary() != null && row.getSalary().length() > 100) {
+            return "salary는 100자 이하여야 합니다.";
+        }
+        if (row.getLocation() != null && row.getLocation().length() > 100) {
+            return "location은 100자 이하여야 합니다.";
+        }
+        if (row.getJobCategoryIds() != null) {
+            for (Integer jobCategoryId : row.getJobCategoryIds()) {
+                if (referenceDataCatalog.getJobCategory(jobCategoryId).isEmpty()) {
+                    return "존재하지 않는 직무 카테고리입니다: " + jobCategoryId;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void writeChunk(Integer memberNo, String companyName, List<ValidRow> chunk, PostImportResultDTO result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persistRows(memberNo, companyName, chunk));
+            result.setImportedRows(result.getImportedRows() + chunk.size());
+        } catch (RuntimeException e) {
+            // 청크 전체가 롤백됨 → 한 행씩 다시 넣어서 실패한 행만 골라냄
+            log.warn("채용공고 대량 등록 청크 실패 → 행 단위로 재시도: " + e.getMessage());
+            for (ValidRow validRow : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persistRows(memberNo, companyName, List.of(validRow)));
+                    result.setImportedRows(result.getImportedRows() + 1);
+                } catch (RuntimeException rowException) {
+                    addError(result, validRow.line(), "저장 실패: " + NestedExceptionUtils.getMostSpecificCause(rowException).getMessage());
+                }
+            }
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private void persistRows(Integer memberNo, String companyName, List<ValidRow> rows) {
+        CompanyInfo company = entityManager.getReference(CompanyInfo.class, memberNo); // SELECT 없이 FK만 사용
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        List<PostSearchIndex.Document> documents = new ArrayList<>(rows.size());
+        List<PostSummaryDTO> summaries = new ArrayList<>(rows.size());
+        List<PostRecommendationIndex.Candidate> candidates = new ArrayList<>(rows.size());
+
+        for (ValidRow validRow : rows) {
+            PostImportRowDTO row = validRow.row();
+            Post post = Post.builder()
+                    .company(company)
+                    .title(row.getTitle())
+                    .description(row.getDescription())
+                    .salary(row.getSalary())
+                    .location(row.getLocation())
+                    .deadline(row.getDeadline())
+                    .postedDate(now)
+                    .updatedDate(now)
+                    .closed(row.getDeadline() != null && row.getDeadline().isBefore(today)) // 이미 지난 마감일이면 바로 마감
+                    .build();
+            entityManager.persist(post); // 시퀀스에서 미리 받은 id가 바로 할당됨 (INSERT는 flush 때 배치로)
+
+            // 같은 카테고리 중복 제거
+            Set<Integer> jobCategoryIds = row.getJobCategoryIds() == null ? Set.of() : new LinkedHashSet<>(row.getJobCategoryIds());
+            documents.add(new PostSearchIndex.Document(post.getPostId(), post.getTitle(), post.getDescription(),
+                    post.getLocation(), post.getDeadline(), jobCategoryIds));
+            if (!post.isClosed()) {
+                PostSummaryDTO summary = new PostSummaryDTO(post.getPostId(), post.getTitle(), memberNo, companyName, post.getSalary(),
+                        post.getLocation(), post.getDeadline(), post.getPostedDate());
+                summaries.add(summary);
+                candidates.add(new PostRecommendationIndex.Candidate(summary, jobCategoryIds));
+            }
+
+            for (Integer jobCategoryId : jobCategoryIds) {
+                entityManager.persist(PostJobCategory.builder()
+                        .postId(post.getPostId())
+                        .jobCategoryId(jobCategoryId)
+                        .post(post)
+                        .jobCategory(entityManager.getReference(JobCategory.class, jobCategoryId))
+                        .build());
+            }
+        }
+        entityManager.flush(); // posts, post_job_categories 각각 batch_size개씩 묶어서 INSERT (hibernate.order_inserts)
+
+        // 커밋된 공고만 검색 색인/마감 임박 목록/추천에 반영 (청크가 롤백되면 반영하지 않음)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                documents.forEach(postSearchIndex::add);
+                closingSoonIndex.addAll(summaries); // 마감일이 없거나 먼 공고는 여기서 걸러짐
+                postRecommendationIndex.addPosts(candidates);
+            }
+        });
+    }
+
+    private static void addError(PostImportResultDTO result, long line, String message) {
+        result.setFailedRows(result.getFailedRows() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new PostImportResultDTO.RowError(line, message));
+        }
+    }
+}
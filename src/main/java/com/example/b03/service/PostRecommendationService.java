@@ -0,0 +1,14 @@
+package com.example.b03.service;
+
+import com.example.b03.repository.search.PostRecommendationIndex;
+
+import java.util.List;
+
+public interface PostRecommendationService {
+
+    /**
+     * 회원의 지원 이력(직무 카테고리)과 비슷한 열린 채용공고를 점수가 높은 순으로 최대 size개 돌려줍니다.
+     * 미리 계산해 둔 메모리 목록(PostRecommendationIndex)에서 읽으므로 DB를 읽지 않습니다.
+     */
+    List<PostRecommendationIndex.Recommendation> getRecommendations(Integer memberNo, int size);
+}
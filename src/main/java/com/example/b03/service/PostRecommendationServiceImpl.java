@@ -0,0 +1,27 @@
+package com.example.b03.service;
+
+import com.example.b03.repository.search.PostRecommendationIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class PostRecommendationServiceImpl implements PostRecommendationService {
+
+    private final PostRecommendationIndex postRecommendationIndex;
+
+    @Override
+    public List<PostRecommendationIndex.Recommendation> getRecommendations(Integer memberNo, int size) {
+        if (size < 1 || size > postRecommendationIndex.getTopK()) {
+            throw new IllegalArgumentException("size는 1~" + postRecommendationIndex.getTopK() + " 사이여야 합니다.");
+        }
+        if (!postRecommendationIndex.isReady()) {
+            throw new IllegalStateException("채용공고 추천을 준비 중입니다.");
+        }
+        return postRecommendationIndex.recommend(memberNo, size);
+    }
+}
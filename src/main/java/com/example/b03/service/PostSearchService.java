@@ -0,0 +1,26 @@
+package com.example.b03.service;
+
+import com.example.b03.dto.PostSearchRequestDTO;
+import com.example.b03.dto.PostSearchResponseDTO;
+import com.example.b03.dto.PostSummaryDTO;
+import com.example.b03.repository.search.PostSearchIndex;
+
+import java.util.List;
+
+public interface PostSearchService {
+
+    /**
+     * 채용공고를 키워드 + 직무 카테고리/지역/마감 구간으로 검색하고, facet별 개수를 함께 돌려줍니다.
+     * 필터와 개수는 메모리 색인(PostSearchIndex)으로 계산하고, DB에서는 결과 한 페이지만 읽습니다.
+     */
+    PostSearchResponseDTO search(PostSearchRequestDTO requestDTO);
+
+    // 색인 크기 (공고/단어/카테고리/지역 수, 비트맵 바이트 수)
+    PostSearchIndex.Stats getIndexStats();
+
+    /**
+     * 오늘부터 days일 안에 마감되는 열린 공고를 마감일이 빠른 순으로 최대 size개 돌려줍니다.
+     * DB를 읽지 않고 메모리 목록(ClosingSoonIndex)에서 바로 돌려줍니다.
+     */
+    List<PostSummaryDTO> getClosingSoon(int days, int size);
+}
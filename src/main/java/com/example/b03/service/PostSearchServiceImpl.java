@@ -0,0 +1,96 @@
+package com.example.b03.service;
+
+import com.example.b03.dto.PostSearchRequestDTO;
+import com.example.b03.dto.PostSearchResponseDTO;
+import com.example.b03.dto.PostSummaryDTO;
+import com.example.b03.repository.PostRepository;
+import com.example.b03.repository.search.ClosingSoonIndex;
+import com.example.b03.repository.search.PostSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class PostSearchServiceImpl implements PostSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final ClosingSoonIndex closingSoonIndex;
+
+    // ClosingSoonIndex가 들고 있는 기간 (이보다 긴 기간은 조회할 수 없음)
+    @Value("${post.closing-soon.days:7}")
+    private int closingSoonDays;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostSearchResponseDTO search(PostSearchRequestDTO requestDTO) {
+        if (requestDTO.getPage() < 1 || requestDTO.getSize() < 1 || requestDTO.getSize() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page는 1 이상, size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        if (!postSearchIndex.isReady()) {
+            throw new IllegalStateException("채용공고 검색 색인을 준비 중입니다.");
+        }
+
+        PostSearchIndex.Query query = new PostSearchIndex.Query(
+                requestDTO.getKeyword(),
+                toSet(requestDTO.getCategory()),
+                toSet(requestDTO.getLocation()),
+                toSet(requestDTO.getDeadline()),
+                toSet(requestDTO.getExcludeCategory()));
+        int offset = (requestDTO.getPage() - 1) * requestDTO.getSize();
+        PostSearchIndex.Result result = postSearchIndex.search(query, offset, requestDTO.getSize());
+
+        return PostSearchResponseDTO.builder()
+                .dtoList(hydrate(result.postIds()))
+                .totalCount(result.total())
+                .page(requestDTO.getPage())
+                .size(requestDTO.getSize())
+                .categoryCounts(result.jobCategoryCounts())
+                .locationCounts(result.locationCounts())
+                .deadlineCounts(result.deadlineCounts())
+                .build();
+    }
+
+    @Override
+    public PostSearchIndex.Stats getIndexStats() {
+        return postSearchIndex.getStats();
+    }
+
+    @Override
+    public List<PostSummaryDTO> getClosingSoon(int days, int size) {
+        if (days < 0 || days > closingSoonDays || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("days는 0~" + closingSoonDays + ", size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        if (!closingSoonIndex.isReady()) {
+            throw new IllegalStateException("마감 임박 공고 목록을 준비 중입니다.");
+        }
+        return closingSoonIndex.list(days, size);
+    }
+
+    // 색인이 정한 순서(최신순) 그대로 한 페이지를 DB에서 읽음 (색인 갱신 직전에 삭제된 공고는 빠짐)
+    private List<PostSummaryDTO> hydrate(List<Integer> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, PostSummaryDTO> byId = postRepository.findSummariesByPostIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostSummaryDTO::getPostId, Function.identity()));
+        return postIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static <T> Set<T> toSet(List<T> values) {
+        return values == null ? Set.of() : new HashSet<>(values);
+    }
+}
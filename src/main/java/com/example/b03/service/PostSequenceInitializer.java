@@ -0,0 +1,37 @@
+package com.example.b03.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// ⭐ posts_seq 시퀀스를 기존 공고 id 뒤로 맞추는 컴포넌트
+// Post id가 AUTO_INCREMENT(IDENTITY)에서 시퀀스로 바뀌었으므로, 이미 있는 post_id와 겹치지 않게 시작 시 한 번 맞춥니다.
+// MariaDB SETVAL은 현재 값보다 작은 값은 무시하므로 여러 번 실행해도 안전합니다.
+// (ApplicationRunner / ContextRefreshedEvent는 웹 서버가 요청을 받기 시작한 뒤라서, 모든 빈이 만들어진 직후에 맞춤
+//  → 배포 직후 들어온 공고 등록이 기존 post_id와 겹치지 않음)
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class PostSequenceInitializer implements SmartInitializingSingleton {
+
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Number maxPostId = (Number) entityManager
+                    .createNativeQuery("SELECT COALESCE(MAX(post_id), 0) FROM posts")
+                    .getSingleResult();
+            entityManager.createNativeQuery("SELECT SETVAL(posts_seq, " + maxPostId.longValue() + ")")
+                    .getSingleResult();
+            log.info("posts_seq 시퀀스를 기존 공고 id(" + maxPostId + ") 뒤로 맞춤");
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.Member;
+
+import java.util.Collection;
+import java.util.Optional;
+
+// ⭐ 거의 바뀌지 않는 기준 데이터(회원 유형, 직무 카테고리)를 메모리에 들고 있는 카탈로그
+// 시작할 때 한 번 DB에서 읽고, refresh()를 호출할 때만 다시 읽습니다.
+// 조회는 DB에 가지 않으며, 카탈로그에 없는 id는 빈 값입니다. (새로 추가한 값은 refresh() 후에 보임)
+// 값은 엔티티가 아닌 불변 레코드라서 호출하는 쪽이 공유 상태를 바꿀 수 없습니다.
+public interface ReferenceDataCatalog {
+
+    Optional<MembershipTypeEntry> getMembershipType(Byte typeId);
+
+    Optional<JobCategoryEntry> getJobCategory(Integer jobCategoryId);
+
+    Collection<MembershipTypeEntry> getMembershipTypes();
+
+    Collection<JobCategoryEntry> getJobCategories();
+
+    /**
+     * 회원의 멤버십 타입 ID를 LAZY 프록시를 초기화하지 않고 꺼냅니다. (추가 SELECT 없음)
+     */
+    Byte getMembershipTypeId(Member member);
+
+    // 미리 직렬화해 둔 JSON과 ETag (/api/membership-types, /api/job-categories 응답용)
+    SerializedList getMembershipTypesJson();
+
+    SerializedList getJobCategoriesJson();
+
+    /**
+     * DB에서 다시 읽어 카탈로그 전체를 교체합니다.
+     */
+    void refresh();
+
+    record SerializedList(byte[] body, String etag) {
+    }
+
+    record MembershipTypeEntry(Byte typeId, String typeName) {
+    }
+
+    record JobCategoryEntry(Integer jobCategoryId, String name) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.Member;
+import com.example.b03.domain.MembershipType;
+import com.example.b03.dto.JobCategoryDTO;
+import com.example.b03.dto.MembershipTypeDTO;
+import com.example.b03.repository.JobCategoryRepository;
+import com.example.b03.repository.MembershipTypeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ReferenceDataCatalogImpl implements ReferenceDataCatalog {
+
+    private final MembershipTypeRepository membershipTypeRepository;
+    private final JobCategoryRepository jobCategoryRepository;
+    private final ObjectMapper objectMapper;
+
+    // refresh() 때마다 통째로 새로 만들어 교체 (읽는 쪽은 잠금 없이 항상 일관된 스냅샷을 봄)
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // refresh()끼리만 직렬화 (DB 조회 중에 잡고 있으므로 synchronized 대신 사용 → 가상 스레드가 캐리어에 고정되지 않음)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private record Snapshot(Map<Byte, MembershipTypeEntry> membershipTypes,
+                            Map<Integer, JobCategoryEntry> jobCategories,
+                            SerializedList membershipTypesJson,
+                            SerializedList jobCategoriesJson) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(),
+                new SerializedList(new byte[]{'[', ']'}, "\"empty\""),
+                new SerializedList(new byte[]{'[', ']'}, "\"empty\""));
+    }
+
+    @PostConstruct
+    @Override
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            // id 순서를 유지해야 JSON(ETag)이 매번 같게 나옴
+            Map<Byte, MembershipTypeEntry> membershipTypes = membershipTypeRepository.findAll().stream()
+                    .map(type -> new MembershipTypeEntry(type.getTypeId(), type.getTypeName()))
+                    .sorted(Comparator.comparing(MembershipTypeEntry::typeId))
+                    .collect(Collectors.toMap(MembershipTypeEntry::typeId, entry -> entry, (a, b) -> a, LinkedHashMap::new));
+            Map<Integer, JobCategoryEntry> jobCategories = jobCategoryRepository.findAll().stream()
+                    .map(category -> new JobCategoryEntry(category.getJobCategoryId(), category.getName()))
+                    .sorted(Comparator.comparing(JobCategoryEntry::jobCategoryId))
+                    .collect(Collectors.toMap(JobCategoryEntry::jobCategoryId, entry -> entry, (a, b) -> a, LinkedHashMap::new));
+
+            List<MembershipTypeDTO> membershipTypeDTOs = membershipTypes.values().stream()
+                    .map(type -> MembershipTypeDTO.builder()
+                            .typeId(type.typeId().intValue())
+                            .typeName(type.typeName())
+                            .build())
+                    .toList();
+            List<JobCategoryDTO> jobCategoryDTOs = jobCategories.values().stream()
+                    .map(category -> JobCategoryDTO.builder()
+                            .jobCategoryId(category.jobCategoryId())
+                            .name(category.name())
+                            .build())
+                    .toList();
+
+            snapshot = new Snapshot(
+                    Collections.unmodifiableMap(membershipTypes),
+                    Collections.unmodifiableMap(jobCategories),
+                    serialize(membershipTypeDTOs),
+                    serialize(jobCategoryDTOs));
+
+            log.info("기준 데이터 카탈로그 갱신: 회원 유형 " + membershipTypes.size() + "개, 직무 카테고리 " + jobCategories.size() + "개");
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 카탈로그에 없는 id는 DB를 다시 보지 않고 빈 값 (잘못된 id로 요청마다 DB를 읽게 만들 수 없음)
+    @Override
+    public Optional<MembershipTypeEntry> getMembershipType(Byte typeId) {
+        return typeId == null ? Optional.empty() : Optional.ofNullable(snapshot.membershipTypes().get(typeId));
+    }
+
+    @Override
+    public Optional<JobCategoryEntry> getJobCategory(Integer jobCategoryId) {
+        return jobCategoryId == null ? Optional.empty() : Optional.ofNullable(snapshot.jobCategories().get(jobCategoryId));
+    }
+
+    @Override
+    public Collection<MembershipTypeEntry> getMembershipTypes() {
+        return snapshot.membershipTypes().values();
+    }
+
+    @Override
+    public Collection<JobCategoryEntry> getJobCategories() {
+        return snapshot.jobCategories().values();
+    }
+
+    @Override
+    public Byte getMembershipTypeId(Member member) {
+        MembershipType membershipType = member.getMembershipType();
+        if (membershipType == null) {
+            return null;
+        }
+        // LAZY 프록시면 FK 값만 꺼냄 (getTypeId()를 호출해도 프록시가 초기화되지 않게)
+        LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer(membershipType);
+        if (lazyInitializer != null) {
+            return (Byte) lazyInitializer.getIdentifier();
+        }
+        return membershipType.getTypeId();
+    }
+
+    @Override
+    public SerializedList getMembershipTypesJson() {
+        return snapshot.membershipTypesJson();
+    }
+
+    @Override
+    public SerializedList getJobCategoriesJson() {
+        return snapshot.jobCategoriesJson();
+    }
+
+    private SerializedList serialize(List<?> dtoList) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(dtoList);
+            return new SerializedList(body, etagOf(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("기준 데이터 직렬화 실패", e);
+        }
+    }
+
+    // 내용(JSON 바이트)의 SHA-256 앞 16바이트로 만든 strong ETag
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.b03.service;
+
+import com.example.b03.dto.AttachmentStorageStatsDTO;
+import com.example.b03.dto.ResumeFileDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ResumeFileService {
+
+    /**
+     * 지원서에 이력서 파일을 올립니다. 같은 내용의 파일이 이미 있으면 파일은 다시 저장하지 않고 참조만 늘립니다.
+     * 이미 올린 파일이 있으면 새 파일로 바꾸고 이전 파일의 참조를 줄입니다. 삭제된 지원서면 IllegalArgumentException
+     * @param applicationId 지원서 ID
+     * @param in 파일 내용 (받는 대로 디스크에 씀)
+     * @param contentType PDF, DOC, DOCX, HWP만 허용
+     */
+    ResumeFileDTO upload(Integer applicationId, InputStream in, String contentType) throws IOException;
+
+    // 다운로드할 이력서 파일 정보 (없으면 NoSuchElementException)
+    ResumeFileDTO getResume(Integer applicationId);
+
+    /**
+     * 지원서가 더 이상 쓰지 않는 파일의 참조를 줄입니다. (지원서 삭제, 파일 교체)
+     * 호출한 쪽 트랜잭션에 참여하며, 참조가 0이 된 파일은 AttachmentSweeper가 나중에 지웁니다.
+     * @param filePath Application.filePath
+     */
+    void releaseFile(String filePath);
+
+    // 저장소 사용량과 중복 제거로 절약한 크기
+    AttachmentStorageStatsDTO getStorageStats();
+}
@@ -0,0 +1,144 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.Application;
+import com.example.b03.dto.AttachmentStorageStatsDTO;
+import com.example.b03.dto.ResumeFileDTO;
+import com.example.b03.repository.ApplicationRepository;
+import com.example.b03.repository.AttachmentBlobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class ResumeFileServiceImpl implements ResumeFileService {
+
+    private final ApplicationRepository applicationRepository;
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final ResumeFileStore resumeFileStore;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public ResumeFileDTO upload(Integer applicationId, InputStream in, String contentType) throws IOException {
+        requireNotDeleted(applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new NoSuchElementException("Application not found")));
+
+        // 파일은 트랜잭션 밖에서 받음 (업로드하는 동안 DB 커넥션을 잡고 있지 않도록)
+        ResumeFileStore.StagedFile staged = resumeFileStore.stage(in, contentType);
+        boolean stored;
+        try {
+            stored = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                // 행 잠금: 같은 지원서에 동시에 올리거나 삭제와 겹쳐도 이전 파일의 참조는 한 번만 줄어듦
+                Application application = requireNotDeleted(applicationRepository.findByIdForUpdate(applicationId)
+                        .orElseThrow(() -> new NoSuchElementException("Application not found")));
+
+                // acquire가 AttachmentBlob 행을 잠그므로 AttachmentSweeper가 같은 파일을 지우는 중이면 끝날 때까지 기다림
+                attachmentBlobRepository.acquire(staged.hash(), staged.extension(), staged.size(), LocalDateTime.now());
+                // 같은 내용이 다른 확장자로 이미 있으면 그 경로를 씀 (행은 해시 하나에 하나, 파일도 하나)
+                ResumeFileStore.StagedFile target = staged.withExtension(attachmentBlobRepository.findExtensionByHash(staged.hash())
+                        .orElseThrow(() -> new IllegalStateException("첨부파일 정보가 없습니다: " + staged.hash())));
+                boolean newFile;
+                try {
+                    newFile = resumeFileStore.commit(target);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                // 롤백되어 행 없이 남은 새 파일은 다음에 같은 내용이 올라오면 재사용되고, 아니면 AttachmentSweeper.sweepOrphanFiles가 지움
+
+                if (application.getFilePath() != null) {
+                    releaseFile(application.getFilePath()); // 같은 파일을 다시 올린 경우에도 +1 -1로 참조 수 유지
+                }
+                application.setFilePath(target.path());
+                application.setUpdatedAt(LocalDateTime.now());
+                return newFile;
+            }));
+        } finally {
+            resumeFileStore.discard(staged);
+        }
+
+        ResumeFileDTO resume = getResume(applicationId);
+        log.info("이력서 업로드 (지원서: " + applicationId + "): " + resume.getFilePath() + ", " + staged.size() + " bytes"
+                + (stored ? "" : " → 같은 파일이 있어 참조만 추가"));
+        return resume;
+    }
+
+    // ApplicationServiceImpl.remove와 같은 규칙 (삭제된 지원서에는 파일을 올리지 않음 → 참조가 풀리지 않고 남는 것을 막음)
+    private static Application requireNotDeleted(Application application) {
+        if (Boolean.TRUE.equals(application.getIsDeleted())) {
+            throw new IllegalArgumentException("이미 삭제된 지원서입니다.");
+        }
+        return application;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResumeFileDTO getResume(Integer applicationId) {
+        Application application = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new NoSuchElementException("Application not found"));
+        if (application.getFilePath() == null) {
+            throw new NoSuchElementException("첨부된 이력서가 없습니다.");
+        }
+
+        Path file = resumeFileStore.resolve(application.getFilePath());
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new NoSuchElementException("이력서 파일을 찾을 수 없습니다.");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return ResumeFileDTO.builder()
+                .applicationId(applicationId)
+                .filePath(application.getFilePath())
+                .contentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+                        .orElse(MediaType.APPLICATION_OCTET_STREAM).toString())
+                .size(attributes.size())
+                .lastModified(attributes.lastModifiedTime().toInstant())
+                .file(file)
+                .build();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseFile(String filePath) {
+        Optional<String> hash = ResumeFileStore.hashOf(filePath);
+        if (hash.isPresent()) {
+            attachmentBlobRepository.release(hash.get(), LocalDateTime.now());
+            return;
+        }
+        // 내용 주소 방식 이전에 저장된 파일 (한 지원서만 씀) → 커밋된 뒤 바로 삭제
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                resumeFileStore.delete(filePath);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttachmentStorageStatsDTO getStorageStats() {
+        return attachmentBlobRepository.getStorageStats();
+    }
+}
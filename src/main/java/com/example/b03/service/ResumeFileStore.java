@@ -0,0 +1,188 @@
+package com.example.b03.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// ⭐ 지원서 첨부파일(이력서)을 로컬 디스크에 저장하는 저장소 (내용 주소 방식)
+// 파일은 내용의 SHA-256으로 "ab/cd/{sha256}.{확장자}"에 한 번만 저장되고, 같은 파일을 여러 공고에 내도 한 벌만 남습니다.
+// 경로의 확장자는 그 내용이 처음 저장될 때의 것(AttachmentBlob.extension)이라, 다른 형식으로 다시 올려도 파일이 늘지 않습니다.
+// 업로드는 64KB 버퍼로 받은 만큼 바로 임시 파일에 쓰면서 해시를 같이 계산합니다. (파일 전체를 힙에 올리지 않음)
+// 몇 개의 지원서가 같은 파일을 쓰는지는 AttachmentBlob.refCount로 관리하고, 참조가 없는 파일은 AttachmentSweeper가 지웁니다.
+// 같은 경로의 내용은 바뀌지 않으므로 파일 이름을 ETag로 쓸 수 있습니다.
+@Component
+@Log4j2
+public class ResumeFileStore {
+
+    // 허용하는 Content-Type → 확장자
+    static final Map<String, String> EXTENSIONS = Map.of(
+            "application/pdf", "pdf",
+            "application/msword", "doc",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "docx",
+            "application/x-hwp", "hwp",
+            "application/haansofthwp", "hwp");
+
+    // 내용 주소 경로 (이전 방식인 "yyyy/MM/{uuid}.{확장자}" 경로는 해당 없음)
+    private static final Pattern CONTENT_PATH = Pattern.compile("[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})\\.[a-z]+");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path staging;
+    private final long maxSize;
+
+    public ResumeFileStore(@Value("${application.resume.storage-dir:./data/resumes}") String root,
+                           @Value("${application.resume.max-size:20MB}") DataSize maxSize) throws IOException {
+        this.root = Files.createDirectories(Path.of(root)).toAbsolutePath().normalize();
+        this.staging = Files.createDirectories(this.root.resolve("staging")); // 같은 파일 시스템이라 이동이 rename 한 번으로 끝남
+        this.maxSize = maxSize.toBytes();
+        log.info("지원서 첨부파일 저장소: " + this.root + " (최대 " + maxSize + ")");
+    }
+
+    // 받아서 임시 파일에 써 둔 업로드 (hash: 내용의 SHA-256, path: 최종 저장 경로)
+    public record StagedFile(Path temp, String hash, String extension, long size) {
+
+        public String path() {
+            return pathOf(hash, extension);
+        }
+
+        // 같은 내용이 이미 다른 확장자로 저장되어 있으면 그 경로로 옮기도록 확장자만 바꿈
+        public StagedFile withExtension(String extension) {
+            return new StagedFile(temp, hash, extension, size);
+        }
+    }
+
+    // 내용 주소 경로 (해시 앞 4자로 디렉토리를 나눠 한 디렉토리에 파일이 너무 많아지지 않게 함)
+    public static String pathOf(String hash, String extension) {
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + "." + extension;
+    }
+
+    public static Optional<String> extensionOf(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        String mimeType = contentType.split(";", 2)[0].trim().toLowerCase();
+        return Optional.ofNullable(EXTENSIONS.get(mimeType));
+    }
+
+    // 내용 주소 경로면 SHA-256 값, 아니면 empty
+    public static Optional<String> hashOf(String path) {
+        Matcher matcher = CONTENT_PATH.matcher(path);
+        return matcher.matches() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+    // 업로드를 임시 파일로 받으면서 해시 계산 (끝나면 commit 또는 discard 해야 함)
+    public StagedFile stage(InputStream in, String contentType) throws IOException {
+        String extension = extensionOf(contentType)
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + contentType));
+
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(staging, "upload-", ".tmp");
+        long size = 0;
+        try {
+            try (OutputStream out = Files.newOutputStream(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSize) {
+                        throw new IllegalArgumentException("파일이 너무 큽니다. (최대 " + DataSize.ofBytes(maxSize).toMegabytes() + "MB)");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+            return new StagedFile(temp, HexFormat.of().formatHex(digest.digest()), extension, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 임시 파일을 내용 주소 경로로 옮깁니다. 같은 내용이 이미 있으면 임시 파일만 지웁니다.
+     * AttachmentBlob 행을 잠근 트랜잭션 안에서 호출해야 AttachmentSweeper의 삭제와 겹치지 않습니다.
+     * @return 새로 저장했으면 true, 이미 있던 파일을 재사용했으면 false
+     */
+    public boolean commit(StagedFile staged) throws IOException {
+        Path target = root.resolve(staged.path());
+        if (Files.exists(target)) {
+            Files.deleteIfExists(staged.temp());
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(staged.temp(), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(staged.temp()); // 동시에 같은 내용이 먼저 저장됨
+            return false;
+        }
+        return true;
+    }
+
+    // commit 전에 실패하면 임시 파일 정리 (이미 옮겼으면 아무것도 하지 않음)
+    public void discard(StagedFile staged) {
+        try {
+            Files.deleteIfExists(staged.temp());
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 삭제 실패: " + staged.temp() + " - " + e.getMessage());
+        }
+    }
+
+    // 상대 경로 → 실제 파일 경로 (저장소 밖을 가리키는 경로는 거부)
+    public Path resolve(String path) {
+        Path resolved = root.resolve(path).normalize();
+        if (!resolved.startsWith(root) || resolved.equals(root) || resolved.startsWith(staging)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return resolved;
+    }
+
+    // 내용 주소 경로로 저장된 파일 중 modifiedBefore 전에 마지막으로 바뀐 파일의 상대 경로 (다 쓰면 닫아야 함)
+    public Stream<String> listContentFiles(Instant modifiedBefore) throws IOException {
+        return Files.find(root, 3, (file, attributes) -> attributes.isRegularFile()
+                        && attributes.lastModifiedTime().toInstant().isBefore(modifiedBefore))
+                .map(file -> root.relativize(file).toString().replace(File.separatorChar, '/'))
+                .filter(path -> CONTENT_PATH.matcher(path).matches());
+    }
+
+    public boolean delete(String path) {
+        try {
+            return Files.deleteIfExists(resolve(path));
+        } catch (IOException e) {
+            log.warn("지원서 첨부파일 삭제 실패: " + path + " - " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.b03.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+class SqlStatementTrackerTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    @DisplayName("범위 밖에서 실행된 문장은 세지 않음")
+    void testNoScope() {
+        SqlStatementTracker.record("select 1", MILLI, 1);
+
+        assertThat(SqlStatementTracker.isActive()).isFalse();
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.begin()) {
+            assertThat(SqlStatementTracker.isActive()).isTrue();
+            assertThat(scope.getStatements()).isZero();
+        }
+        assertThat(SqlStatementTracker.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("문장 수 / 시간 / 변경된 행 + 읽은 행")
+    void testCounters() {
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.begin()) {
+            SqlStatementTracker.record("select * from post where post_id=?", 2 * MILLI, 0);
+            SqlStatementTracker.addRows(3);
+            SqlStatementTracker.record("update post set is_closed=1 where post_id in (?,?)", MILLI, 2);
+
+            assertThat(scope.getStatements()).isEqualTo(2);
+            assertThat(scope.getTimeMillis()).isEqualTo(3.0);
+            assertThat(scope.getRows()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    @DisplayName("안쪽 범위의 문장은 바깥 범위에도 더해지고, 닫으면 바깥 범위로 돌아감")
+    void testNestedScopes() {
+        try (SqlStatementTracker.Scope outer = SqlStatementTracker.begin()) {
+            SqlStatementTracker.record("select 1", MILLI, 0);
+            try (SqlStatementTracker.Scope inner = SqlStatementTracker.begin()) {
+                SqlStatementTracker.record("select 2", MILLI, 0);
+                SqlStatementTracker.addRows(1);
+                assertThat(inner.getStatements()).isEqualTo(1);
+                assertThat(inner.getRows()).isEqualTo(1);
+            }
+            SqlStatementTracker.record("select 3", MILLI, 0);
+
+            assertThat(SqlStatementTracker.isActive()).isTrue();
+            assertThat(outer.getStatements()).isEqualTo(3);
+            assertThat(outer.getRows()).isEqualTo(1);
+        }
+        assertThat(SqlStatementTracker.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("공백 / 문자열, 숫자 값 / IN 목록 길이가 달라도 같은 모양")
+    void testShapeOf() {
+        assertThat(SqlStatementTracker.shapeOf("select *\n  from member\twhere member_no = 42 and name = 'O''Neil'"))
+                .isEqualTo("select * from member where member_no = ? and name = ?");
+        assertThat(SqlStatementTracker.shapeOf("select * from post where post_id in (?, ?, ?)"))
+                .isEqualTo(SqlStatementTracker.shapeOf("select * from post where post_id in (?,?)"))
+                .isEqualTo("select * from post where post_id in (?)");
+        assertThat(SqlStatementTracker.shapeOf("select * from post where post_id in (1, 2, 3)"))
+                .isEqualTo("select * from post where post_id in (?)");
+        // 식별자 안의 숫자는 그대로
+        assertThat(SqlStatementTracker.shapeOf("select p1_0.post_id from post p1_0"))
+                .isEqualTo("select p1_0.post_id from post p1_0");
+        assertThat(SqlStatementTracker.shapeOf(null)).isEqualTo("(unknown)");
+    }
+
+    @Test
+    @DisplayName("같은 모양이 threshold번 이상이면 N+1 의심, 많이 실행된 순")
+    void testRepeatedShapes() {
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.begin()) {
+            SqlStatementTracker.record("select * from inquiry limit 10", MILLI, 0);
+            for (long memberNo : List.of(1L, 2L, 3L, 4L, 5L, 6L)) {
+                SqlStatementTracker.record("select * from member where member_no=" + memberNo, MILLI, 0);
+            }
+            for (long inquiryId : List.of(7L, 8L, 9L, 10L, 11L)) {
+                SqlStatementTracker.record("select count(*) from inquiry_comment where inquiry_id=" + inquiryId, MILLI, 0);
+            }
+
+            assertThat(scope.getRepeatedShapes(5)).containsExactly(
+                    Map.entry("select * from member where member_no=?", 6),
+                    Map.entry("select count(*) from inquiry_comment where inquiry_id=?", 5));
+            assertThat(scope.getRepeatedShapes(6)).containsOnlyKeys("select * from member where member_no=?");
+            assertThat(scope.getCountsByShape()).hasSize(3);
+            assertThat(scope.getStatements()).isEqualTo(12);
+        }
+    }
+
+    @Test
+    @DisplayName("감싼 DataSource를 닫으면 원래 커넥션 풀도 닫힘 (닫을 수 없는 DataSource는 그대로)")
+    void testTrackingDataSourceClosesTarget() throws Exception {
+        DataSource pool = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+        new SqlTrackingDataSource(pool).close();
+        verify((AutoCloseable) pool).close();
+
+        new SqlTrackingDataSource(mock(DataSource.class)).close();
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.b03.controller;
+
+import com.example.b03.domain.Application;
+import com.example.b03.domain.CompanyInfo;
+import com.example.b03.domain.Member;
+import com.example.b03.domain.MembershipType;
+import com.example.b03.domain.Post;
+import com.example.b03.dto.ResumeFileDTO;
+import com.example.b03.repository.ApplicationRepository;
+import com.example.b03.repository.CompanyInfoRepository;
+import com.example.b03.repository.MemberRepository;
+import com.example.b03.repository.MembershipTypeRepository;
+import com.example.b03.repository.PostRepository;
+import com.example.b03.service.ApplicationService;
+import com.example.b03.service.AttachmentSweeper;
+import com.example.b03.service.ResumeFileService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ⭐ 이력서 다운로드의 조건부 GET / Range / If-Range 처리
+// sendfile 분기는 Tomcat이 넣어 주는 요청 속성(org.apache.tomcat.sendfile.support)을 직접 넣어서 확인합니다.
+// (MockMvc에서는 본문을 Tomcat이 보내지 않으므로, 보낼 구간을 담은 요청 속성과 헤더만 확인)
+@SpringBootTest(properties = {
+        "application.resume.storage-dir=build/test-resumes",
+        "application.attachment.sweep-grace=0s"
+})
+@AutoConfigureMockMvc
+class ResumeFileControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResumeFileService resumeFileService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private AttachmentSweeper attachmentSweeper;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CompanyInfoRepository companyInfoRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipTypeRepository membershipTypeRepository;
+
+    private static final Byte MEMBER_TYPE_BUSINESS = 2;
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // sendfile 최소 크기(48KB)보다 큰 파일
+    private static final int SIZE = 64 * 1024;
+
+    private Member applicant;
+    private CompanyInfo company;
+    private Post post;
+    private Application application;
+    private byte[] content;
+    private ResumeFileDTO resume;
+    private String url;
+
+    @BeforeEach
+    void setUp() {
+        MembershipType businessType = membershipTypeRepository.findById(MEMBER_TYPE_BUSINESS)
+                .orElseThrow(() -> new RuntimeException("기업 멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 2번 '기업' 멤버십 타입이 필요합니다."));
+
+        Member companyMember = memberRepository.save(Member.builder().loginId("download_company_" + System.nanoTime())
+                .password("password!").name("다운로드기업").address("서울시").phone("010-0000-0000").membershipType(businessType).build());
+        company = companyInfoRepository.save(CompanyInfo.builder().member(companyMember).companyName("다운로드 주식회사").build());
+        applicant = memberRepository.save(Member.builder().loginId("download_applicant_" + System.nanoTime())
+                .password("password!").name("박지원").birthDate(LocalDate.of(1996, 6, 6)).address("서울시")
+                .phone("010-3333-4444").membershipType(businessType).build());
+        post = postRepository.save(Post.builder().company(company).title("백엔드").description("설명").postedDate(LocalDateTime.now()).build());
+        application = applicationRepository.save(Application.builder().post(post).member(applicant).submittedAt(LocalDateTime.now()).build());
+
+        // 다른 테스트 실행과 겹치지 않는 내용 (위치마다 값이 달라서 구간이 맞는지 확인 가능)
+        content = new byte[SIZE];
+        byte[] prefix = ("%PDF-1.7 다운로드 " + System.nanoTime()).getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < SIZE; i++) {
+            content[i] = i < prefix.length ? prefix[i] : (byte) i;
+        }
+        resume = resumeFileService.upload(application.getApplicationId(), new ByteArrayInputStream(content), "application/pdf");
+        url = "/api/applications/" + application.getApplicationId() + "/resume";
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        applicationService.remove(application.getApplicationId(), applicant.getMemberNo());
+        Thread.sleep(10); // updatedAt < now - grace(0) 이 되도록
+        attachmentSweeper.sweep();
+
+        applicationRepository.deleteById(application.getApplicationId());
+        postRepository.deleteById(post.getPostId());
+        companyInfoRepository.deleteById(company.getMemberNo());
+        memberRepository.deleteById(company.getMemberNo());
+        memberRepository.deleteById(applicant.getMemberNo());
+    }
+
+    // HTTP 날짜 형식 (응답의 Last-Modified와 같은 형식)
+    private static String httpDate(Instant instant) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setInstant(HttpHeaders.IF_RANGE, instant);
+        return headers.getFirst(HttpHeaders.IF_RANGE);
+    }
+
+    private static MockHttpServletRequestBuilder sendfile(MockHttpServletRequestBuilder request) {
+        return request.requestAttr(SENDFILE_SUPPORT, true);
+    }
+
+    @Test
+    @DisplayName("Range 없이 받으면 200 + 전체 내용, If-None-Match가 맞으면 304")
+    void testDownload_fullAndNotModified() throws Exception {
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, resume.getEtag()))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(content));
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, resume.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("구간 하나는 206 + Content-Range, 여러 구간은 multipart/byteranges, 파일 밖 구간은 416")
+    void testDownload_ranges() throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=100-199"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/" + SIZE))
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 100, 200)));
+
+        String multipart = mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9,1000-1009"))
+                .andExpect(status().isPartialContent())
+                .andReturn().getResponse().getContentType();
+        assertThat(multipart).startsWith("multipart/byteranges");
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=" + SIZE + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+    }
+
+    @Test
+    @DisplayName("If-Range가 ETag 또는 Last-Modified와 같으면 206, 다르면(더 늦은 날짜 포함) Range를 무시하고 200 전체")
+    void testDownload_ifRange() throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, resume.getEtag()))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 0, 10)));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, httpDate(resume.getLastModified())))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 0, 10)));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(content));
+
+        String later = httpDate(resume.getLastModified().plusSeconds(3600));
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, later))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(content));
+    }
+
+    @Test
+    @DisplayName("sendfile: 전체 / 구간 하나 / 맞지 않는 If-Range / 파일 밖 구간")
+    void testDownload_sendfile() throws Exception {
+        mockMvc.perform(sendfile(get(url)))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, SIZE))
+                .andExpect(request().attribute(SENDFILE_START, 0L))
+                .andExpect(request().attribute(SENDFILE_END, (long) SIZE));
+
+        mockMvc.perform(sendfile(get(url)).header(HttpHeaders.RANGE, "bytes=100-199").header(HttpHeaders.IF_RANGE, resume.getEtag()))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/" + SIZE))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+                .andExpect(request().attribute(SENDFILE_START, 100L))
+                .andExpect(request().attribute(SENDFILE_END, 200L));
+
+        mockMvc.perform(sendfile(get(url)).header(HttpHeaders.RANGE, "bytes=100-199").header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(request().attribute(SENDFILE_START, 0L))
+                .andExpect(request().attribute(SENDFILE_END, (long) SIZE));
+
+        mockMvc.perform(sendfile(get(url)).header(HttpHeaders.RANGE, "bytes=" + SIZE + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + SIZE));
+
+        mockMvc.perform(sendfile(get(url)).header(HttpHeaders.IF_NONE_MATCH, resume.getEtag()))
+                .andExpect(status().isNotModified());
+    }
+}
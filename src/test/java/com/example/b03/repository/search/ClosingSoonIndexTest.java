@@ -0,0 +1,61 @@
+package com.example.b03.repository.search;
+
+import com.example.b03.dto.PostSummaryDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// DB 없이 마감 임박 목록만 검증하는 테스트 (오늘 = 2025-03-01, 7일치를 들고 있음)
+class ClosingSoonIndexTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    private ClosingSoonIndex index;
+
+    private static PostSummaryDTO post(int postId, LocalDate deadline) {
+        return new PostSummaryDTO(postId, "공고 " + postId, 1, "테스트 기업", null, "서울", deadline, null);
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new ClosingSoonIndex(Clock.fixed(TODAY.atStartOfDay(ZONE).toInstant(), ZONE));
+        index.replace(List.of(post(3, TODAY.plusDays(5)), post(1, TODAY), post(2, TODAY.plusDays(2)), post(4, TODAY.plusDays(2))),
+                TODAY.plusDays(7));
+    }
+
+    @Test
+    @DisplayName("마감일 → postId 순, 기간과 개수 제한")
+    void testList() {
+        assertThat(index.list(7, 10)).extracting(PostSummaryDTO::getPostId).containsExactly(1, 2, 4, 3);
+        assertThat(index.list(2, 10)).extracting(PostSummaryDTO::getPostId).containsExactly(1, 2, 4);
+        assertThat(index.list(0, 10)).extracting(PostSummaryDTO::getPostId).containsExactly(1);
+        assertThat(index.list(7, 2)).extracting(PostSummaryDTO::getPostId).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("새 공고는 들고 있는 기간 안에 마감될 때만 추가")
+    void testAddAll() {
+        index.addAll(List.of(post(10, TODAY.plusDays(1)), post(11, TODAY.plusDays(8)), post(12, null), post(13, TODAY.minusDays(1))));
+
+        assertThat(index.list(7, 10)).extracting(PostSummaryDTO::getPostId).containsExactly(1, 10, 2, 4, 3);
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌고 다시 채워지기 전에는 마감 지난 공고를 건너뜀")
+    void testSkipsExpiredUntilReloaded() {
+        ClosingSoonIndex tomorrow = new ClosingSoonIndex(Clock.fixed(TODAY.plusDays(3).atStartOfDay(ZONE).toInstant(), ZONE));
+        tomorrow.replace(List.of(post(1, TODAY), post(2, TODAY.plusDays(2)), post(3, TODAY.plusDays(5))), TODAY.plusDays(7));
+
+        assertThat(tomorrow.list(7, 10)).extracting(PostSummaryDTO::getPostId).containsExactly(3);
+        assertThat(new ClosingSoonIndex().isReady()).isFalse();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.b03.repository.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// DB 없이 색인만 검증하는 테스트
+class InquiryNgramIndexTest {
+
+    private InquiryNgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InquiryNgramIndex();
+        index.rebuild(sink -> List.of(
+                new InquiryNgramIndex.Document(1, "배송 문의드립니다", "주문한 상품이 아직 도착하지 않았어요", "홍길동"),
+                new InquiryNgramIndex.Document(2, "환불 요청", "상품 배송이 너무 늦어서 환불하고 싶습니다", "김철수"),
+                new InquiryNgramIndex.Document(3, "Login Error", "로그인이 안 됩니다", "이영희")
+        ).forEach(sink));
+    }
+
+    // 후보 전체 (최신순)
+    private List<Integer> search(String[] types, String keyword) {
+        InquiryNgramIndex.Candidates candidates = index.search(types, keyword);
+        return candidates.page(0, candidates.size());
+    }
+
+    @Test
+    @DisplayName("제목/내용/작성자 부분 문자열 검색 - LIKE와 같은 결과, 최신순")
+    void testSearch_substring() {
+        assertThat(search(new String[]{"t"}, "배송")).containsExactly(1);
+        assertThat(search(new String[]{"t", "c"}, "배송")).containsExactly(2, 1);
+        assertThat(search(new String[]{"c"}, "도착하지")).containsExactly(1);
+        assertThat(search(new String[]{"w"}, "길동")).containsExactly(1);
+        assertThat(search(new String[]{"t"}, "login")).containsExactly(3); // 대소문자 무시
+        assertThat(search(new String[]{"t", "c", "w"}, "없는검색어")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("2글자 검색어만 exact, 3글자 이상은 bigram이 떨어져 있어도 후보 (행에서 다시 확인)")
+    void testSearch_candidatesNeedVerification() {
+        // "상품", "품절" 두 토큰이 모두 있지만 "상품절"이라는 문자열은 없음
+        index.add(new InquiryNgramIndex.Document(4, "재입고 문의", "상품 품절 여부 알려주세요", "박민수"));
+
+        assertThat(index.search(new String[]{"c"}, "품절").exact()).isTrue();
+        assertThat(search(new String[]{"c"}, "품절")).containsExactly(4);
+
+        InquiryNgramIndex.Candidates candidates = index.search(new String[]{"c"}, "상품절");
+        assertThat(candidates.exact()).isFalse();
+        assertThat(candidates.page(0, 10)).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("커서 다음 위치부터 최신순으로 잘라 읽음")
+    void testCandidatesPaging() {
+        for (int id = 10; id <= 20; id++) {
+            index.add(new InquiryNgramIndex.Document(id, "페이지 문의 " + id, "내용", "회원"));
+        }
+        InquiryNgramIndex.Candidates candidates = index.search(new String[]{"t"}, "페이");
+
+        assertThat(candidates.size()).isEqualTo(11);
+        assertThat(candidates.page(0, 3)).containsExactly(20, 19, 18);
+        assertThat(candidates.page(candidates.positionAfter(18), 3)).containsExactly(17, 16, 15);
+        assertThat(candidates.page(candidates.positionAfter(11), 3)).containsExactly(10);
+        assertThat(candidates.page(candidates.positionAfter(10), 3)).isEmpty();
+        assertThat(candidates.positionAfter(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 색인에 반영됨")
+    void testUpdateAndRemove() {
+        InquiryNgramIndex.Document before = new InquiryNgramIndex.Document(2, "환불 요청", "상품 배송이 너무 늦어서 환불하고 싶습니다", "김철수");
+        InquiryNgramIndex.Document after = new InquiryNgramIndex.Document(2, "교환 요청", "사이즈 교환 부탁드립니다", "김철수");
+
+        index.update(before, after);
+        assertThat(search(new String[]{"t", "c"}, "환불")).isEmpty();
+        assertThat(search(new String[]{"t"}, "교환")).containsExactly(2);
+
+        index.remove(after);
+        assertThat(search(new String[]{"t"}, "교환")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("1글자/공백 검색어나 지원하지 않는 검색 타입은 LIKE 검색으로 넘김")
+    void testSupports() {
+        assertThat(index.supports(new String[]{"t"}, "배송")).isTrue();
+        assertThat(index.supports(new String[]{"t"}, "배")).isFalse();
+        assertThat(index.supports(new String[]{"t"}, "  ")).isFalse();
+        assertThat(index.supports(new String[]{"mn"}, "배송")).isFalse();
+        assertThat(new InquiryNgramIndex().supports(new String[]{"t"}, "배송")).isFalse(); // 재구성 전
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.b03.repository.search;
+
+import com.example.b03.domain.Member;
+import com.example.b03.domain.MembershipType;
+import com.example.b03.dto.InquiryListDTO;
+import com.example.b03.repository.InquiryRepository;
+import com.example.b03.repository.MemberRepository;
+import com.example.b03.repository.MembershipTypeRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+// 문의글 100만 건에서 n-gram 색인 검색 vs LIKE '%keyword%' 검색 (B03_BENCHMARK=true 일 때만 실행)
+// 둘 다 실제 InquirySearchImpl을 사용합니다. LIKE 쪽은 재구성하지 않은(ready=false) 색인을 넣은 InquirySearchImpl이라
+// 색인을 쓰지 않고 기존 LIKE 쿼리(제목 + 내용 풀 스캔)를 그대로 실행합니다.
+// 흔한 2글자 검색어(후보 = 결과) / 두 단어 검색어(후보를 행에서 LIKE로 확인) / 없는 검색어 결과가 같은지 확인하고,
+// 평균 응답 시간과 색인 크기를 기록합니다.
+@SpringBootTest
+@Log4j2
+class InquirySearchImplTest {
+
+    @Autowired
+    private InquiryRepository inquiryRepository;
+
+    @Autowired
+    private InquiryNgramIndex inquiryNgramIndex;
+
+    @Autowired
+    private InquiryNgramIndexLoader inquiryNgramIndexLoader;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipTypeRepository membershipTypeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final Byte MEMBER_TYPE_GENERAL = 3;
+
+    private static final String[] WORDS = {
+            "배송", "환불", "교환", "주문", "상품", "결제", "취소", "문의", "로그인", "회원가입",
+            "비밀번호", "채용", "공고", "지원서", "이력서", "면접", "연봉", "기업", "담당자", "확인"
+    };
+
+    private static final int CONTENT_WORDS = 12;
+
+    private static final int ROUNDS = 5;
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "B03_BENCHMARK", matches = "true")
+    @DisplayName("문의글 100만 건 - n-gram 색인 vs LIKE 검색 응답 시간, 색인 크기")
+    void testIndexVsLike() {
+        int rows = 1_000_000;
+        MembershipType generalType = membershipTypeRepository.findById(MEMBER_TYPE_GENERAL)
+                .orElseThrow(() -> new RuntimeException("일반 멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 3번 '일반' 멤버십 타입이 필요합니다."));
+        Member member = memberRepository.save(Member.builder()
+                .loginId("inquiry_bench_" + System.nanoTime())
+                .password("password!")
+                .name("문의벤치회원")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .address("서울시 종로구")
+                .phone("010-4444-5555")
+                .membershipType(generalType)
+                .build());
+
+        // 색인을 쓰지 않는 InquirySearchImpl (LIKE 검색)
+        InquirySearchImpl likeSearch = new InquirySearchImpl();
+        ReflectionTestUtils.setField(likeSearch, "entityManager", entityManager);
+        ReflectionTestUtils.setField(likeSearch, "inquiryNgramIndex", new InquiryNgramIndex());
+
+        try {
+            // 제목은 단어 2개 + "문의", 내용은 단어 12개 (행마다 CRC32로 섞음)
+            jdbcTemplate.update(
+                    "INSERT INTO inquiries (member_no, title, content, comment_count, answered, created_at, updated_at, is_deleted) " +
+                            "SELECT ?, CONCAT_WS(' ', " + word("s.seq", 0) + ", " + word("s.seq", 1) + ", '문의'), " +
+                            "CONCAT_WS(' ', " + contentWords() + "), 0, FALSE, NOW(), NOW(), FALSE FROM seq_1_to_" + rows + " s",
+                    member.getMemberNo());
+            inquiryNgramIndexLoader.rebuild();
+
+            String[] types = {"t", "c"};
+            for (String keyword : List.of("배송", "이력서 확인", "없는검색어")) {
+                PageRequest firstPage = PageRequest.of(0, 10);
+                PageRequest laterPage = PageRequest.of(50, 10);
+                assertSamePage(inquiryRepository.searchList(types, keyword, firstPage), likeSearch.searchList(types, keyword, firstPage));
+                assertSamePage(inquiryRepository.searchList(types, keyword, laterPage), likeSearch.searchList(types, keyword, laterPage));
+                log.info("'" + keyword + "' 전체 개수: 색인 " + inquiryRepository.searchList(types, keyword, firstPage).getTotalElements()
+                        + " / LIKE " + likeSearch.searchList(types, keyword, firstPage).getTotalElements());
+                assertThat(ids(inquiryRepository.searchAfter(types, keyword, null, 10)))
+                        .isEqualTo(ids(likeSearch.searchAfter(types, keyword, null, 10)));
+
+                double indexPageMillis = averageMillis(() -> inquiryRepository.searchList(types, keyword, firstPage));
+                double likePageMillis = averageMillis(() -> likeSearch.searchList(types, keyword, firstPage));
+                double indexCursorMillis = averageMillis(() -> inquiryRepository.searchAfter(types, keyword, null, 10));
+                double likeCursorMillis = averageMillis(() -> likeSearch.searchAfter(types, keyword, null, 10));
+                InquiryNgramIndex.Candidates candidates = inquiryNgramIndex.search(types, keyword);
+                log.info("'" + keyword + "' (후보 " + candidates.size() + "건, exact " + candidates.exact() + ", 일치 "
+                        + likeSearch.searchList(types, keyword, firstPage).getTotalElements() + "건) 페이지+개수: 색인 "
+                        + String.format("%.3f", indexPageMillis) + "ms / LIKE " + String.format("%.3f", likePageMillis)
+                        + "ms, 커서: 색인 " + String.format("%.3f", indexCursorMillis) + "ms / LIKE " + String.format("%.3f", likeCursorMillis) + "ms");
+            }
+
+            InquiryNgramIndex.Stats stats = inquiryNgramIndex.getStats();
+            log.info("색인 크기: bigram " + stats.grams() + "개, 비트맵 " + (stats.bytes() >> 10) + "KB");
+        } finally {
+            jdbcTemplate.update("DELETE FROM inquiries WHERE member_no = ?", member.getMemberNo());
+            memberRepository.deleteById(member.getMemberNo());
+            inquiryNgramIndexLoader.rebuild();
+        }
+    }
+
+    @Test
+    @DisplayName("3글자 이상 검색의 전체 개수 - 후보를 끝까지 확인하면 정확한 값, 중간에 멈추면 일치 비율로 추정")
+    void testEstimateTotal() {
+        RoaringBitmap ids = new RoaringBitmap();
+        ids.add(1L, 101L); // 후보 id 1~100 (최신순 100, 99, ...)
+        InquiryNgramIndex.Candidates candidates = new InquiryNgramIndex.Candidates(ids, false);
+
+        // 후보를 끝까지 확인했는데 needed보다 적게 찾음 → 찾은 개수가 정확한 값
+        assertThat(InquirySearchImpl.estimateTotal(candidates, List.of(100, 90, 80), 11)).isEqualTo(3);
+
+        // 최신 후보 20개(100~81)를 확인해 11개 일치 → 100개 중 55개로 추정
+        List<Integer> matched = List.of(100, 99, 98, 97, 96, 95, 94, 93, 92, 91, 81);
+        assertThat(InquirySearchImpl.estimateTotal(candidates, matched, 11)).isEqualTo(55);
+
+        // 추정이 이미 찾은 개수보다 작아지지는 않음
+        assertThat(InquirySearchImpl.estimateTotal(candidates, List.of(100, 99), 2)).isEqualTo(100);
+    }
+
+    // 3글자 이상 검색어(후보를 행에서 확인)는 화면에 필요한 만큼만 확인하므로 전체 개수가 추정값 → 5% 이내면 통과
+    private static void assertSamePage(Page<InquiryListDTO> indexed, Page<InquiryListDTO> like) {
+        assertThat(indexed.getTotalElements()).isCloseTo(like.getTotalElements(), withinPercentage(5));
+        assertThat(ids(indexed.getContent())).isEqualTo(ids(like.getContent()));
+    }
+
+    private static List<Integer> ids(List<InquiryListDTO> dtoList) {
+        return dtoList.stream().map(InquiryListDTO::getInquiryId).toList();
+    }
+
+    // 첫 실행(JIT, 버퍼 풀 적재)은 빼고 평균
+    private static double averageMillis(Supplier<?> task) {
+        task.get();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            task.get();
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / ROUNDS;
+    }
+
+    // WORDS 중 하나 (salt마다 다르게 섞임)
+    private static String word(String seq, int salt) {
+        List<String> quoted = new ArrayList<>(WORDS.length);
+        for (String word : WORDS) {
+            quoted.add("'" + word + "'");
+        }
+        return "ELT(1 + CRC32(CONCAT(" + seq + ", '-" + salt + "')) % " + WORDS.length + ", " + String.join(", ", quoted) + ")";
+    }
+
+    private static String contentWords() {
+        List<String> words = new ArrayList<>(CONTENT_WORDS);
+        for (int i = 0; i < CONTENT_WORDS; i++) {
+            words.add(word("s.seq", i + 2));
+        }
+        return String.join(", ", words);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.b03.repository.search;
+
+import com.example.b03.dto.PostSummaryDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// DB 없이 추천 점수/갱신만 검증하는 테스트
+// 공고 1,2,5: 카테고리 10 / 3: 20 / 4: 10+20 / 6: 30 / 99: 마감된 공고(카테고리 30)
+// 회원 100: 공고 1에 지원 → 카테고리 10 취향, 회원 200: 공고 3과 마감된 99에 지원 → 20+30 취향
+class PostRecommendationIndexTest {
+
+    private PostRecommendationIndex index;
+
+    private static PostSummaryDTO post(int postId) {
+        return new PostSummaryDTO(postId, "공고 " + postId, 1, "테스트 기업", null, "서울", null, null);
+    }
+
+    private static List<Integer> recommendedIds(PostRecommendationIndex index, int memberNo) {
+        return index.recommend(memberNo, 10).stream().map(recommendation -> recommendation.post().getPostId()).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new PostRecommendationIndex(3, 2);
+        index.rebuild(sink -> {
+            sink.addOpenPost(post(1), List.of(10));
+            sink.addOpenPost(post(2), List.of(10));
+            sink.addOpenPost(post(3), List.of(20));
+            sink.addOpenPost(post(4), List.of(20, 10));
+            sink.addOpenPost(post(5), List.of(10));
+            sink.addOpenPost(post(6), List.of(30));
+            sink.addPostCategories(99, List.of(30));
+            sink.addApplication(100, 1);
+            sink.addApplication(200, 3);
+            sink.addApplication(200, 99);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("코사인 점수 순, 같은 점수는 최신 공고 먼저, 지원한 공고는 제외")
+    void testRecommend() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(recommendedIds(index, 100)).containsExactly(5, 2, 4);
+        assertThat(recommendedIds(index, 200)).containsExactly(6, 4); // 6: 1/√2, 4: 1/2
+
+        List<PostRecommendationIndex.Recommendation> recommendations = index.recommend(100, 3);
+        assertThat(recommendations.get(0).score()).isCloseTo(1.0, within(1e-9));
+        assertThat(recommendations.get(2).score()).isCloseTo(1 / Math.sqrt(2), within(1e-9));
+        assertThat(index.recommend(100, 1)).hasSize(1);
+        assertThat(index.recommend(300, 10)).isEmpty(); // 지원 이력 없음
+    }
+
+    @Test
+    @DisplayName("공고 등록은 카테고리가 겹치는 회원의 상위 목록에만 끼워 넣음")
+    void testAddPosts() {
+        index.addPosts(List.of(new PostRecommendationIndex.Candidate(post(7), List.of(20)),
+                new PostRecommendationIndex.Candidate(post(8), List.of(40))));
+
+        assertThat(recommendedIds(index, 200)).containsExactly(7, 6, 4);
+        assertThat(recommendedIds(index, 100)).containsExactly(5, 2, 4);
+    }
+
+    @Test
+    @DisplayName("마감된 공고가 빠지면 다음 후보가 올라옴")
+    void testRemovePosts() {
+        index.removePosts(List.of(5, 6));
+
+        assertThat(recommendedIds(index, 100)).containsExactly(2, 4);
+        assertThat(recommendedIds(index, 200)).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("지원/지원 취소 시 그 회원만 다시 계산")
+    void testChangeApplication() {
+        index.addApplication(100, 3); // 10 + 20 → 공고 4가 가장 가까움
+        assertThat(recommendedIds(index, 100)).containsExactly(4, 5, 2);
+
+        index.removeApplication(100, 3);
+        index.removeApplication(100, 1);
+        assertThat(recommendedIds(index, 100)).isEmpty();
+        assertThat(recommendedIds(index, 200)).containsExactly(6, 4);
+    }
+
+    @Test
+    @DisplayName("재구성 중에 들어온 변경도 새 데이터에 반영")
+    void testChangesDuringRebuild() {
+        index.rebuild(sink -> {
+            sink.addOpenPost(post(1), List.of(10));
+            sink.addOpenPost(post(2), List.of(10));
+            sink.addApplication(100, 1);
+            index.removePosts(List.of(2)); // 재구성 도중 마감
+            index.addPosts(List.of(new PostRecommendationIndex.Candidate(post(9), List.of(10))));
+        });
+
+        assertThat(recommendedIds(index, 100)).containsExactly(9);
+        assertThat(recommendedIds(index, 200)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("병렬로 계산해도 순차 계산과 결과가 같음")
+    void testParallelRebuild() {
+        PostRecommendationIndex sequential = new PostRecommendationIndex(5, 1);
+        PostRecommendationIndex parallel = new PostRecommendationIndex(5, 4);
+        try {
+            for (PostRecommendationIndex target : List.of(sequential, parallel)) {
+                Random random = new Random(42);
+                target.rebuild(sink -> {
+                    for (int postId = 1; postId <= 2_000; postId++) {
+                        sink.addOpenPost(post(postId), List.of(random.nextInt(30), random.nextInt(30)));
+                    }
+                    for (int memberNo = 1; memberNo <= 3_000; memberNo++) {
+                        for (int i = 0; i < 3; i++) {
+                            sink.addApplication(memberNo, 1 + random.nextInt(2_000));
+                        }
+                    }
+                });
+            }
+            for (int memberNo = 1; memberNo <= 3_000; memberNo++) {
+                assertThat(recommendedIds(parallel, memberNo)).isEqualTo(recommendedIds(sequential, memberNo)).hasSize(5);
+            }
+        } finally {
+            sequential.close();
+            parallel.close();
+        }
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 준비되지 않음")
+    void testNotReady() {
+        PostRecommendationIndex empty = new PostRecommendationIndex(3, 1);
+        try {
+            assertThat(empty.isReady()).isFalse();
+            assertThat(empty.recommend(100, 3)).isEmpty();
+        } finally {
+            empty.close();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.b03.repository.search;
+
+import com.example.b03.repository.search.PostSearchIndex.DeadlineWindow;
+import com.example.b03.repository.search.PostSearchIndex.Document;
+import com.example.b03.repository.search.PostSearchIndex.Query;
+import com.example.b03.repository.search.PostSearchIndex.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+// DB 없이 색인만 검증하는 테스트 (오늘 = 2025-03-01)
+class PostSearchIndexTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    private MutableClock clock;
+    private PostSearchIndex index;
+
+    private final Document backend = new Document(1, "Java 백엔드 개발자", "Spring 기반 서비스 개발팀", "서울특별시 강남구", TODAY.plusDays(2), List.of(1, 2));
+    private final Document frontend = new Document(2, "프론트엔드 개발자를 모집합니다", "React, TypeScript", "서울시 마포구", TODAY.plusDays(20), List.of(2));
+    private final Document data = new Document(130, "데이터 엔지니어", "파이프라인 운영", "경기도 성남시", null, List.of(3));
+    private final Document expired = new Document(131, "백엔드 인턴", "마감된 공고", "부산광역시", TODAY.minusDays(1), List.of(1));
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(TODAY);
+        index = new PostSearchIndex(clock);
+        index.rebuild(sink -> List.of(backend, frontend, data, expired).forEach(sink));
+    }
+
+    private Result search(String keyword, Set<Integer> categories, Set<String> locations, Set<DeadlineWindow> deadlines) {
+        return index.search(new Query(keyword, categories, locations, deadlines), 0, 10);
+    }
+
+    @Test
+    @DisplayName("제목/설명 단어 검색 - 단어 앞부분 일치, 모든 단어 포함, 최신순")
+    void testKeyword() {
+        assertThat(search("개발", null, null, null).postIds()).containsExactly(2, 1); // "개발자를", "개발팀"
+        assertThat(search("백엔드 spring", null, null, null).postIds()).containsExactly(1); // 대소문자 무시
+        assertThat(search("백엔드", null, null, null).postIds()).containsExactly(131, 1);
+        assertThat(search("없는단어", null, null, null).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("facet 필터 - 같은 facet은 OR, facet끼리는 AND")
+    void testFilters() {
+        assertThat(search(null, Set.of(1, 3), null, null).postIds()).containsExactly(131, 130, 1);
+        assertThat(search(null, Set.of(2), Set.of("서울"), null).postIds()).containsExactly(2, 1);
+        assertThat(search(null, null, Set.of("서울특별시"), Set.of(DeadlineWindow.WITHIN_3_DAYS)).postIds()).containsExactly(1);
+        assertThat(search(null, null, null, Set.of(DeadlineWindow.NO_DEADLINE, DeadlineWindow.EXPIRED)).postIds()).containsExactly(131, 130);
+    }
+
+    @Test
+    @DisplayName("facet 개수는 자기 facet 선택을 뺀 나머지 조건으로 셈")
+    void testFacetCounts() {
+        Result result = search(null, Set.of(1), null, null);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.jobCategoryCounts()).containsOnly(entry(1, 2), entry(2, 2), entry(3, 1)); // 카테고리 선택은 무시
+        assertThat(result.locationCounts()).containsOnly(entry("서울", 1), entry("부산", 1));
+        assertThat(result.deadlineCounts()).containsOnly(entry(DeadlineWindow.WITHIN_3_DAYS, 1), entry(DeadlineWindow.EXPIRED, 1));
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 마감 구간이 다시 계산됨")
+    void testDeadlineWindowsMoveWithDate() {
+        assertThat(search(null, null, null, Set.of(DeadlineWindow.WITHIN_30_DAYS)).postIds()).containsExactly(2);
+
+        clock.today = TODAY.plusDays(17); // 마감 3일 전
+        assertThat(search(null, null, null, Set.of(DeadlineWindow.WITHIN_3_DAYS)).postIds()).containsExactly(2);
+        assertThat(search(null, null, null, Set.of(DeadlineWindow.EXPIRED)).postIds()).containsExactly(131, 1);
+    }
+
+    @Test
+    @DisplayName("추가/수정/삭제가 검색과 facet 개수에 반영됨")
+    void testUpdateAndRemove() {
+        Document moved = new Document(2, "프론트엔드 리드", "Vue", "부산", TODAY.plusDays(5), List.of(3));
+        index.update(frontend, moved);
+
+        assertThat(search("개발", null, null, null).postIds()).containsExactly(1);
+        assertThat(search(null, Set.of(2), null, null).postIds()).containsExactly(1);
+        assertThat(search(null, null, Set.of("부산"), null).postIds()).containsExactly(131, 2);
+
+        index.remove(moved);
+        index.add(new Document(500, "신규 백엔드 공고", null, null, null, List.of()));
+        Result result = search("백엔드", null, null, null);
+        assertThat(result.postIds()).containsExactly(500, 131, 1);
+        assertThat(result.locationCounts()).doesNotContainKey("부산시").containsEntry("부산", 1);
+    }
+
+    @Test
+    @DisplayName("제외 카테고리(ANDNOT) - 결과와 모든 facet 개수에서 빠짐")
+    void testExcludedCategories() {
+        Result result = index.search(new Query(null, null, Set.of("서울"), null, Set.of(1)), 0, 10);
+
+        assertThat(result.postIds()).containsExactly(2);
+        assertThat(result.jobCategoryCounts()).containsOnly(entry(2, 1));
+        assertThat(result.locationCounts()).containsOnly(entry("서울", 1), entry("경기", 1));
+
+        assertThat(index.search(new Query("백엔드", null, null, null, Set.of(1, 2)), 0, 10).total()).isZero();
+        assertThat(index.search(new Query(null, null, null, null, Set.of(999)), 0, 10).total()).isEqualTo(4); // 없는 카테고리
+    }
+
+    @Test
+    @DisplayName("색인 크기 - 공고/카테고리/지역 수")
+    void testStats() {
+        PostSearchIndex.Stats stats = index.getStats();
+
+        assertThat(stats.posts()).isEqualTo(4);
+        assertThat(stats.jobCategories()).isEqualTo(3);
+        assertThat(stats.locations()).isEqualTo(3);
+        assertThat(stats.facetBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("페이지 - offset/limit")
+    void testPaging() {
+        Result result = index.search(new Query(null, null, null, null), 1, 2);
+
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.postIds()).containsExactly(130, 2);
+        assertThat(index.search(new Query(null, null, null, null), 3, 2).postIds()).containsExactly(1);
+        assertThat(index.search(new Query(null, null, null, null), 10, 2).postIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지역 정규화")
+    void testNormalizeLocation() {
+        assertThat(PostSearchIndex.normalizeLocation("서울특별시 강남구")).isEqualTo("서울");
+        assertThat(PostSearchIndex.normalizeLocation("경기도 성남시")).isEqualTo("경기");
+        assertThat(PostSearchIndex.normalizeLocation("  Remote ")).isEqualTo("remote");
+        assertThat(PostSearchIndex.normalizeLocation("시")).isEqualTo("시");
+        assertThat(PostSearchIndex.normalizeLocation(" ")).isNull();
+    }
+
+    // 날짜를 바꿀 수 있는 Clock
+    private static class MutableClock extends Clock {
+
+        LocalDate today;
+
+        MutableClock(LocalDate today) {
+            this.today = today;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return today.atStartOfDay(ZONE).toInstant();
+        }
+    }
+}
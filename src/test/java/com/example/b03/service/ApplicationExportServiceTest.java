@@ -0,0 +1,214 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.Application;
+import com.example.b03.domain.CompanyInfo;
+import com.example.b03.domain.Member;
+import com.example.b03.domain.MembershipType;
+import com.example.b03.domain.Post;
+import com.example.b03.repository.ApplicationRepository;
+import com.example.b03.repository.CompanyInfoRepository;
+import com.example.b03.repository.MemberRepository;
+import com.example.b03.repository.MembershipTypeRepository;
+import com.example.b03.repository.PostRepository;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Log4j2
+class ApplicationExportServiceTest {
+
+    @Autowired
+    private ApplicationExportService applicationExportService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CompanyInfoRepository companyInfoRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipTypeRepository membershipTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final Byte MEMBER_TYPE_BUSINESS = 2;
+
+    private MembershipType businessType() {
+        return membershipTypeRepository.findById(MEMBER_TYPE_BUSINESS)
+                .orElseThrow(() -> new RuntimeException("기업 멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 2번 '기업' 멤버십 타입이 필요합니다."));
+    }
+
+    private Member saveMember(String loginId, String name) {
+        return memberRepository.save(Member.builder()
+                .loginId(loginId)
+                .password("password!")
+                .name(name)
+                .birthDate(LocalDate.of(1995, 5, 5))
+                .address("서울시 마포구")
+                .phone("010-1234-5678")
+                .membershipType(businessType())
+                .build());
+    }
+
+    private CompanyInfo saveCompany(String loginId) {
+        return companyInfoRepository.save(CompanyInfo.builder()
+                .member(saveMember(loginId, "내보내기기업"))
+                .companyName("내보내기 주식회사")
+                .build());
+    }
+
+    private Post savePost(CompanyInfo company, String title) {
+        return postRepository.save(Post.builder()
+                .company(company)
+                .title(title)
+                .description("공고 설명")
+                .postedDate(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("지원서를 CSV로 내보냄 - 특수문자 이스케이프, 다른 기업 지원서 제외")
+    void testExportCsv() throws Exception {
+        CompanyInfo company = saveCompany("export_company");
+        CompanyInfo otherCompany = saveCompany("export_other_company");
+        Post post = savePost(company, "백엔드, \"시니어\" 개발자");
+        Post otherPost = savePost(otherCompany, "다른 회사 공고");
+
+        Member applicant = saveMember("export_applicant", "김지원");
+        applicationRepository.save(Application.builder().post(post).member(applicant)
+                .filePath("/resumes/kim.pdf").submittedAt(LocalDateTime.of(2025, 3, 1, 9, 30)).build());
+        applicationRepository.save(Application.builder().post(otherPost).member(applicant)
+                .filePath("/resumes/kim.pdf").submittedAt(LocalDateTime.of(2025, 3, 2, 9, 30)).build());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = applicationExportService.exportCsv(company.getMemberNo(), out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        String[] lines = csv.substring(1).split("\r\n"); // BOM 제외
+        assertThat(count).isEqualTo(1);
+        assertThat(csv).startsWith("\uFEFF");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo(ApplicationExportServiceImpl.HEADER);
+        assertThat(lines[1]).contains("\"백엔드, \"\"시니어\"\" 개발자\"", "김지원", "/resumes/kim.pdf", "2025-03-01 09:30:00");
+    }
+
+    @Test
+    @DisplayName("없는 기업이면 예외")
+    void testExportCsv_companyNotFound() {
+        assertThrows(NoSuchElementException.class, () -> applicationExportService.exportCsv(-1, OutputStream.nullOutputStream()));
+    }
+
+    @Test
+    @DisplayName("CSV 필드 이스케이프 - 따옴표/줄바꿈, 수식으로 시작하는 값")
+    void testWriteField() throws Exception {
+        StringWriter writer = new StringWriter();
+        ApplicationExportServiceImpl.writeField(writer, "평범한 값");
+        writer.write('|');
+        ApplicationExportServiceImpl.writeField(writer, "줄\n바꿈");
+        writer.write('|');
+        ApplicationExportServiceImpl.writeField(writer, "=HYPERLINK(\"x\")");
+        writer.write('|');
+        ApplicationExportServiceImpl.writeField(writer, null);
+
+        assertThat(writer.toString()).isEqualTo("평범한 값|\"줄\n바꿈\"|\"'=HYPERLINK(\"\"x\"\")\"|");
+    }
+
+    // 지원서 100만 건 내보내기 (공고 1000개 x 지원자 1000명, B03_BENCHMARK=true 일 때만 실행)
+    // 목록으로 읽으면 Post/CompanyInfo/Member 그래프까지 100만 개가 힙에 올라가지만, 스트리밍은 버퍼만큼만 씀
+    // → 힙을 작게 잡는 ./gradlew exportMemoryTest (-Xmx256m)로 실행하면, 메모리가 일정하지 않을 때 OutOfMemoryError로 실패
+    @Test
+    @EnabledIfEnvironmentVariable(named = "B03_BENCHMARK", matches = "true")
+    @DisplayName("지원서 100만 건 내보내기 - 작은 힙에서 모든 행을 스트리밍")
+    void testExportCsv_millionApplications() throws Exception {
+        int postCount = 1000;
+        int applicantCount = 1000;
+
+        CompanyInfo company = saveCompany("export_million_company");
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < postCount; i++) {
+            posts.add(Post.builder().company(company).title("공고 " + i).description("설명").postedDate(LocalDateTime.now()).build());
+        }
+        postRepository.saveAll(posts);
+        List<Member> applicants = new ArrayList<>();
+        for (int i = 0; i < applicantCount; i++) {
+            applicants.add(Member.builder().loginId("export_million_applicant_" + i).password("password!").name("지원자" + i)
+                    .address("서울시").phone("010-0000-0000").membershipType(businessType()).build());
+        }
+        memberRepository.saveAll(applicants);
+
+        try {
+            // 공고 x 지원자 조합으로 한 번에 100만 건 생성 (기업 회원 export_million_company는 지원자 접두사에 걸리지 않음)
+            int inserted = jdbcTemplate.update(
+                    "INSERT INTO applications (post_id, member_no, file_path, submitted_at, created_at, updated_at, is_deleted) " +
+                            "SELECT p.post_id, m.member_no, CONCAT('/resumes/', m.member_no, '.pdf'), NOW(), NOW(), NOW(), FALSE " +
+                            "FROM posts p CROSS JOIN members m WHERE p.member_no = ? AND m.id LIKE 'export\\_million\\_applicant\\_%'",
+                    company.getMemberNo());
+            assertThat(inserted).isEqualTo(postCount * applicantCount);
+
+            // 받은 바이트는 버리고, 바이트 수와 줄 수(헤더 포함)만 세는 스트림
+            long[] written = {0};
+            long[] lines = {0};
+            OutputStream counting = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    written[0]++;
+                    if (b == '\n') {
+                        lines[0]++;
+                    }
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    written[0] += len;
+                    for (int i = off; i < off + len; i++) {
+                        if (b[i] == '\n') {
+                            lines[0]++;
+                        }
+                    }
+                }
+            };
+
+            long startedAt = System.nanoTime();
+            long count = applicationExportService.exportCsv(company.getMemberNo(), counting);
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+            log.info("지원서 100만 건 CSV: " + (written[0] >> 20) + "MB, " + (lines[0] - 1) + "행, " + elapsedMillis + "ms (최대 힙 "
+                    + (Runtime.getRuntime().maxMemory() >> 20) + "MB)");
+            assertThat(count).isEqualTo((long) postCount * applicantCount);
+            assertThat(lines[0] - 1).isEqualTo(count); // 헤더 제외, 세어진 행이 모두 실제로 쓰였는지
+        } finally {
+            jdbcTemplate.update("DELETE a FROM applications a JOIN posts p ON a.post_id = p.post_id WHERE p.member_no = ?", company.getMemberNo());
+            postRepository.deleteAllInBatch(posts);
+            memberRepository.deleteAllInBatch(applicants);
+            companyInfoRepository.deleteById(company.getMemberNo());
+            memberRepository.deleteById(company.getMemberNo());
+        }
+    }
+}
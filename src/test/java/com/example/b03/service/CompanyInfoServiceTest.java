@@ -0,0 +1,113 @@
+package com.example.b03.service;
+
+import com.example.b03.config.SqlStatementTracker;
+import com.example.b03.domain.CompanyInfo;
+import com.example.b03.domain.Member;
+import com.example.b03.domain.MembershipType;
+import com.example.b03.dto.CompanyInfoDTO;
+import com.example.b03.dto.PageRequestDTO;
+import com.example.b03.dto.PageResponseDTO;
+import com.example.b03.repository.CompanyInfoRepository;
+import com.example.b03.repository.MemberRepository;
+import com.example.b03.repository.MembershipTypeRepository;
+import com.example.b03.support.SqlStatementBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ⭐ 기업 목록이 페이지 크기와 상관없이 SQL 문장 수가 일정한지 확인 (목록 1 + 개수 1)
+// 같은 영속성 컨텍스트에 회원이 올라와 있으면 N+1이 가려지므로 @Transactional을 붙이지 않고, 끝나면 만든 데이터를 지웁니다.
+// 문장 수는 이 스레드에서 실행된 것만 세는 SqlStatementTracker로 셈 (전역 Hibernate Statistics는 다른 테스트의 문장까지 섞임)
+@SpringBootTest
+@ActiveProfiles("test") // sql.stats.enabled=true (application-test.properties) → SQL 문장을 셀 수 있음
+class CompanyInfoServiceTest {
+
+    @Autowired
+    private CompanyInfoService companyInfoService;
+
+    @Autowired
+    private CompanyInfoRepository companyInfoRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipTypeRepository membershipTypeRepository;
+
+    private static final Byte MEMBER_TYPE_BUSINESS = 2;
+    private static final int COMPANIES = 6;
+
+    private final List<Integer> memberNos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MembershipType businessType = membershipTypeRepository.findById(MEMBER_TYPE_BUSINESS)
+                .orElseThrow(() -> new RuntimeException("기업 멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 2번 '기업' 멤버십 타입이 필요합니다."));
+        for (int i = 0; i < COMPANIES; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .loginId("list_company_" + i + "_" + System.nanoTime())
+                    .password("companypassword!")
+                    .name("목록테스트기업" + i)
+                    .birthDate(LocalDate.of(1990, 1, 1))
+                    .address("서울시 강남구 " + i)
+                    .phone("010-5555-000" + i)
+                    .membershipType(businessType)
+                    .build());
+            companyInfoRepository.save(CompanyInfo.builder()
+                    .member(member)
+                    .companyName("목록테스트 주식회사 " + i)
+                    .build());
+            memberNos.add(member.getMemberNo());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        companyInfoRepository.deleteAllById(memberNos);
+        memberRepository.deleteAllById(memberNos);
+    }
+
+    private int countStatements(Runnable action) {
+        assertThat(SqlStatementTracker.isInstalled()).as("sql.stats.enabled=true 필요").isTrue();
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.begin()) {
+            action.run();
+            return scope.getStatements();
+        }
+    }
+
+    @Test
+    @DisplayName("기업 목록 + 회원 연락처를 페이지 크기와 상관없이 2문장으로 읽음")
+    void testGetList_constantStatements() {
+        // 페이지가 꽉 차야 개수 쿼리도 나가므로 만든 기업 수 이하의 크기로만 조회
+        for (int size : new int[]{3, COMPANIES}) {
+            PageRequestDTO requestDTO = PageRequestDTO.builder().page(1).size(size).build();
+            int statements = countStatements(() -> companyInfoService.getList(requestDTO));
+            assertThat(statements).as("size=" + size).isEqualTo(2);
+        }
+
+        // memberNo 내림차순 → 방금 만든 기업들이 첫 페이지
+        PageResponseDTO<CompanyInfoDTO> page = companyInfoService.getList(PageRequestDTO.builder().page(1).size(COMPANIES).build());
+        CompanyInfoDTO newest = page.getDtoList().get(0);
+        assertThat(newest.getMemberNo()).isEqualTo(memberNos.get(COMPANIES - 1));
+        assertThat(newest.getCompanyName()).isEqualTo("목록테스트 주식회사 " + (COMPANIES - 1));
+        assertThat(newest.getPhone()).isEqualTo("010-5555-000" + (COMPANIES - 1));
+        assertThat(newest.getAddress()).isEqualTo("서울시 강남구 " + (COMPANIES - 1));
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    @DisplayName("기업 목록은 SQL 2문장 이내 (JDBC 단에서 셈)")
+    void testGetList_statementBudget() {
+        companyInfoService.getList(PageRequestDTO.builder().page(1).size(COMPANIES).build());
+    }
+}
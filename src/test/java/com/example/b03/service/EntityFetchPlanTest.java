@@ -0,0 +1,244 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.*;
+import com.example.b03.dto.InquiryCommentRequestDTO;
+import com.example.b03.dto.InquiryListDTO;
+import com.example.b03.repository.*;
+import com.example.b03.config.SqlStatementTracker;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ⭐ 연관관계 LAZY + 엔티티 그래프 적용 후 서비스 메서드별 SQL 문장 수 / JOIN 여부 확인
+// 같은 영속성 컨텍스트에 연관 엔티티가 올라와 있으면 차이가 가려지므로 @Transactional을 붙이지 않고, 끝나면 만든 데이터를 지웁니다.
+// 문장은 이 스레드에서 실행된 것만 세는 SqlStatementTracker로 셈 (전역 Hibernate Statistics는 다른 테스트의 문장까지 섞임)
+//
+// 모든 @ManyToOne/@OneToOne은 LAZY이고, 연관 엔티티가 필요한 곳만 엔티티 그래프로 JOIN 합니다.
+// 아래 테스트가 재는 값 (SELECT 수, UPDATE/INSERT는 따로 주석)
+// CompanyInfoService.getByMemberNo               1  (그래프로 회원 JOIN)
+// InquiryService.readOne                         1  (회원 JOIN 없이 문의글만)
+// InquiryService.modify                          1  (색인에 작성자 이름이 필요 → 그래프로 회원 JOIN)
+// InquiryCommentService.updateComment / delete   1  (답변만, 문의글과 관리자는 FK 값만 사용)
+// ApplicationService.remove                      1  (공고, 기업, 지원자 JOIN 없이 지원서만)
+// ApplicationRepository 지원자 목록               1  (그래프로 공고 + 지원자 JOIN)
+// 기업 목록(프로젝션)은 CompanyInfoServiceTest에서 잼
+@SpringBootTest
+@ActiveProfiles("test") // sql.stats.enabled=true (application-test.properties) → SQL 문장을 셀 수 있음
+class EntityFetchPlanTest {
+
+    @Autowired
+    private CompanyInfoService companyInfoService;
+
+    @Autowired
+    private InquiryService inquiryService;
+
+    @Autowired
+    private InquiryCommentService inquiryCommentService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipTypeRepository membershipTypeRepository;
+
+    @Autowired
+    private CompanyInfoRepository companyInfoRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private InquiryRepository inquiryRepository;
+
+    @Autowired
+    private InquiryCommentRepository inquiryCommentRepository;
+
+    private static final Byte MEMBER_TYPE_ADMIN = 1;
+    private static final Byte MEMBER_TYPE_BUSINESS = 2;
+    private static final Byte MEMBER_TYPE_GENERAL = 3;
+
+    private Member applicant;
+    private Member admin;
+    private CompanyInfo company;
+    private Post post;
+    private Application application;
+    private Inquiry inquiry;
+    private InquiryComment comment;
+
+    private Member saveMember(String prefix, Byte typeId) {
+        MembershipType type = membershipTypeRepository.findById(typeId)
+                .orElseThrow(() -> new RuntimeException("멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 1~3번 멤버십 타입이 필요합니다."));
+        return memberRepository.save(Member.builder()
+                .loginId(prefix + "_" + System.nanoTime())
+                .password("password!")
+                .name(prefix)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .address("서울시 종로구")
+                .phone("010-7777-8888")
+                .membershipType(type)
+                .build());
+    }
+
+    @BeforeEach
+    void setUp() {
+        applicant = saveMember("fetch_applicant", MEMBER_TYPE_GENERAL);
+        admin = saveMember("fetch_admin", MEMBER_TYPE_ADMIN);
+        company = companyInfoRepository.save(CompanyInfo.builder()
+                .member(saveMember("fetch_company", MEMBER_TYPE_BUSINESS))
+                .companyName("페치플랜 주식회사")
+                .build());
+        post = postRepository.save(Post.builder()
+                .company(company)
+                .title("페치플랜 공고")
+                .description("공고 설명")
+                .postedDate(LocalDateTime.now())
+                .build());
+        application = applicationRepository.save(Application.builder()
+                .post(post)
+                .member(applicant)
+                .submittedAt(LocalDateTime.now())
+                .build());
+        inquiry = inquiryRepository.save(Inquiry.builder()
+                .member(applicant)
+                .title("페치플랜 문의")
+                .content("문의 내용")
+                .build());
+        comment = inquiryCommentRepository.save(InquiryComment.builder()
+                .inquiry(inquiry)
+                .admin(admin)
+                .content("답변 내용")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        inquiryCommentRepository.deleteById(comment.getCommentId());
+        inquiryRepository.deleteById(inquiry.getInquiryId());
+        applicationRepository.deleteById(application.getApplicationId());
+        postRepository.deleteById(post.getPostId());
+        companyInfoRepository.deleteById(company.getMemberNo());
+        memberRepository.deleteAllById(List.of(company.getMemberNo(), applicant.getMemberNo(), admin.getMemberNo()));
+    }
+
+    private SqlStatementTracker.Scope measure(Runnable action) {
+        assertThat(SqlStatementTracker.isInstalled()).as("sql.stats.enabled=true 필요").isTrue();
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.begin()) {
+            action.run();
+            return scope;
+        }
+    }
+
+    // 실행된 문장 중 JOIN이 들어간 문장 수 (연관 엔티티를 같이 읽었는지)
+    private static long joins(SqlStatementTracker.Scope scope) {
+        return scope.getCountsByShape().entrySet().stream()
+                .filter(entry -> entry.getKey().toLowerCase().contains(" join "))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    @Test
+    @DisplayName("기업 상세는 기업 + 회원을 한 문장으로")
+    void testCompanyInfoDetail() {
+        SqlStatementTracker.Scope scope = measure(() -> assertThat(companyInfoService.getByMemberNo(company.getMemberNo()).getPhone())
+                .isEqualTo("010-7777-8888"));
+
+        assertThat(scope.getStatements()).isEqualTo(1);
+        assertThat(joins(scope)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("문의글 단건 조회는 작성 회원을 읽지 않음")
+    void testInquiryReadOne() {
+        SqlStatementTracker.Scope scope = measure(() -> assertThat(inquiryService.readOne(inquiry.getInquiryId()).getMemberNo())
+                .isEqualTo(applicant.getMemberNo()));
+
+        assertThat(scope.getStatements()).isEqualTo(1);
+        assertThat(joins(scope)).isZero();
+    }
+
+    @Test
+    @DisplayName("문의글 수정은 작성 회원까지 한 번에 읽고 UPDATE 한 번")
+    void testInquiryModify() {
+        InquiryListDTO dto = InquiryListDTO.builder()
+                .inquiryId(inquiry.getInquiryId())
+                .memberNo(applicant.getMemberNo())
+                .title("수정된 문의")
+                .content("수정된 내용")
+                .build();
+
+        SqlStatementTracker.Scope scope = measure(() -> inquiryService.modify(dto));
+
+        assertThat(scope.getStatements()).isEqualTo(2);
+        assertThat(joins(scope)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("답변 수정/삭제는 답변만 읽음 (문의글, 관리자는 FK 값만 사용)")
+    void testInquiryCommentUpdateAndDelete() {
+        InquiryCommentRequestDTO requestDTO = InquiryCommentRequestDTO.builder()
+                .inquiryId(inquiry.getInquiryId())
+                .adminNo(admin.getMemberNo())
+                .content("수정된 답변")
+                .build();
+
+        SqlStatementTracker.Scope updated = measure(() -> inquiryCommentService.updateComment(comment.getCommentId(), requestDTO));
+        assertThat(updated.getStatements()).isEqualTo(2); // SELECT + UPDATE
+        assertThat(joins(updated)).isZero();
+
+        SqlStatementTracker.Scope deleted = measure(() -> inquiryCommentService.deleteComment(comment.getCommentId(), admin.getMemberNo()));
+        assertThat(deleted.getStatements()).isEqualTo(3); // 잠금 SELECT + 답변 카운터 UPDATE + 답변 UPDATE
+        assertThat(joins(deleted)).isZero();
+    }
+
+    @Test
+    @DisplayName("지원서 삭제는 지원서만 읽음 (공고, 기업, 지원자 JOIN 없음)")
+    void testApplicationRemove() {
+        SqlStatementTracker.Scope scope = measure(() -> applicationService.remove(application.getApplicationId(), applicant.getMemberNo()));
+
+        assertThat(scope.getStatements()).isEqualTo(2); // SELECT + UPDATE
+        assertThat(joins(scope)).isZero();
+    }
+
+    @Test
+    @DisplayName("지원자 목록은 공고 + 지원자까지 한 문장으로")
+    void testApplicationListGraph() {
+        SqlStatementTracker.Scope scope = measure(() -> assertThat(applicationRepository.findByPost_PostId(post.getPostId()))
+                .extracting(found -> found.getMember().getName())
+                .containsExactly("fetch_applicant"));
+
+        assertThat(scope.getStatements()).isEqualTo(1);
+        assertThat(joins(scope)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("toString / equals / hashCode는 LAZY 연관 엔티티를 건드리지 않음 (트랜잭션 밖에서도 예외 없음)")
+    void testLombokSkipsLazyAssociations() {
+        Application found = applicationRepository.findById(application.getApplicationId()).orElseThrow();
+        Application again = applicationRepository.findById(application.getApplicationId()).orElseThrow();
+        assertThat(Hibernate.isInitialized(found.getPost())).isFalse();
+        assertThat(Hibernate.isInitialized(found.getMember())).isFalse();
+
+        assertThat(found.toString()).contains("applicationId=" + application.getApplicationId());
+        assertThat(found).isEqualTo(again).hasSameHashCodeAs(again);
+        assertThat(Hibernate.isInitialized(found.getPost())).isFalse();
+        assertThat(Hibernate.isInitialized(found.getMember())).isFalse();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.b03.service;
+
+import com.example.b03.dto.CompanyInfoDTO;
+import com.example.b03.dto.MemberDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// DB 없이 캐시 동작만 검증하는 테스트
+class EntityLookupCacheTest {
+
+    private EntityLookupCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EntityLookupCache(100, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    private Optional<MemberDTO> load(Integer memberNo) {
+        loads.incrementAndGet();
+        return Optional.of(MemberDTO.builder().memberNo(memberNo).loginId("user" + memberNo).password("secret!").name("홍길동").build());
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB를 타지 않음 - memberNo/loginId 조회가 같은 캐시를 공유")
+    void testGetMember_cached() {
+        cache.getMember(1, () -> load(1));
+        cache.getMember(1, () -> load(1));
+        Optional<MemberDTO> byLoginId = cache.getMemberByLoginId("user1", id -> load(1));
+
+        assertThat(byLoginId).map(MemberDTO::getMemberNo).contains(1);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getStats().get("membersByNo").get("hitCount")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("없는 회원은 캐시하지 않음")
+    void testGetMember_absentNotCached() {
+        cache.getMember(2, Optional::empty);
+        Optional<MemberDTO> found = cache.getMember(2, () -> load(2));
+
+        assertThat(found).isPresent();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 다시 읽음")
+    void testEvictMember() {
+        cache.getMember(3, () -> load(3));
+        cache.evictMember(3);
+        cache.getMemberByLoginId("user3", id -> load(3));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("돌려준 DTO를 고쳐도 캐시 값은 그대로이고, 비밀번호는 캐시에 두지 않음")
+    void testGetMember_defensiveCopy() {
+        MemberDTO first = cache.getMember(4, () -> load(4)).orElseThrow();
+        first.setName("바뀐 이름");
+        MemberDTO second = cache.getMember(4, () -> load(4)).orElseThrow();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo("홍길동");
+        assertThat(first.getPassword()).isNull();
+        assertThat(second.getPassword()).isNull();
+        assertThat(cache.getMemberByLoginId("user4", id -> load(4))).map(MemberDTO::getPassword).isEmpty();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기업 정보도 꺼낼 때마다 복사본")
+    void testGetCompanyInfo_defensiveCopy() {
+        CompanyInfoDTO first = cache.getCompanyInfo(5, () -> CompanyInfoDTO.builder().memberNo(5).companyName("캐시 주식회사").build());
+        first.setCompanyName("바뀐 회사");
+        CompanyInfoDTO second = cache.getCompanyInfo(5, () -> {
+            throw new AssertionError("캐시에 있어야 함");
+        });
+
+        assertThat(second.getCompanyName()).isEqualTo("캐시 주식회사");
+    }
+}
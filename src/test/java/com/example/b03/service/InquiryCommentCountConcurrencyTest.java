@@ -0,0 +1,200 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.Inquiry;
+import com.example.b03.domain.InquiryComment;
+import com.example.b03.domain.Member;
+import com.example.b03.domain.MembershipType;
+import com.example.b03.dto.InquiryCommentRequestDTO;
+import com.example.b03.dto.InquiryCommentResponseDTO;
+import com.example.b03.repository.InquiryCommentRepository;
+import com.example.b03.repository.InquiryRepository;
+import com.example.b03.repository.MemberRepository;
+import com.example.b03.repository.MembershipTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ⭐ 여러 스레드가 각자 커밋해야 하므로 @Transactional을 붙이지 않습니다.
+@SpringBootTest
+class InquiryCommentCountConcurrencyTest {
+
+    @Autowired
+    private InquiryCommentService inquiryCommentService;
+
+    @Autowired
+    private InquiryCommentCountReconciler inquiryCommentCountReconciler;
+
+    @Autowired
+    private InquiryCommentRepository inquiryCommentRepository;
+
+    @Autowired
+    private InquiryRepository inquiryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipTypeRepository membershipTypeRepository;
+
+    private Member testAdmin;
+    private Inquiry savedInquiry;
+
+    private static final Byte MEMBER_TYPE_ADMIN = 1;
+    private static final int THREAD_COUNT = 16;
+    private static final int COMMENT_COUNT = 40;
+
+    @BeforeEach
+    void setUp() {
+        inquiryCommentRepository.deleteAllInBatch();
+        inquiryRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+
+        MembershipType adminMembershipType = membershipTypeRepository.findById(MEMBER_TYPE_ADMIN)
+                .orElseThrow(() -> new RuntimeException("관리자 멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 1번 '관리자' 멤버십 타입이 필요합니다."));
+
+        testAdmin = memberRepository.save(Member.builder()
+                .loginId("counter_admin")
+                .password("adminpassword!")
+                .name("카운터관리자")
+                .birthDate(LocalDate.of(1985, 1, 1))
+                .address("서울시 강남구 역삼동")
+                .phone("010-0000-0000")
+                .membershipType(adminMembershipType)
+                .build());
+
+        savedInquiry = inquiryRepository.save(Inquiry.builder()
+                .title("동시성 테스트 문의")
+                .content("답변이 동시에 여러 개 달리는 문의입니다.")
+                .member(testAdmin)
+                .build());
+    }
+
+    @Test
+    @DisplayName("답변 동시 등록/삭제 후에도 답변 카운터가 실제 답변 개수와 일치")
+    void testCommentCount_concurrentCreateAndDelete() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            // 1. 답변 COMMENT_COUNT개를 동시에 등록
+            List<Future<InquiryCommentResponseDTO>> created = new ArrayList<>();
+            CountDownLatch start = new CountDownLatch(1);
+            for (int i = 0; i < COMMENT_COUNT; i++) {
+                int no = i;
+                created.add(executor.submit(() -> {
+                    start.await();
+                    return inquiryCommentService.createComment(InquiryCommentRequestDTO.builder()
+                            .inquiryId(savedInquiry.getInquiryId())
+                            .adminNo(testAdmin.getMemberNo())
+                            .content("동시 답변 " + no)
+                            .build());
+                }));
+            }
+            start.countDown();
+
+            List<Integer> commentIds = new ArrayList<>();
+            for (Future<InquiryCommentResponseDTO> future : created) {
+                commentIds.add(future.get(30, TimeUnit.SECONDS).getCommentId());
+            }
+
+            Inquiry afterCreate = inquiryRepository.findById(savedInquiry.getInquiryId()).orElseThrow();
+            assertThat(afterCreate.getCommentCount()).isEqualTo(COMMENT_COUNT);
+            assertThat(afterCreate.isAnswered()).isTrue();
+
+            // 2. 절반을 삭제하되, 같은 답변을 두 스레드가 동시에 삭제하도록 요청 (두 번째 요청은 실패해야 함)
+            List<Future<?>> deleted = new ArrayList<>();
+            CountDownLatch deleteStart = new CountDownLatch(1);
+            List<Integer> toDelete = commentIds.subList(0, COMMENT_COUNT / 2);
+            for (Integer commentId : toDelete) {
+                for (int dup = 0; dup < 2; dup++) {
+                    deleted.add(executor.submit(() -> {
+                        deleteStart.await();
+                        try {
+                            inquiryCommentService.deleteComment(commentId, testAdmin.getMemberNo());
+                        } catch (IllegalArgumentException e) {
+                            // 이미 삭제된 답변입니다. → 정상
+                        }
+                        return null;
+                    }));
+                }
+            }
+            deleteStart.countDown();
+            for (Future<?> future : deleted) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        Inquiry result = inquiryRepository.findById(savedInquiry.getInquiryId()).orElseThrow();
+        int actualCount = inquiryCommentRepository.countByInquiryAndIsDeletedFalse(result);
+
+        assertThat(actualCount).isEqualTo(COMMENT_COUNT / 2);
+        assertThat(result.getCommentCount()).isEqualTo(actualCount);
+        assertThat(result.isAnswered()).isTrue();
+    }
+
+    @Test
+    @DisplayName("답변 카운터가 어긋난 문의글을 보정 작업이 바로잡음")
+    void testReconcile_repairsDrift() {
+        // given: 서비스를 거치지 않고 답변을 직접 저장 → 카운터는 0인 채로 남음
+        inquiryCommentRepository.save(InquiryComment.builder()
+                .content("카운터를 거치지 않은 답변")
+                .inquiry(savedInquiry)
+                .admin(testAdmin)
+                .build());
+
+        Inquiry unanswered = inquiryRepository.save(Inquiry.builder()
+                .title("답변 없는 문의")
+                .content("답변 카운터가 잘못 남아 있는 문의입니다.")
+                .member(testAdmin)
+                .commentCount(3)
+                .answered(true)
+                .build());
+
+        // when
+        int repaired = inquiryCommentCountReconciler.reconcile();
+
+        // then
+        assertThat(repaired).isEqualTo(2);
+
+        Inquiry fixed = inquiryRepository.findById(savedInquiry.getInquiryId()).orElseThrow();
+        assertThat(fixed.getCommentCount()).isEqualTo(1);
+        assertThat(fixed.isAnswered()).isTrue();
+
+        Inquiry reset = inquiryRepository.findById(unanswered.getInquiryId()).orElseThrow();
+        assertThat(reset.getCommentCount()).isZero();
+        assertThat(reset.isAnswered()).isFalse();
+    }
+
+    @Test
+    @DisplayName("답변 개수는 맞고 answered만 어긋난 문의글도 보정 작업이 바로잡음")
+    void testReconcile_repairsStaleAnswered() {
+        // given: 답변 개수(0)는 실제와 같지만 answered만 true로 남은 문의글
+        Inquiry staleAnswered = inquiryRepository.save(Inquiry.builder()
+                .title("answered만 어긋난 문의")
+                .content("답변이 없는데 답변 완료로 표시된 문의입니다.")
+                .member(testAdmin)
+                .commentCount(0)
+                .answered(true)
+                .build());
+
+        // when
+        int repaired = inquiryCommentCountReconciler.reconcile();
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+
+        Inquiry fixed = inquiryRepository.findById(staleAnswered.getInquiryId()).orElseThrow();
+        assertThat(fixed.getCommentCount()).isZero();
+        assertThat(fixed.isAnswered()).isFalse();
+    }
+}
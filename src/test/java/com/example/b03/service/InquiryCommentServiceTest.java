@@ -4,12 +4,14 @@ import com.example.b03.domain.Inquiry;
 import com.example.b03.domain.InquiryComment;
 import com.example.b03.domain.Member;
 import com.example.b03.domain.MembershipType;
+import com.example.b03.dto.InquiryCommentCursorResponseDTO;
 import com.example.b03.dto.InquiryCommentRequestDTO;
 import com.example.b03.dto.InquiryCommentResponseDTO;
 import com.example.b03.repository.InquiryCommentRepository;
 import com.example.b03.repository.InquiryRepository;
 import com.example.b03.repository.MemberRepository;
 import com.example.b03.repository.MembershipTypeRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,7 +20,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -42,6 +46,9 @@ class InquiryCommentServiceTest {
     @Autowired
     private MembershipTypeRepository membershipTypeRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Member testMember; // 문의글 작성 일반 회원
     private Member testAdmin; // 답변 작성 관리자 회원
     private Inquiry savedInquiry; // 테스트용 문의글
@@ -454,4 +461,82 @@ class InquiryCommentServiceTest {
         // ⭐ 수정: 서비스에서 던지는 메시지에 ID가 포함되므로 contains 사용
         assertThat(exception.getMessage()).contains("해당 문의를 찾을 수 없습니다: " + nonExistentInquiryId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("삭제된 문의에 대한 답변 목록 조회 실패")
+    void testGetCommentsForInquiry_inquiryIsDeleted() {
+        // given
+        savedInquiry.setIsDeleted(true); // 문의글 삭제 처리
+        inquiryRepository.save(savedInquiry);
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            inquiryCommentService.getCommentsForInquiry(savedInquiry.getInquiryId());
+        });
+        assertThat(exception.getMessage()).contains("해당 문의를 찾을 수 없습니다: " + savedInquiry.getInquiryId());
+    }
+
+    @Test
+    @DisplayName("여러 문의글의 답변 개수 한 번에 조회 성공 - 답변이 없으면 0")
+    void testGetCommentCounts_success() {
+        Inquiry noCommentInquiry = inquiryRepository.save(Inquiry.builder()
+                .title("답변 없는 문의")
+                .content("아직 답변이 없습니다.")
+                .member(testMember)
+                .build());
+        inquiryCommentRepository.save(InquiryComment.builder()
+                .content("두 번째 답변")
+                .inquiry(savedInquiry)
+                .admin(testAdmin)
+                .build());
+
+        Map<Integer, Integer> counts = inquiryCommentService.getCommentCounts(
+                List.of(savedInquiry.getInquiryId(), noCommentInquiry.getInquiryId()));
+
+        assertThat(counts).containsEntry(savedInquiry.getInquiryId(), 2)
+                .containsEntry(noCommentInquiry.getInquiryId(), 0);
+    }
+
+    // --- 답변 목록 커서 조회 테스트 📄 ---
+
+    @Test
+    @DisplayName("답변 목록 커서 조회 성공 - 오래된 순으로 빠짐없이, 중복 없이 이어서 조회")
+    void testGetCommentsByCursor_success() {
+        List<Integer> expectedIds = new ArrayList<>(List.of(savedComment.getCommentId()));
+        for (int i = 1; i <= 4; i++) {
+            expectedIds.add(inquiryCommentRepository.save(InquiryComment.builder()
+                    .content("추가 답변 " + i)
+                    .inquiry(savedInquiry)
+                    .admin(testAdmin)
+                    .build()).getCommentId());
+        }
+        entityManager.flush();
+        entityManager.clear(); // DB에 저장된 createdAt 값으로 커서를 만들도록
+
+        List<Integer> actualIds = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        while (true) {
+            InquiryCommentCursorResponseDTO page = inquiryCommentService.getCommentsByCursor(savedInquiry.getInquiryId(), cursor, 2);
+            page.getDtoList().forEach(dto -> actualIds.add(dto.getCommentId()));
+            pages++;
+            if (!page.isHasNext()) {
+                assertThat(page.getNextCursor()).isNull();
+                break;
+            }
+            cursor = page.getNextCursor();
+        }
+
+        assertThat(pages).isEqualTo(3); // 2 + 2 + 1
+        assertThat(actualIds).containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 답변 목록 조회 실패")
+    void testGetCommentsByCursor_invalidCursor() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            inquiryCommentService.getCommentsByCursor(savedInquiry.getInquiryId(), "not-a-cursor", 10);
+        });
+        assertThat(exception.getMessage()).contains("잘못된 커서입니다");
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.Inquiry;
+import com.example.b03.domain.InquiryComment;
+import com.example.b03.domain.Member;
+import com.example.b03.domain.MembershipType;
+import com.example.b03.repository.InquiryCommentRepository;
+import com.example.b03.repository.InquiryRepository;
+import com.example.b03.repository.MemberRepository;
+import com.example.b03.repository.MembershipTypeRepository;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ⭐ 문의 화면 조각 캐시: 캐시된 목록 줄의 상세 링크에 컨텍스트 경로가 들어가는지,
+// 페이지 뷰 한 번에 CPU 시간을 얼마나 줄이는지 (B03_BENCHMARK=true 일 때만) 확인합니다.
+// MockMvc는 요청을 테스트 스레드에서 처리하므로 스레드 CPU 시간 = 컨트롤러 + 서비스 + 렌더링 CPU 시간
+@SpringBootTest
+@AutoConfigureMockMvc
+@Log4j2
+class InquiryFragmentCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InquiryFragmentCache inquiryFragmentCache;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipTypeRepository membershipTypeRepository;
+
+    @Autowired
+    private InquiryRepository inquiryRepository;
+
+    @Autowired
+    private InquiryCommentRepository inquiryCommentRepository;
+
+    private static final Byte MEMBER_TYPE_ADMIN = 1;
+    private static final Byte MEMBER_TYPE_GENERAL = 3;
+
+    private static final int INQUIRIES = 10;
+    private static final int COMMENTS = 20;
+    private static final int ROUNDS = 200;
+
+    private Member writer;
+    private Member admin;
+    private final List<Integer> inquiryIds = new ArrayList<>();
+    private final List<Integer> commentIds = new ArrayList<>();
+
+    private Member saveMember(String prefix, Byte typeId) {
+        MembershipType type = membershipTypeRepository.findById(typeId)
+                .orElseThrow(() -> new RuntimeException("멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 1~3번 멤버십 타입이 필요합니다."));
+        return memberRepository.save(Member.builder()
+                .loginId(prefix + "_" + System.nanoTime())
+                .password("password!")
+                .name(prefix)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .address("서울시 종로구")
+                .phone("010-1212-3434")
+                .membershipType(type)
+                .build());
+    }
+
+    @BeforeEach
+    void setUp() {
+        writer = saveMember("fragment_writer", MEMBER_TYPE_GENERAL);
+        admin = saveMember("fragment_admin", MEMBER_TYPE_ADMIN);
+        for (int i = 0; i < INQUIRIES; i++) {
+            inquiryIds.add(inquiryRepository.save(Inquiry.builder()
+                    .member(writer)
+                    .title("조각 캐시 문의 " + i)
+                    .content("주문한 상품이 아직 도착하지 않았어요. ".repeat(20))
+                    .build()).getInquiryId());
+        }
+        Inquiry newest = inquiryRepository.getReferenceById(inquiryIds.get(INQUIRIES - 1));
+        for (int i = 0; i < COMMENTS; i++) {
+            commentIds.add(inquiryCommentRepository.save(InquiryComment.builder()
+                    .inquiry(newest)
+                    .admin(admin)
+                    .content("확인 후 안내드리겠습니다. " + i)
+                    .build()).getCommentId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        inquiryCommentRepository.deleteAllById(commentIds);
+        inquiryRepository.deleteAllById(inquiryIds);
+        memberRepository.deleteAllById(List.of(writer.getMemberNo(), admin.getMemberNo()));
+        inquiryIds.forEach(inquiryFragmentCache::evict);
+    }
+
+    @Test
+    @DisplayName("캐시된 목록 줄의 상세 링크에 서블릿 컨텍스트 경로가 들어감")
+    void testRowLink_contextPath() throws Exception {
+        Integer newestId = inquiryIds.get(INQUIRIES - 1);
+
+        String underContext = mockMvc.perform(get("/app/inquiry/list").contextPath("/app"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(underContext).contains("href=\"/app/inquiry/read?inquiryId=" + newestId + "&");
+
+        String atRoot = mockMvc.perform(get("/inquiry/list"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(atRoot).contains("href=\"/inquiry/read?inquiryId=" + newestId + "&");
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "B03_BENCHMARK", matches = "true")
+    @DisplayName("페이지 뷰당 CPU 시간 - 조각 캐시 적중 vs 매번 렌더링")
+    void testCpuPerPageView() throws Exception {
+        Integer newestId = inquiryIds.get(INQUIRIES - 1);
+        RequestBuilder listPage = get("/inquiry/list");
+        RequestBuilder readPage = get("/inquiry/read").param("inquiryId", String.valueOf(newestId));
+
+        double listCached = cpuMicrosPerView(listPage, false);
+        double listRendered = cpuMicrosPerView(listPage, true);
+        double readCached = cpuMicrosPerView(readPage, false);
+        double readRendered = cpuMicrosPerView(readPage, true);
+
+        log.info("목록 페이지(" + INQUIRIES + "줄) CPU: 캐시 적중 " + String.format("%.1f", listCached) + "µs / 매번 렌더링 "
+                + String.format("%.1f", listRendered) + "µs → 페이지 뷰당 " + String.format("%.1f", listRendered - listCached) + "µs 절약");
+        log.info("상세 페이지(답변 " + COMMENTS + "개) CPU: 캐시 적중 " + String.format("%.1f", readCached) + "µs / 매번 렌더링 "
+                + String.format("%.1f", readRendered) + "µs → 페이지 뷰당 " + String.format("%.1f", readRendered - readCached) + "µs 절약");
+        assertThat(listCached).isLessThan(listRendered);
+        assertThat(readCached).isLessThan(readRendered);
+    }
+
+    // 요청 한 번의 평균 스레드 CPU 시간 (evictFirst면 요청마다 이 문의글들의 조각을 비워서 매번 렌더링하게 함)
+    private double cpuMicrosPerView(RequestBuilder request, boolean evictFirst) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ROUNDS / 10; i++) { // JIT, 캐시 채우기
+            view(request, evictFirst);
+        }
+        long total = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long startedAt = threads.getCurrentThreadCpuTime();
+            view(request, evictFirst);
+            total += threads.getCurrentThreadCpuTime() - startedAt;
+        }
+        return total / 1_000.0 / ROUNDS;
+    }
+
+    private void view(RequestBuilder request, boolean evictFirst) throws Exception {
+        if (evictFirst) {
+            inquiryIds.forEach(inquiryFragmentCache::evict);
+        }
+        mockMvc.perform(request).andExpect(status().isOk());
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -39,6 +40,9 @@ class InquiryServiceTest {
     @Autowired
     private InquiryCommentRepository inquiryCommentRepository;
 
+    @Autowired
+    private InquiryCommentService inquiryCommentService;
+
     private Member testMember;
     private Inquiry savedInquiry; // BeforeEach에서 저장되는 첫 번째 문의글
 
@@ -151,6 +155,73 @@ class InquiryServiceTest {
         assertThat(response.getDtoList().get(0).getTitle()).isEqualTo(savedInquiry.getTitle());
     }
 
+    @Test
+    @DisplayName("커서 방식 목록 조회 - nextCursor로 다음 페이지를 이어서 조회")
+    void testListByCursor_success() {
+        // given (savedInquiry + 4개 = 총 5개)
+        for (int i = 2; i <= 5; i++) {
+            inquiryRepository.save(Inquiry.builder()
+                    .title(i + "번째 문의 제목")
+                    .content(i + "번째 문의 내용입니다.")
+                    .member(testMember)
+                    .build());
+        }
+
+        // when (첫 페이지: cursor 없음)
+        InquiryCursorResponseDTO<InquiryListDTO> first = inquiryService.listByCursor(InquiryPageRequestDTO.builder()
+                .size(2)
+                .build());
+
+        // then
+        assertThat(first.getDtoList()).hasSize(2);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotNull();
+
+        // when (두 번째, 세 번째 페이지)
+        InquiryCursorResponseDTO<InquiryListDTO> second = inquiryService.listByCursor(InquiryPageRequestDTO.builder()
+                .size(2)
+                .cursor(first.getNextCursor())
+                .build());
+        InquiryCursorResponseDTO<InquiryListDTO> third = inquiryService.listByCursor(InquiryPageRequestDTO.builder()
+                .size(2)
+                .cursor(second.getNextCursor())
+                .build());
+
+        // then (최신순으로 이어지고, 마지막 페이지에는 다음 커서가 없어야 함)
+        assertThat(second.getDtoList()).hasSize(2);
+        assertThat(second.getDtoList().get(0).getInquiryId())
+                .isLessThan(first.getDtoList().get(1).getInquiryId());
+        assertThat(third.getDtoList()).hasSize(1);
+        assertThat(third.getDtoList().get(0).getInquiryId()).isEqualTo(savedInquiry.getInquiryId());
+        assertThat(third.isHasNext()).isFalse();
+        assertThat(third.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 목록 조회 실패")
+    void testListByCursor_invalidCursor() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            inquiryService.listByCursor(InquiryPageRequestDTO.builder()
+                    .size(2)
+                    .cursor("not-a-cursor")
+                    .build());
+        });
+        assertThat(exception.getMessage()).contains("잘못된 커서입니다");
+    }
+
+    @Test
+    @DisplayName("커서 목록 size는 1~100만 허용")
+    void testListByCursor_invalidSize() {
+        for (int size : new int[]{0, -1, 101, 100000}) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                    inquiryService.listByCursor(InquiryPageRequestDTO.builder()
+                            .size(size)
+                            .cursor("")
+                            .build()));
+            assertThat(exception.getMessage()).contains("size는 1 ~ 100");
+        }
+    }
+
     // --- 1:1 문의글 상세보기 테스트 🔎 ---
 
     @Test
@@ -190,6 +261,95 @@ class InquiryServiceTest {
         assertThat(exception.getMessage()).contains("삭제된 문의글입니다."); // InquiryServiceImpl의 에러 메시지와 일치하는지 확인
     }
 
+    @Test
+    @DisplayName("여러 문의글 한 번에 조회 성공 - 요청 순서 유지, 없는/삭제된 문의글 제외")
+    void testReadMany_success() {
+        Inquiry second = inquiryRepository.save(Inquiry.builder()
+                .title("두 번째 문의")
+                .content("두 번째 문의 내용")
+                .member(testMember)
+                .build());
+        Inquiry deleted = inquiryRepository.save(Inquiry.builder()
+                .title("삭제될 문의")
+                .content("삭제될 문의 내용")
+                .member(testMember)
+                .build());
+        deleted.setIsDeleted(true);
+        inquiryRepository.save(deleted);
+
+        List<InquiryListDTO> result = inquiryService.readMany(List.of(
+                second.getInquiryId(), 999999, deleted.getInquiryId(), savedInquiry.getInquiryId(), second.getInquiryId()));
+
+        assertThat(result).extracting(InquiryListDTO::getInquiryId)
+                .containsExactly(second.getInquiryId(), savedInquiry.getInquiryId());
+        assertThat(result.get(0).getMemberNo()).isEqualTo(testMember.getMemberNo());
+    }
+
+    @Test
+    @DisplayName("상세 페이지 조회 성공 - 문의글 + 답변 목록, 답변 등록 시 캐시 무효화")
+    void testReadDetail_withComments() {
+        MembershipType adminMembershipType = membershipTypeRepository.findById(MEMBER_TYPE_ADMIN)
+                .orElseThrow(() -> new RuntimeException("관리자 멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 1번 '관리자' 멤버십 타입이 필요합니다."));
+        Member admin = memberRepository.save(Member.builder()
+                .loginId("detail_admin01")
+                .password("adminpassword01!")
+                .name("상세관리자")
+                .birthDate(LocalDate.of(1985, 3, 3))
+                .address("서울시 중구")
+                .phone("010-3333-4444")
+                .membershipType(adminMembershipType)
+                .build());
+
+        InquiryDetailDTO before = inquiryService.readDetail(savedInquiry.getInquiryId());
+        assertThat(before.getInquiry().getTitle()).isEqualTo(savedInquiry.getTitle());
+        assertThat(before.getComments()).isEmpty();
+
+        inquiryCommentService.createComment(InquiryCommentRequestDTO.builder()
+                .inquiryId(savedInquiry.getInquiryId())
+                .adminNo(admin.getMemberNo())
+                .content("상세 페이지 답변입니다.")
+                .build());
+
+        InquiryDetailDTO after = inquiryService.readDetail(savedInquiry.getInquiryId());
+        assertThat(after.getComments()).hasSize(1);
+        assertThat(after.getComments().get(0).getAdminNo()).isEqualTo(admin.getMemberNo());
+        assertThat(after.getComments().get(0).getContent()).isEqualTo("상세 페이지 답변입니다.");
+    }
+
+    @Test
+    @DisplayName("조건부 GET용 최신 여부 - 답변이 등록되면 ETag가 바뀜, 삭제된 문의글은 empty")
+    void testGetFreshness() {
+        MembershipType adminMembershipType = membershipTypeRepository.findById(MEMBER_TYPE_ADMIN)
+                .orElseThrow(() -> new RuntimeException("관리자 멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 1번 '관리자' 멤버십 타입이 필요합니다."));
+        Member admin = memberRepository.save(Member.builder()
+                .loginId("fresh_admin01")
+                .password("adminpassword01!")
+                .name("최신관리자")
+                .birthDate(LocalDate.of(1985, 3, 3))
+                .address("서울시 중구")
+                .phone("010-5555-6666")
+                .membershipType(adminMembershipType)
+                .build());
+
+        InquiryFreshnessDTO before = inquiryService.getFreshness(savedInquiry.getInquiryId()).orElseThrow();
+        assertThat(before.getEtag()).isEqualTo(inquiryService.getFreshness(savedInquiry.getInquiryId()).orElseThrow().getEtag());
+        assertThat(before.getLastCommentAt()).isNull();
+
+        inquiryCommentService.createComment(InquiryCommentRequestDTO.builder()
+                .inquiryId(savedInquiry.getInquiryId())
+                .adminNo(admin.getMemberNo())
+                .content("ETag 확인용 답변")
+                .build());
+
+        InquiryFreshnessDTO after = inquiryService.getFreshness(savedInquiry.getInquiryId()).orElseThrow();
+        assertThat(after.getEtag()).isNotEqualTo(before.getEtag());
+        assertThat(after.getCommentCount()).isEqualTo(1);
+        assertThat(after.getLastModified()).isGreaterThanOrEqualTo(before.getLastModified());
+
+        inquiryService.remove(savedInquiry.getInquiryId());
+        assertThat(inquiryService.getFreshness(savedInquiry.getInquiryId())).isEmpty();
+    }
+
     // --- 1:1 문의글 작성 테스트 ✍️ ---
 
     @Test
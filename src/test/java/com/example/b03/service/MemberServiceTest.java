@@ -0,0 +1,88 @@
+package com.example.b03.service;
+
+import com.example.b03.config.SqlStatementTracker;
+import com.example.b03.dto.MemberDTO;
+import com.example.b03.repository.MemberRepository;
+import com.example.b03.support.SqlStatementBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ⭐ 회원 유형은 메모리 카탈로그에서 채우므로 가입 / 캐시에 없는 회원 조회에서 membership_types를 SELECT 하지 않음
+// 테스트를 위해 DB에 3번 '일반' 멤버십 타입이 필요합니다.
+@SpringBootTest
+@ActiveProfiles("test") // sql.stats.enabled=true (application-test.properties) → SQL 문장을 셀 수 있음
+class MemberServiceTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ReferenceDataCatalog referenceDataCatalog;
+
+    private static final Byte MEMBER_TYPE_GENERAL = 3;
+
+    private Integer memberNo;
+
+    @AfterEach
+    void tearDown() {
+        if (memberNo != null) {
+            memberService.delete(memberNo);
+        }
+    }
+
+    private String generalTypeName() {
+        return referenceDataCatalog.getMembershipType(MEMBER_TYPE_GENERAL)
+                .map(ReferenceDataCatalog.MembershipTypeEntry::typeName)
+                .orElseThrow();
+    }
+
+    private MemberDTO register() {
+        MemberDTO saved = memberService.register(MemberDTO.builder()
+                .loginId("member_service_" + System.nanoTime())
+                .password("password!")
+                .name("가입테스트")
+                .birthDate(LocalDate.of(1995, 5, 5))
+                .address("서울시 중구")
+                .phone("010-3333-4444")
+                .membershipTypeId(MEMBER_TYPE_GENERAL)
+                .build());
+        memberNo = saved.getMemberNo();
+        return saved;
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    @DisplayName("가입은 회원 INSERT 한 문장 (회원 유형 확인 / 이름은 카탈로그에서)")
+    void testRegister_singleStatement() {
+        MemberDTO saved = register();
+
+        assertThat(saved.getMembershipTypeId()).isEqualTo(MEMBER_TYPE_GENERAL);
+        assertThat(saved.getMembershipTypeName()).isEqualTo(generalTypeName());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 회원 조회는 회원 SELECT 한 문장")
+    void testGetByMemberNo_cacheMiss() {
+        register(); // 가입은 캐시를 비우기만 하므로 다음 조회는 DB에서 읽음
+
+        assertThat(SqlStatementTracker.isInstalled()).as("sql.stats.enabled=true 필요").isTrue();
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.begin()) {
+            MemberDTO found = memberService.getByMemberNo(memberNo).orElseThrow();
+
+            assertThat(found.getMembershipTypeId()).isEqualTo(MEMBER_TYPE_GENERAL);
+            assertThat(found.getMembershipTypeName()).isEqualTo(generalTypeName());
+            assertThat(scope.getStatements()).isEqualTo(1);
+        }
+    }
+}
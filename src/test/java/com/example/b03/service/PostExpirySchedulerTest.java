@@ -0,0 +1,120 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.CompanyInfo;
+import com.example.b03.domain.Member;
+import com.example.b03.domain.MembershipType;
+import com.example.b03.domain.Post;
+import com.example.b03.dto.PostSummaryDTO;
+import com.example.b03.repository.CompanyInfoRepository;
+import com.example.b03.repository.MemberRepository;
+import com.example.b03.repository.MembershipTypeRepository;
+import com.example.b03.repository.PostRepository;
+import com.example.b03.repository.search.ClosingSoonIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ⭐ 마감 처리는 배치마다 직접 커밋하므로 @Transactional을 붙이지 않고, 끝나면 만든 데이터를 지웁니다.
+// batch-size=2로 여러 번 나눠 닫히는지 확인
+@SpringBootTest(properties = "post.expiry.batch-size=2")
+class PostExpirySchedulerTest {
+
+    @Autowired
+    private PostExpiryScheduler postExpiryScheduler;
+
+    @Autowired
+    private ClosingSoonIndex closingSoonIndex;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CompanyInfoRepository companyInfoRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipTypeRepository membershipTypeRepository;
+
+    private static final Byte MEMBER_TYPE_BUSINESS = 2;
+
+    private CompanyInfo company;
+
+    @BeforeEach
+    void setUp() {
+        MembershipType businessType = membershipTypeRepository.findById(MEMBER_TYPE_BUSINESS)
+                .orElseThrow(() -> new RuntimeException("기업 멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 2번 '기업' 멤버십 타입이 필요합니다."));
+        Member member = memberRepository.save(Member.builder()
+                .loginId("expiry_company_" + System.nanoTime())
+                .password("companypassword!")
+                .name("마감테스트기업")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .address("서울시 구로구")
+                .phone("010-2222-3333")
+                .membershipType(businessType)
+                .build());
+        company = companyInfoRepository.save(CompanyInfo.builder()
+                .member(member)
+                .companyName("마감테스트 주식회사")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll(postRepository.findByCompany_MemberNo(company.getMemberNo()));
+        companyInfoRepository.deleteById(company.getMemberNo());
+        memberRepository.deleteById(company.getMemberNo());
+    }
+
+    private Post savePost(String title, LocalDate deadline) {
+        return postRepository.save(Post.builder()
+                .company(company)
+                .title(title)
+                .description("공고 설명")
+                .deadline(deadline)
+                .postedDate(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    @DisplayName("마감일이 지난 공고만 배치로 닫고, 마감 임박 목록을 다시 채움")
+    void testRunDaily() {
+        LocalDate today = LocalDate.now();
+        List<Post> expired = List.of(
+                savePost("어제 마감 1", today.minusDays(1)),
+                savePost("어제 마감 2", today.minusDays(1)),
+                savePost("지난주 마감", today.minusDays(7)));
+        Post closingToday = savePost("오늘 마감", today);
+        Post closingSoon = savePost("3일 뒤 마감", today.plusDays(3));
+        Post later = savePost("한 달 뒤 마감", today.plusDays(30));
+        Post noDeadline = savePost("상시 채용", null);
+
+        postExpiryScheduler.runDaily();
+
+        for (Post post : expired) {
+            Post reloaded = postRepository.findById(post.getPostId()).orElseThrow();
+            assertThat(reloaded.isClosed()).isTrue();
+            assertThat(reloaded.getClosedAt()).isNotNull();
+        }
+        for (Post post : List.of(closingToday, closingSoon, later, noDeadline)) {
+            assertThat(postRepository.findById(post.getPostId()).orElseThrow().isClosed()).isFalse();
+        }
+        assertThat(postExpiryScheduler.closeExpired(today)).isZero(); // 다시 돌려도 닫을 공고 없음
+
+        List<Integer> closingSoonIds = closingSoonIndex.list(7, Integer.MAX_VALUE).stream().map(PostSummaryDTO::getPostId).toList();
+        assertThat(closingSoonIds).contains(closingToday.getPostId(), closingSoon.getPostId())
+                .doesNotContain(later.getPostId(), noDeadline.getPostId())
+                .doesNotContainAnyElementsOf(expired.stream().map(Post::getPostId).toList());
+        assertThat(closingSoonIds.indexOf(closingToday.getPostId())).isLessThan(closingSoonIds.indexOf(closingSoon.getPostId()));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.b03.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// DB 없이 대량 등록 파일 파싱만 검증하는 테스트
+class PostImportReaderTest {
+
+    @Test
+    @DisplayName("CSV - 따옴표 안의 쉼표/줄바꿈, 헤더 순서, 카테고리 목록")
+    void testCsv() throws Exception {
+        String csv = "\uFEFFdescription,title,deadline,jobCategoryIds\n"
+                + "\"백엔드 개발,\n운영\",Java 개발자,2025-12-31,1|3\n"
+                + "\n"
+                + "\"\"\"따옴표\"\" 설명\",프론트엔드,,\n";
+        PostImportReader reader = PostImportReader.csv(new StringReader(csv));
+
+        PostImportReader.Row first = reader.next();
+        assertThat(first.line()).isEqualTo(2);
+        assertThat(first.row().getTitle()).isEqualTo("Java 개발자");
+        assertThat(first.row().getDescription()).isEqualTo("백엔드 개발,\n운영");
+        assertThat(first.row().getDeadline()).isEqualTo(LocalDate.of(2025, 12, 31));
+        assertThat(first.row().getJobCategoryIds()).containsExactly(1, 3);
+
+        PostImportReader.Row second = reader.next();
+        assertThat(second.line()).isEqualTo(5); // 2~3번 줄이 첫 행, 4번 줄은 빈 줄
+        assertThat(second.row().getDescription()).isEqualTo("\"따옴표\" 설명");
+        assertThat(second.row().getDeadline()).isNull();
+        assertThat(second.row().getJobCategoryIds()).isEmpty();
+
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("CSV - 형식이 잘못된 행은 오류로 돌려주고 다음 행을 계속 읽음")
+    void testCsv_invalidRow() throws Exception {
+        String csv = "title,description,deadline,jobCategoryIds\n"
+                + "공고1,설명,2025-13-01,\n"
+                + "공고2,설명,,a|b\n"
+                + "공고3,설명,,\n";
+        PostImportReader reader = PostImportReader.csv(new StringReader(csv));
+
+        assertThat(reader.next().error()).isNotNull();
+        assertThat(reader.next().error()).contains("직무 카테고리");
+        assertThat(reader.next().row().getTitle()).isEqualTo("공고3");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("CSV - 필수 컬럼이 없는 헤더는 거부")
+    void testCsv_missingHeader() {
+        assertThrows(IllegalArgumentException.class, () -> PostImportReader.csv(new StringReader("title,salary\n")));
+        assertThrows(IllegalArgumentException.class, () -> PostImportReader.csv(new StringReader("")));
+    }
+
+    @Test
+    @DisplayName("NDJSON - 한 줄에 하나씩, 잘못된 JSON은 오류 행")
+    void testNdjson() throws Exception {
+        String ndjson = "{\"title\":\"공고1\",\"description\":\"설명\",\"deadline\":\"2025-12-31\",\"jobCategoryIds\":[2]}\n"
+                + "\n"
+                + "{\"title\":\n"
+                + "{\"title\":\"공고2\",\"description\":\"설명\"}\n";
+        PostImportReader reader = PostImportReader.ndjson(new StringReader(ndjson), new ObjectMapper().findAndRegisterModules());
+
+        PostImportReader.Row first = reader.next();
+        assertThat(first.line()).isEqualTo(1);
+        assertThat(first.row().getDeadline()).isEqualTo(LocalDate.of(2025, 12, 31));
+        assertThat(first.row().getJobCategoryIds()).containsExactly(2);
+
+        PostImportReader.Row broken = reader.next();
+        assertThat(broken.line()).isEqualTo(3);
+        assertThat(broken.row()).isNull();
+        assertThat(broken.error()).startsWith("JSON 형식 오류");
+
+        assertThat(reader.next().row().getTitle()).isEqualTo("공고2");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("NDJSON - null / 숫자 / 배열 줄은 객체가 아니므로 오류 행")
+    void testNdjson_notAnObject() throws Exception {
+        String ndjson = "null\n"
+                + "42\n"
+                + "[{\"title\":\"공고\"}]\n"
+                + "{\"title\":\"공고3\",\"description\":\"설명\"}\n";
+        PostImportReader reader = PostImportReader.ndjson(new StringReader(ndjson), new ObjectMapper().findAndRegisterModules());
+
+        for (int line = 1; line <= 3; line++) {
+            PostImportReader.Row row = reader.next();
+            assertThat(row.line()).isEqualTo(line);
+            assertThat(row.row()).isNull();
+            assertThat(row.error()).startsWith("JSON 객체가 아닙니다");
+        }
+        assertThat(reader.next().row().getTitle()).isEqualTo("공고3");
+        assertThat(reader.next()).isNull();
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.CompanyInfo;
+import com.example.b03.domain.Member;
+import com.example.b03.domain.MembershipType;
+import com.example.b03.domain.Post;
+import com.example.b03.dto.PostImportResultDTO;
+import com.example.b03.repository.CompanyInfoRepository;
+import com.example.b03.repository.MemberRepository;
+import com.example.b03.repository.MembershipTypeRepository;
+import com.example.b03.repository.PostJobCategoryRepository;
+import com.example.b03.repository.PostRepository;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// ⭐ 대량 등록은 청크마다 직접 커밋하므로 @Transactional을 붙이지 않고, 끝나면 만든 데이터를 지웁니다.
+@SpringBootTest
+@Log4j2
+class PostImportServiceTest {
+
+    @Autowired
+    private PostImportService postImportService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostJobCategoryRepository postJobCategoryRepository;
+
+    @Autowired
+    private CompanyInfoRepository companyInfoRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipTypeRepository membershipTypeRepository;
+
+    @Autowired
+    private ReferenceDataCatalog referenceDataCatalog;
+
+    private static final Byte MEMBER_TYPE_BUSINESS = 2;
+
+    // 마감일은 항상 미래 날짜 (고정 날짜는 지나면 마감된 공고가 됨)
+    private final LocalDate deadline = LocalDate.now().plusDays(30);
+
+    private CompanyInfo company;
+    private Integer jobCategoryId;
+
+    @BeforeEach
+    void setUp() {
+        MembershipType businessType = membershipTypeRepository.findById(MEMBER_TYPE_BUSINESS)
+                .orElseThrow(() -> new RuntimeException("기업 멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 2번 '기업' 멤버십 타입이 필요합니다."));
+
+        Member member = memberRepository.save(Member.builder()
+                .loginId("import_company_" + System.nanoTime())
+                .password("companypassword!")
+                .name("대량등록기업")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .address("서울시 구로구")
+                .phone("010-2222-3333")
+                .membershipType(businessType)
+                .build());
+        company = companyInfoRepository.save(CompanyInfo.builder()
+                .member(member)
+                .companyName("대량등록 주식회사")
+                .build());
+
+        jobCategoryId = referenceDataCatalog.getJobCategories().stream()
+                .findFirst()
+                .map(ReferenceDataCatalog.JobCategoryEntry::jobCategoryId)
+                .orElse(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<Post> posts = postRepository.findByCompany_MemberNo(company.getMemberNo());
+        for (Post post : posts) {
+            postJobCategoryRepository.deleteAll(postJobCategoryRepository.findAllByPost_PostId(post.getPostId()));
+        }
+        postRepository.deleteAll(posts);
+        companyInfoRepository.deleteById(company.getMemberNo());
+        memberRepository.deleteById(company.getMemberNo());
+    }
+
+    @Test
+    @DisplayName("잘못된 행은 건너뛰고 나머지 공고와 직무 카테고리를 등록")
+    void testImport_skipsInvalidRows() throws Exception {
+        String categories = jobCategoryId == null ? "" : String.valueOf(jobCategoryId);
+        String csv = "title,description,salary,location,deadline,jobCategoryIds\n"
+                + "백엔드 개발자,Spring 개발,4000만원,서울," + deadline + "," + categories + "\n"
+                + ",제목 없음,,,,\n"
+                + "프론트엔드 개발자,React 개발,,,,-1\n"
+                + "데이터 엔지니어,파이프라인 개발,,판교,," + categories + "|" + categories + "\n";
+
+        PostImportResultDTO result = postImportService.importPosts(company.getMemberNo(), new StringReader(csv), "csv");
+
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getFailedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(PostImportResultDTO.RowError::getLine).containsExactly(3L, 4L);
+
+        List<Post> posts = postRepository.findByCompany_MemberNo(company.getMemberNo());
+        assertThat(posts).extracting(Post::getTitle).containsExactlyInAnyOrder("백엔드 개발자", "데이터 엔지니어");
+        if (jobCategoryId != null) {
+            for (Post post : posts) {
+                assertThat(postJobCategoryRepository.findAllByPost_PostId(post.getPostId())).hasSize(1); // 중복 카테고리는 한 번만
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("없는 기업이면 예외")
+    void testImport_companyNotFound() {
+        assertThrows(NoSuchElementException.class,
+                () -> postImportService.importPosts(-1, new StringReader("title,description\n"), "csv"));
+    }
+
+    // 처리량 측정 (DB에 10만 건을 넣으므로 B03_BENCHMARK=true 일 때만 실행)
+    @Test
+    @EnabledIfEnvironmentVariable(named = "B03_BENCHMARK", matches = "true")
+    @DisplayName("10만 건 대량 등록 처리량")
+    void testImport_throughput() throws Exception {
+        int rows = 100_000;
+        String categories = jobCategoryId == null ? "" : String.valueOf(jobCategoryId);
+
+        // 파일 내용을 미리 만들지 않고 읽을 때마다 한 행씩 생성
+        Reader generated = new Reader() {
+            private int next = 0;
+            private String pending = "title,description,salary,location,deadline,jobCategoryIds\n";
+            private int offset = 0;
+
+            @Override
+            public int read(char[] buffer, int off, int len) {
+                if (offset == pending.length()) {
+                    if (next == rows) {
+                        return -1;
+                    }
+                    next++;
+                    pending = "공고 " + next + ",대량 등록 설명 " + next + ",협의,서울," + deadline + "," + categories + "\n";
+                    offset = 0;
+                }
+                int count = Math.min(len, pending.length() - offset);
+                pending.getChars(offset, offset + count, buffer, off);
+                offset += count;
+                return count;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        long startedAt = System.nanoTime();
+        PostImportResultDTO result = postImportService.importPosts(company.getMemberNo(), generated, "csv");
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        log.info("10만 건 대량 등록: " + elapsedMillis + "ms (" + (rows * 1000L / Math.max(elapsedMillis, 1)) + "행/초)");
+        assertThat(result.getImportedRows()).isEqualTo(rows);
+        assertThat(result.getFailedRows()).isZero();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.CompanyInfo;
+import com.example.b03.domain.Member;
+import com.example.b03.domain.MembershipType;
+import com.example.b03.repository.CompanyInfoRepository;
+import com.example.b03.repository.MemberRepository;
+import com.example.b03.repository.MembershipTypeRepository;
+import com.example.b03.repository.search.PostSearchIndex;
+import com.example.b03.repository.search.PostSearchIndexLoader;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 공고 10만 건에서 메모리 비트맵 색인 vs post_job_categories 조인 쿼리 (B03_BENCHMARK=true 일 때만 실행)
+// 같은 조건(직무 카테고리 OR + 지역 + 마감 7일 이내)의 결과 개수가 같은지 확인하고, 평균 응답 시간과 색인 크기를 기록합니다.
+@SpringBootTest
+@Log4j2
+class PostSearchServiceTest {
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private PostSearchIndexLoader postSearchIndexLoader;
+
+    @Autowired
+    private ReferenceDataCatalog referenceDataCatalog;
+
+    @Autowired
+    private CompanyInfoRepository companyInfoRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipTypeRepository membershipTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final Byte MEMBER_TYPE_BUSINESS = 2;
+
+    private static final int ROUNDS = 20;
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "B03_BENCHMARK", matches = "true")
+    @DisplayName("공고 10만 건 - 비트맵 색인 vs 조인 쿼리 응답 시간, 색인 크기")
+    void testIndexVsJoinQuery() {
+        int rows = 100_000;
+        List<Integer> categoryIds = referenceDataCatalog.getJobCategories().stream()
+                .map(ReferenceDataCatalog.JobCategoryEntry::jobCategoryId)
+                .limit(10)
+                .toList();
+        assumeTrue(categoryIds.size() >= 2, "직무 카테고리가 2개 이상 필요합니다.");
+
+        MembershipType businessType = membershipTypeRepository.findById(MEMBER_TYPE_BUSINESS)
+                .orElseThrow(() -> new RuntimeException("기업 멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 2번 '기업' 멤버십 타입이 필요합니다."));
+        Member member = memberRepository.save(Member.builder()
+                .loginId("search_bench_" + System.nanoTime())
+                .password("companypassword!")
+                .name("검색벤치기업")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .address("서울시 구로구")
+                .phone("010-2222-3333")
+                .membershipType(businessType)
+                .build());
+        CompanyInfo company = companyInfoRepository.save(CompanyInfo.builder()
+                .member(member)
+                .companyName("검색벤치 주식회사")
+                .build());
+
+        try {
+            // 지역 17곳(그중 하나가 "벤치시"), 마감일 -20~99일, 카테고리는 공고마다 2개
+            jdbcTemplate.update(
+                    "INSERT INTO posts (post_id, member_no, title, description, location, deadline, posted_date, created_at, updated_at, is_deleted) " +
+                            "SELECT NEXTVAL(posts_seq), ?, CONCAT('벤치 공고 ', s.seq), '검색 벤치마크', " +
+                            "IF(s.seq % 17 = 0, '벤치시 중구', CONCAT('지역', s.seq % 17)), " +
+                            "CURDATE() + INTERVAL (s.seq % 120 - 20) DAY, NOW(), NOW(), NOW(), FALSE FROM seq_1_to_" + rows + " s",
+                    company.getMemberNo());
+            for (int i = 0; i < 2; i++) {
+                jdbcTemplate.update(
+                        "INSERT IGNORE INTO post_job_categories (post_id, job_category_id) " +
+                                "SELECT p.post_id, ELT(1 + CRC32(CONCAT(p.post_id, '-', ?)) % ?, " + placeholders(categoryIds.size()) + ") " +
+                                "FROM posts p WHERE p.member_no = ?",
+                        args(i, categoryIds.size(), categoryIds, company.getMemberNo()));
+            }
+            postSearchIndexLoader.rebuild();
+
+            Set<Integer> selected = Set.of(categoryIds.get(0), categoryIds.get(1));
+            PostSearchIndex.Query query = new PostSearchIndex.Query(null, selected, Set.of("벤치"),
+                    Set.of(PostSearchIndex.DeadlineWindow.WITHIN_3_DAYS, PostSearchIndex.DeadlineWindow.WITHIN_7_DAYS));
+            String joinSql = "SELECT COUNT(DISTINCT p.post_id) FROM posts p JOIN post_job_categories pjc ON pjc.post_id = p.post_id " +
+                    "WHERE pjc.job_category_id IN (?, ?) AND p.location LIKE '벤치시%' " +
+                    "AND p.deadline BETWEEN CURDATE() AND CURDATE() + INTERVAL 7 DAY AND p.is_deleted = FALSE";
+            Object[] joinArgs = selected.toArray();
+
+            int indexTotal = postSearchIndex.search(query, 0, 20).total();
+            Integer joinTotal = jdbcTemplate.queryForObject(joinSql, Integer.class, joinArgs);
+            assertThat(indexTotal).isEqualTo(joinTotal).isPositive();
+
+            double indexMillis = averageMillis(() -> postSearchIndex.search(query, 0, 20).total());
+            double joinMillis = averageMillis(() -> jdbcTemplate.queryForObject(joinSql, Integer.class, joinArgs));
+            PostSearchIndex.Stats stats = postSearchIndex.getStats();
+            log.info("공고 " + stats.posts() + "건 검색 (" + indexTotal + "건 일치): 색인 " + String.format("%.3f", indexMillis)
+                    + "ms (facet 개수 포함), 조인 쿼리 " + String.format("%.3f", joinMillis) + "ms (개수만)");
+            log.info("색인 크기: facet 비트맵 " + (stats.facetBytes() >> 10) + "KB, 단어 비트맵 " + (stats.tokenBytes() >> 10)
+                    + "KB (" + stats.tokens() + "개)");
+        } finally {
+            jdbcTemplate.update("DELETE pjc FROM post_job_categories pjc JOIN posts p ON pjc.post_id = p.post_id WHERE p.member_no = ?",
+                    company.getMemberNo());
+            jdbcTemplate.update("DELETE FROM posts WHERE member_no = ?", company.getMemberNo());
+            companyInfoRepository.deleteById(company.getMemberNo());
+            memberRepository.deleteById(company.getMemberNo());
+            postSearchIndexLoader.rebuild();
+        }
+    }
+
+    // 첫 실행(JIT, 버퍼 풀 적재)은 빼고 평균
+    private static double averageMillis(IntSupplier task) {
+        task.getAsInt();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            task.getAsInt();
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / ROUNDS;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static Object[] args(int salt, int size, List<Integer> categoryIds, Integer memberNo) {
+        Object[] args = new Object[categoryIds.size() + 3];
+        args[0] = salt;
+        args[1] = size;
+        for (int i = 0; i < categoryIds.size(); i++) {
+            args[i + 2] = categoryIds.get(i);
+        }
+        args[args.length - 1] = memberNo;
+        return args;
+    }
+}
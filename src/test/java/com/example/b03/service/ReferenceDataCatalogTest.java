@@ -0,0 +1,98 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.JobCategory;
+import com.example.b03.repository.JobCategoryRepository;
+import com.example.b03.support.SqlStatementBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ⭐ 기준 데이터 카탈로그: 조회는 DB에 가지 않고, ETag가 같으면 304, 새 값은 refresh() 후에만 보임
+// 테스트를 위해 DB에 1~3번 멤버십 타입과 직무 카테고리가 1개 이상 필요합니다.
+@SpringBootTest
+@ActiveProfiles("test") // sql.stats.enabled=true (application-test.properties) → SQL 문장을 셀 수 있음
+@AutoConfigureMockMvc
+class ReferenceDataCatalogTest {
+
+    @Autowired
+    private ReferenceDataCatalog referenceDataCatalog;
+
+    @Autowired
+    private JobCategoryRepository jobCategoryRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final Byte MEMBER_TYPE_ADMIN = 1;
+
+    @Test
+    @SqlStatementBudget(0)
+    @DisplayName("조회는 SQL 없이 메모리에서 (없는 id도 DB를 다시 보지 않고 빈 값)")
+    void testLookup_noQueries() {
+        ReferenceDataCatalog.JobCategoryEntry first = referenceDataCatalog.getJobCategories().iterator().next();
+
+        assertThat(referenceDataCatalog.getJobCategory(first.jobCategoryId())).contains(first);
+        assertThat(referenceDataCatalog.getMembershipType(MEMBER_TYPE_ADMIN)).isPresent();
+        assertThat(referenceDataCatalog.getJobCategory(-1)).isEmpty();
+        assertThat(referenceDataCatalog.getMembershipType((byte) -1)).isEmpty();
+        assertThat(referenceDataCatalog.getJobCategory(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("목록 API - ETag가 같으면 304, 다르면 200")
+    void testListEndpoints_etag() throws Exception {
+        for (String url : new String[]{"/api/job-categories", "/api/membership-types"}) {
+            MvcResult first = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andReturn();
+            String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(first.getResponse().getContentAsString()).startsWith("[");
+
+            mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().bytes(new byte[0]));
+
+            mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag));
+        }
+    }
+
+    @Test
+    @DisplayName("새 직무 카테고리는 refresh() 후에만 보이고, ETag도 그때 바뀜")
+    void testRefresh() throws Exception {
+        String etag = referenceDataCatalog.getJobCategoriesJson().etag();
+        JobCategory saved = jobCategoryRepository.save(new JobCategory(null, "카탈로그테스트_" + System.nanoTime()));
+
+        try {
+            assertThat(referenceDataCatalog.getJobCategory(saved.getJobCategoryId())).isEmpty();
+            assertThat(referenceDataCatalog.getJobCategoriesJson().etag()).isEqualTo(etag);
+
+            referenceDataCatalog.refresh();
+
+            assertThat(referenceDataCatalog.getJobCategory(saved.getJobCategoryId()))
+                    .contains(new ReferenceDataCatalog.JobCategoryEntry(saved.getJobCategoryId(), saved.getName()));
+            String refreshedEtag = referenceDataCatalog.getJobCategoriesJson().etag();
+            assertThat(refreshedEtag).isNotEqualTo(etag);
+            mockMvc.perform(get("/api/job-categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, refreshedEtag));
+        } finally {
+            jobCategoryRepository.deleteById(saved.getJobCategoryId());
+            referenceDataCatalog.refresh();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.b03.service;
+
+import com.example.b03.domain.Application;
+import com.example.b03.domain.AttachmentBlob;
+import com.example.b03.domain.CompanyInfo;
+import com.example.b03.domain.Member;
+import com.example.b03.domain.MembershipType;
+import com.example.b03.domain.Post;
+import com.example.b03.dto.AttachmentStorageStatsDTO;
+import com.example.b03.dto.ResumeFileDTO;
+import com.example.b03.repository.ApplicationRepository;
+import com.example.b03.repository.AttachmentBlobRepository;
+import com.example.b03.repository.CompanyInfoRepository;
+import com.example.b03.repository.MemberRepository;
+import com.example.b03.repository.MembershipTypeRepository;
+import com.example.b03.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// ⭐ 업로드가 트랜잭션을 직접 커밋하므로 @Transactional을 붙이지 않고, 끝나면 만든 데이터를 지웁니다.
+// 정리 작업을 바로 확인할 수 있도록 grace를 0으로 둡니다.
+@SpringBootTest(properties = {
+        "application.resume.storage-dir=build/test-resumes",
+        "application.attachment.sweep-grace=0s"
+})
+class ResumeFileServiceTest {
+
+    @Autowired
+    private ResumeFileService resumeFileService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private AttachmentSweeper attachmentSweeper;
+
+    @Autowired
+    private AttachmentBlobRepository attachmentBlobRepository;
+
+    @Autowired
+    private ResumeFileStore resumeFileStore;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CompanyInfoRepository companyInfoRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipTypeRepository membershipTypeRepository;
+
+    private static final Byte MEMBER_TYPE_BUSINESS = 2;
+
+    private Member applicant;
+    private CompanyInfo company;
+    private List<Post> posts;
+    private List<Application> applications;
+
+    @BeforeEach
+    void setUp() {
+        MembershipType businessType = membershipTypeRepository.findById(MEMBER_TYPE_BUSINESS)
+                .orElseThrow(() -> new RuntimeException("기업 멤버십 타입을 찾을 수 없습니다. 테스트를 위해 DB에 2번 '기업' 멤버십 타입이 필요합니다."));
+
+        Member companyMember = memberRepository.save(Member.builder().loginId("resume_company_" + System.nanoTime())
+                .password("password!").name("이력서기업").address("서울시").phone("010-0000-0000").membershipType(businessType).build());
+        company = companyInfoRepository.save(CompanyInfo.builder().member(companyMember).companyName("이력서 주식회사").build());
+        applicant = memberRepository.save(Member.builder().loginId("resume_applicant_" + System.nanoTime())
+                .password("password!").name("김지원").birthDate(LocalDate.of(1997, 7, 7)).address("서울시")
+                .phone("010-1111-2222").membershipType(businessType).build());
+
+        posts = postRepository.saveAll(List.of(
+                Post.builder().company(company).title("백엔드").description("설명").postedDate(LocalDateTime.now()).build(),
+                Post.builder().company(company).title("프론트엔드").description("설명").postedDate(LocalDateTime.now()).build()));
+        applications = applicationRepository.saveAll(posts.stream()
+                .map(post -> Application.builder().post(post).member(applicant).submittedAt(LocalDateTime.now()).build())
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationRepository.deleteAll(applications);
+        postRepository.deleteAll(posts);
+        companyInfoRepository.deleteById(company.getMemberNo());
+        memberRepository.deleteById(company.getMemberNo());
+        memberRepository.deleteById(applicant.getMemberNo());
+    }
+
+    @Test
+    @DisplayName("같은 이력서를 두 공고에 내면 파일은 한 벌, 참조는 2 → 지원서를 모두 지우면 정리 작업이 파일을 지움")
+    void testUpload_deduplicatedAndSwept() throws Exception {
+        byte[] content = ("%PDF-1.7 김지원 이력서 " + System.nanoTime()).getBytes(); // 다른 테스트 실행과 겹치지 않는 내용
+        AttachmentStorageStatsDTO before = resumeFileService.getStorageStats();
+
+        ResumeFileDTO first = resumeFileService.upload(applications.get(0).getApplicationId(), new ByteArrayInputStream(content), "application/pdf");
+        ResumeFileDTO second = resumeFileService.upload(applications.get(1).getApplicationId(), new ByteArrayInputStream(content), "application/pdf");
+
+        assertThat(second.getFilePath()).isEqualTo(first.getFilePath());
+        assertThat(Files.readAllBytes(first.getFile())).isEqualTo(content);
+        String hash = ResumeFileStore.hashOf(first.getFilePath()).orElseThrow();
+        assertThat(attachmentBlobRepository.findById(hash)).get().extracting(AttachmentBlob::getRefCount).isEqualTo(2);
+
+        AttachmentStorageStatsDTO afterUpload = resumeFileService.getStorageStats();
+        assertThat(afterUpload.getSavedBytes() - before.getSavedBytes()).isEqualTo(content.length);
+
+        // 같은 파일을 다시 올려도 참조 수는 그대로
+        resumeFileService.upload(applications.get(0).getApplicationId(), new ByteArrayInputStream(content), "application/pdf");
+        assertThat(attachmentBlobRepository.findById(hash)).get().extracting(AttachmentBlob::getRefCount).isEqualTo(2);
+
+        applicationService.remove(applications.get(0).getApplicationId(), applicant.getMemberNo());
+        assertThat(attachmentBlobRepository.findById(hash)).get().extracting(AttachmentBlob::getRefCount).isEqualTo(1);
+        attachmentSweeper.sweep();
+        assertThat(Files.exists(first.getFile())).isTrue(); // 아직 한 지원서가 씀
+
+        applicationService.remove(applications.get(1).getApplicationId(), applicant.getMemberNo());
+        Thread.sleep(10); // updatedAt < now - grace(0) 이 되도록
+        attachmentSweeper.sweep();
+        assertThat(attachmentBlobRepository.findById(hash)).isEmpty();
+        assertThat(Files.exists(first.getFile())).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 지원자의 지원서나 이미 삭제된 지원서는 삭제할 수 없음")
+    void testRemove_notAllowed() {
+        Integer applicationId = applications.get(0).getApplicationId();
+
+        assertThrows(IllegalArgumentException.class, () -> applicationService.remove(applicationId, -1));
+        applicationService.remove(applicationId, applicant.getMemberNo());
+        assertThrows(IllegalArgumentException.class, () -> applicationService.remove(applicationId, applicant.getMemberNo()));
+    }
+
+    @Test
+    @DisplayName("삭제된 지원서에는 이력서를 올릴 수 없음")
+    void testUpload_deletedApplication() {
+        Integer applicationId = applications.get(0).getApplicationId();
+        applicationService.remove(applicationId, applicant.getMemberNo());
+
+        assertThrows(IllegalArgumentException.class, () -> resumeFileService.upload(applicationId,
+                new ByteArrayInputStream("%PDF-1.7".getBytes()), "application/pdf"));
+        assertThat(applicationRepository.findById(applicationId)).get().extracting(Application::getFilePath).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 내용을 다른 형식으로 올려도 처음 저장된 확장자의 파일 한 벌만 씀")
+    void testUpload_sameContentOtherExtension() throws Exception {
+        byte[] content = ("%PDF-1.7 확장자 테스트 " + System.nanoTime()).getBytes();
+
+        ResumeFileDTO pdf = resumeFileService.upload(applications.get(0).getApplicationId(), new ByteArrayInputStream(content), "application/pdf");
+        ResumeFileDTO doc = resumeFileService.upload(applications.get(1).getApplicationId(), new ByteArrayInputStream(content), "application/msword");
+
+        assertThat(doc.getFilePath()).isEqualTo(pdf.getFilePath()).endsWith(".pdf");
+        String hash = ResumeFileStore.hashOf(pdf.getFilePath()).orElseThrow();
+        assertThat(Files.exists(resumeFileStore.resolve(ResumeFileStore.pathOf(hash, "doc")))).isFalse();
+        assertThat(attachmentBlobRepository.findById(hash)).get().extracting(AttachmentBlob::getRefCount).isEqualTo(2);
+
+        applicationService.remove(applications.get(0).getApplicationId(), applicant.getMemberNo());
+        applicationService.remove(applications.get(1).getApplicationId(), applicant.getMemberNo());
+        Thread.sleep(10);
+        attachmentSweeper.sweep();
+    }
+
+    @Test
+    @DisplayName("행이 없는 파일(롤백된 업로드가 옮겨 둔 파일)은 지우고, 참조 중인 파일은 남김")
+    void testSweepOrphanFiles() throws Exception {
+        byte[] content = ("%PDF-1.7 참조 중 " + System.nanoTime()).getBytes();
+        ResumeFileDTO referenced = resumeFileService.upload(applications.get(0).getApplicationId(), new ByteArrayInputStream(content), "application/pdf");
+
+        // 업로드 트랜잭션이 commit()으로 파일을 옮긴 뒤 롤백된 상태 = 행 없이 내용 주소 경로에 파일만 있음
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(("롤백 " + System.nanoTime()).getBytes()));
+        Path orphan = resumeFileStore.resolve(ResumeFileStore.pathOf(hash, "pdf"));
+        Files.createDirectories(orphan.getParent());
+        Files.write(orphan, new byte[]{1});
+        // 같은 내용이 행과 다른 확장자로 남은 파일
+        Path otherExtension = resumeFileStore.resolve(ResumeFileStore.pathOf(ResumeFileStore.hashOf(referenced.getFilePath()).orElseThrow(), "hwp"));
+        Files.write(otherExtension, content);
+        Thread.sleep(10); // 수정 시각 < now - grace(0) 이 되도록
+
+        assertThat(attachmentSweeper.sweepOrphanFiles()).isGreaterThanOrEqualTo(2);
+        assertThat(Files.exists(orphan)).isFalse();
+        assertThat(Files.exists(otherExtension)).isFalse();
+        assertThat(Files.exists(referenced.getFile())).isTrue();
+
+        applicationService.remove(applications.get(0).getApplicationId(), applicant.getMemberNo());
+        Thread.sleep(10);
+        attachmentSweeper.sweep();
+    }
+
+    @Test
+    @DisplayName("같은 지원서에 동시에 올리고 삭제해도 참조 수는 지원서가 실제로 가리키는 파일만큼")
+    void testUploadAndRemove_concurrentRefCount() throws Exception {
+        Integer applicationId = applications.get(0).getApplicationId();
+        int uploads = 8;
+        List<String> hashes = new ArrayList<>();
+        List<byte[]> contents = new ArrayList<>();
+        for (int i = 0; i < uploads; i++) {
+            byte[] content = ("%PDF-1.7 동시 업로드 " + i + " " + System.nanoTime()).getBytes();
+            contents.add(content);
+            hashes.add(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(uploads);
+        try {
+            // 1. 같은 지원서에 서로 다른 파일을 동시에 올림 → 마지막 파일만 참조 1, 나머지는 0
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (byte[] content : contents) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return resumeFileService.upload(applicationId, new ByteArrayInputStream(content), "application/pdf");
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            String current = ResumeFileStore.hashOf(applicationRepository.findById(applicationId).orElseThrow().getFilePath()).orElseThrow();
+            for (String hash : hashes) {
+                assertThat(attachmentBlobRepository.findById(hash)).get().extracting(AttachmentBlob::getRefCount)
+                        .as(hash).isEqualTo(hash.equals(current) ? 1 : 0);
+            }
+
+            // 2. 다시 올리는 것과 삭제를 동시에 → 어느 쪽이 먼저든 삭제된 지원서는 아무 파일도 참조하지 않음
+            CountDownLatch raceStart = new CountDownLatch(1);
+            Future<?> upload = executor.submit(() -> {
+                raceStart.await();
+                try {
+                    resumeFileService.upload(applicationId, new ByteArrayInputStream(contents.get(0)), "application/pdf");
+                } catch (IllegalArgumentException e) {
+                    // 이미 삭제된 지원서입니다. → 정상
+                }
+                return null;
+            });
+            Future<?> remove = executor.submit(() -> {
+                raceStart.await();
+                applicationService.remove(applicationId, applicant.getMemberNo());
+                return null;
+            });
+            raceStart.countDown();
+            upload.get(30, TimeUnit.SECONDS);
+            remove.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(applicationRepository.findById(applicationId).orElseThrow().getFilePath()).isNull();
+        assertThat(attachmentBlobRepository.findAllById(hashes)).extracting(AttachmentBlob::getRefCount).containsOnly(0);
+
+        Thread.sleep(10);
+        attachmentSweeper.sweep();
+    }
+}
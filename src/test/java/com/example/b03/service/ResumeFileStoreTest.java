@@ -0,0 +1,93 @@
+package com.example.b03.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// DB 없이 파일 저장소만 검증하는 테스트
+class ResumeFileStoreTest {
+
+    @TempDir
+    Path root;
+
+    private ResumeFileStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new ResumeFileStore(root.toString(), DataSize.ofKilobytes(256));
+    }
+
+    @Test
+    @DisplayName("업로드 내용의 SHA-256 경로에 저장되고, 같은 내용은 한 번만 저장됨")
+    void testStageAndCommit() throws Exception {
+        byte[] content = "%PDF-1.7 이력서".getBytes();
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+        ResumeFileStore.StagedFile first = store.stage(new ByteArrayInputStream(content), "application/pdf; charset=binary");
+        assertThat(first.hash()).isEqualTo(hash);
+        assertThat(first.size()).isEqualTo(content.length);
+        assertThat(first.path()).isEqualTo(hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + ".pdf");
+        assertThat(store.commit(first)).isTrue();
+        assertThat(Files.readAllBytes(store.resolve(first.path()))).isEqualTo(content);
+
+        ResumeFileStore.StagedFile duplicate = store.stage(new ByteArrayInputStream(content), "application/pdf");
+        assertThat(duplicate.path()).isEqualTo(first.path());
+        assertThat(store.commit(duplicate)).isFalse(); // 이미 있으므로 임시 파일만 지움
+        assertThat(Files.exists(duplicate.temp())).isFalse();
+
+        assertThat(ResumeFileStore.hashOf(first.path())).contains(hash);
+        assertThat(ResumeFileStore.hashOf("2025/01/0f8e5c3a-1b2c-4d5e-8f90-123456789abc.pdf")).isEmpty(); // 이전 방식 경로
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘거나 허용하지 않는 형식이면 거부하고 임시 파일을 남기지 않음")
+    void testStore_rejected() throws Exception {
+        InputStream tooLarge = new InputStream() { // 끝없이 0을 돌려주는 스트림 (최대 크기에서 끊겨야 함)
+            @Override
+            public int read() {
+                return 0;
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> store.stage(tooLarge, "application/pdf"));
+        assertThrows(IllegalArgumentException.class, () -> store.stage(new ByteArrayInputStream(new byte[0]), "application/pdf"));
+        assertThrows(IllegalArgumentException.class, () -> store.stage(new ByteArrayInputStream(new byte[10]), "text/html"));
+
+        try (Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("저장소 밖을 가리키는 경로는 거부")
+    void testResolve_pathTraversal() {
+        assertThrows(IllegalArgumentException.class, () -> store.resolve("../secret.pdf"));
+        assertThrows(IllegalArgumentException.class, () -> store.resolve("2025/01/../../../etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> store.resolve(""));
+        assertThrows(IllegalArgumentException.class, () -> store.resolve("staging/upload-1.tmp")); // 업로드 중인 임시 파일
+    }
+
+    @Test
+    @DisplayName("삭제")
+    void testDelete() throws Exception {
+        ResumeFileStore.StagedFile stored = store.stage(new ByteArrayInputStream(new byte[]{1, 2, 3}), "application/msword");
+        store.commit(stored);
+
+        assertThat(store.delete(stored.path())).isTrue();
+        assertThat(Files.exists(store.resolve(stored.path()))).isFalse();
+        assertThat(store.delete(stored.path())).isFalse();
+    }
+}
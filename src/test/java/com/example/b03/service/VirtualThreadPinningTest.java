@@ -0,0 +1,72 @@
+package com.example.b03.service;
+
+import com.example.b03.repository.JobCategoryRepository;
+import com.example.b03.repository.MembershipTypeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 가상 스레드 모드(spring.threads.virtual.enabled=true)에서 잠금을 잡은 채 블로킹하는 코드가
+// 캐리어 스레드를 고정(pin)하지 않는지 JFR jdk.VirtualThreadPinned 이벤트로 확인하는 테스트 (DB 없이)
+class VirtualThreadPinningTest {
+
+    @Test
+    @DisplayName("ReferenceDataCatalogImpl.refresh() - DB 조회(블로킹) 중에도 가상 스레드가 고정되지 않음")
+    void testRefresh_doesNotPinVirtualThreads() throws Exception {
+        MembershipTypeRepository membershipTypeRepository = mock(MembershipTypeRepository.class);
+        JobCategoryRepository jobCategoryRepository = mock(JobCategoryRepository.class);
+        // 느린 DB 흉내 (잠금을 잡은 상태에서 블로킹)
+        when(membershipTypeRepository.findAll()).thenAnswer(invocation -> {
+            Thread.sleep(30);
+            return List.of();
+        });
+        when(jobCategoryRepository.findAll()).thenReturn(List.of());
+
+        ReferenceDataCatalogImpl catalog = new ReferenceDataCatalogImpl(membershipTypeRepository, jobCategoryRepository, new ObjectMapper());
+
+        List<RecordedEvent> pinnedEvents = recordPinnedEvents(() -> {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    futures.add(executor.submit(catalog::refresh));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            return null;
+        });
+
+        assertThat(pinnedEvents).as("캐리어 스레드 고정 이벤트").isEmpty();
+    }
+
+    private static List<RecordedEvent> recordPinnedEvents(java.util.concurrent.Callable<Void> action) throws Exception {
+        Path file = Files.createTempFile("pinned", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1)).withStackTrace();
+            recording.start();
+            action.call();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.b03.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 하나가 실행할 수 있는 SQL 문장 수 상한 (@BeforeEach / @AfterEach에서 실행한 문장은 빠짐)
+ * 넘으면 모양별 실행 횟수와 함께 실패합니다. 클래스에 붙이면 모든 테스트 메서드에 적용되고, 메서드에 붙인 값이 우선합니다.
+ * SqlStatementStatsConfig로 DataSource가 감싸진 @SpringBootTest에서만 의미가 있습니다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementBudgetExtension.class)
+public @interface SqlStatementBudget {
+
+    int value();
+}
@@ -0,0 +1,54 @@
+package com.example.b03.support;
+
+import com.example.b03.config.SqlStatementTracker;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// ⭐ @SqlStatementBudget: 테스트 메서드 본문만 SqlStatementTracker로 세고 상한을 넘으면 실패
+public class SqlStatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SqlStatementBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementTracker.begin());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementTracker.Scope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), SqlStatementTracker.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        if (context.getExecutionException().isPresent()) {
+            return; // 테스트 자체의 실패를 가리지 않음
+        }
+        if (!SqlStatementTracker.isInstalled()) {
+            fail("SQL 문장을 셀 수 없습니다. @ActiveProfiles(\"test\")(sql.stats.enabled=true)를 붙인 @SpringBootTest에서 사용하세요.");
+        }
+
+        int budget = findBudget(context);
+        if (scope.getStatements() > budget) {
+            String shapes = scope.getCountsByShape().entrySet().stream()
+                    .map(entry -> "  " + entry.getValue() + "× " + entry.getKey())
+                    .collect(Collectors.joining("\n"));
+            fail("SQL 문장 " + scope.getStatements() + "개 실행 (상한 " + budget + "개)\n" + shapes);
+        }
+    }
+
+    private static int findBudget(ExtensionContext context) {
+        return context.getTestMethod()
+                .flatMap(method -> AnnotationSupport.findAnnotation(method, SqlStatementBudget.class))
+                .or(() -> context.getTestClass().flatMap(type -> AnnotationSupport.findAnnotation(type, SqlStatementBudget.class)))
+                .map(SqlStatementBudget::value)
+                .orElse(Integer.MAX_VALUE);
+    }
+}